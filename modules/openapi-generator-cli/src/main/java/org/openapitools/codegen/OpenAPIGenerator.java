@@ -22,8 +22,11 @@ import io.airlift.airline.ParseArgumentsUnexpectedException;
 import io.airlift.airline.ParseOptionMissingException;
 import io.airlift.airline.ParseOptionMissingValueException;
 import org.openapitools.codegen.cmd.*;
+import org.openapitools.codegen.daemon.DaemonClient;
 
+import java.nio.file.Paths;
 import java.util.Locale;
+import java.util.OptionalInt;
 
 import static org.openapitools.codegen.Constants.CLI_NAME;
 
@@ -35,6 +38,21 @@ import static org.openapitools.codegen.Constants.CLI_NAME;
 public class OpenAPIGenerator {
 
     public static void main(String[] args) {
+        OptionalInt forwarded = new DaemonClient(Paths.get("").toAbsolutePath())
+                .execute(daemonVersion(new BuildInfo()), args);
+        int status = forwarded.isPresent() ? forwarded.getAsInt() : execute(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the CLI in-process.
+     *
+     * @param args the CLI arguments
+     * @return the exit status
+     */
+    public static int execute(String[] args) {
         BuildInfo buildInfo = new BuildInfo();
         Cli.CliBuilder<OpenApiGeneratorCommand> builder =
                 Cli.<OpenApiGeneratorCommand>builder(CLI_NAME)
@@ -54,7 +72,8 @@ public class OpenAPIGenerator {
                                 Validate.class,
                                 Version.class,
                                 CompletionCommand.class,
-                                GenerateBatch.class
+                                GenerateBatch.class,
+                                Daemon.class
                         );
 
         builder.withGroup("author")
@@ -73,14 +92,24 @@ public class OpenAPIGenerator {
             // it would prevent scripting using the command directly. Example:
             //     java -jar cli.jar list --short | tr ',' '\n' | xargs -I{} echo "Doing something with {}"
             if (args.length == 0) {
-                System.exit(1);
+                return 1;
             }
+            return 0;
         } catch (ParseArgumentsUnexpectedException e) {
             System.err.printf(Locale.ROOT, "[error] %s%n%nSee '%s help' for usage.%n", e.getMessage(), CLI_NAME);
-            System.exit(1);
+            return 1;
         } catch (ParseOptionMissingException | ParseOptionMissingValueException e) {
             System.err.printf(Locale.ROOT, "[error] %s%n", e.getMessage());
-            System.exit(1);
+            return 1;
+        } catch (CommandExitException e) {
+            return e.getStatus();
         }
     }
+
+    /**
+     * The version a daemon must run to execute the commands of this CLI.
+     */
+    public static String daemonVersion(BuildInfo buildInfo) {
+        return buildInfo.getVersion() + " " + buildInfo.getSha();
+    }
 }
@@ -115,7 +115,7 @@ public class ConfigHelp extends OpenApiGeneratorCommand {
     public void execute() {
         if (isEmpty(generatorName)) {
             LOGGER.error("[error] A generator name (--generator-name / -g) is required.");
-            System.exit(1);
+            throw new CommandExitException(1);
         }
 
         if (Boolean.TRUE.equals(fullDetails)) {
@@ -169,7 +169,7 @@ public class ConfigHelp extends OpenApiGeneratorCommand {
         } catch (GeneratorNotFoundException e) {
             LOGGER.error(e.getMessage());
             LOGGER.error("[error] Check the spelling of the generator's name and try again.");
-            System.exit(1);
+            throw new CommandExitException(1);
         } catch (IOException e) {
             LOGGER.error("Unexpected error", e);
         }
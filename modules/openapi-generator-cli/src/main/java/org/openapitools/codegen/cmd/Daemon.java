@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.OpenAPIGenerator;
+import org.openapitools.codegen.daemon.DaemonClient;
+import org.openapitools.codegen.daemon.DaemonServer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+
+@SuppressWarnings({"unused", "java:S106"})
+@Command(name = "daemon", description = "Run a generator daemon for the current working directory.")
+public class Daemon extends OpenApiGeneratorCommand {
+
+    @Option(name = {"--idle-timeout"}, title = "idle timeout",
+            description = "minutes without requests after which the daemon stops, 0 to never stop (default: 30)")
+    private Integer idleTimeout;
+
+    @Option(name = {"--stop"}, description = "stop the daemon running for the current working directory")
+    private Boolean stop;
+
+    @Option(name = {"--status"}, description = "report whether a daemon is running for the current working directory")
+    private Boolean status;
+
+    @Override
+    void execute() {
+        Path workingDirectory = Paths.get("").toAbsolutePath();
+        DaemonClient client = new DaemonClient(workingDirectory);
+
+        if (Boolean.TRUE.equals(stop)) {
+            if (client.stop()) {
+                System.out.println("Stopped the generator daemon for " + workingDirectory);
+            } else {
+                System.out.println("No generator daemon is running for " + workingDirectory);
+            }
+            return;
+        }
+
+        if (Boolean.TRUE.equals(status)) {
+            if (client.isRunning()) {
+                System.out.println("A generator daemon is running for " + workingDirectory);
+            } else {
+                System.out.println("No generator daemon is running for " + workingDirectory);
+                throw new CommandExitException(1);
+            }
+            return;
+        }
+
+        if (client.isRunning()) {
+            System.err.println("[error] A generator daemon is already running for " + workingDirectory);
+            throw new CommandExitException(1);
+        }
+
+        int minutes = idleTimeout == null ? 30 : Math.max(idleTimeout, 0);
+        // warm up the generator index, which every generate command needs
+        CodegenConfigLoader.getIndex();
+
+        System.out.printf(Locale.ROOT, "Generator daemon running for %s (idle timeout: %s)%n", workingDirectory,
+                minutes == 0 ? "none" : minutes + " minutes");
+        try {
+            new DaemonServer(workingDirectory, client.getStateFile(), Duration.ofMinutes(minutes),
+                    OpenAPIGenerator.daemonVersion(buildInfo), OpenAPIGenerator::execute).run();
+        } catch (IOException e) {
+            System.err.println("[error] Unable to run the generator daemon: " + e.getMessage());
+            throw new CommandExitException(1);
+        }
+        System.out.println("Generator daemon stopped");
+    }
+}
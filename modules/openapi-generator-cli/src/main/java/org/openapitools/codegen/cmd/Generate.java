@@ -25,8 +25,16 @@ import ch.qos.logback.core.spi.FilterAttachable;
 import io.airlift.airline.Command;
 import io.airlift.airline.Option;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -40,8 +48,11 @@ import org.slf4j.LoggerFactory;
 @Command(name = "generate", description = "Generate code with the specified generator.")
 public class Generate extends OpenApiGeneratorCommand {
 
+    private static final long WATCH_DEBOUNCE_MILLIS = 300;
+
     CodegenConfigurator configurator;
     Generator generator;
+    private ClientOptInput watchedInput;
 
     @Option(name = {"-v", "--verbose"}, description = "verbose mode")
     private Boolean verbose;
@@ -289,14 +300,14 @@ public class Generate extends OpenApiGeneratorCommand {
         description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--watch"},
+        title = "Watch mode",
+        description = "After generating, watch the input spec, the files it references, the template directory and the config file, "
+            + "and generate again when they change. Only output files that have changed are written.")
+    private Boolean watch;
+
     @Override
     public void execute() {
-        if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
-            spec = new MergedSpecBuilder(inputSpecRootDirectory, StringUtils.isBlank(mergedFileName) ? "_merged_spec" : mergedFileName)
-                .buildMergedSpec();
-            System.out.println("Merge input spec would be used - " + spec);
-        }
-
         if (logToStderr != null) {
             LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
             Stream.of(Logger.ROOT_LOGGER_NAME, "io.swagger", "org.openapitools")
@@ -307,6 +318,20 @@ public class Generate extends OpenApiGeneratorCommand {
                     .ifPresent(FilterAttachable::clearAllFilters);
         }
 
+        if (Boolean.TRUE.equals(watch)) {
+            watch();
+        } else {
+            generate();
+        }
+    }
+
+    private List<File> generate() {
+        if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
+            spec = new MergedSpecBuilder(inputSpecRootDirectory, StringUtils.isBlank(mergedFileName) ? "_merged_spec" : mergedFileName)
+                .buildMergedSpec();
+            System.out.println("Merge input spec would be used - " + spec);
+        }
+
         // this initial check allows for field-level package private injection (for unit testing)
         if (configurator == null) {
             if (configFile != null && configFile.length() > 0) {
@@ -315,7 +340,7 @@ public class Generate extends OpenApiGeneratorCommand {
             } else if (StringUtils.isEmpty(spec)) {
                 // if user doesn't pass configFile and does not pass spec, we can fail immediately because one of these two is required to run.
                 System.err.println("[error] Required option '-i' is missing");
-                System.exit(1);
+                throw new CommandExitException(1);
             }
 
             // if a config file wasn't specified, or we were unable to read it
@@ -342,7 +367,7 @@ public class Generate extends OpenApiGeneratorCommand {
             if (!spec.matches("^http(s)?://.*") && !new File(spec).exists()) {
                 System.err.println("[error] The spec file is not found: " + spec);
                 System.err.println("[error] Check the path of the OpenAPI spec and try again.");
-                System.exit(1);
+                throw new CommandExitException(1);
             }
             configurator.setInputSpec(spec);
         }
@@ -456,6 +481,10 @@ public class Generate extends OpenApiGeneratorCommand {
             configurator.setEnableMinimalUpdate(minimalUpdate);
         }
 
+        if (Boolean.TRUE.equals(watch)) {
+            configurator.setEnableMinimalUpdate(true);
+        }
+
         if (strictSpecBehavior != null) {
             configurator.setStrictSpecBehavior(strictSpecBehavior);
         }
@@ -484,11 +513,91 @@ public class Generate extends OpenApiGeneratorCommand {
             }
 
             generator.opts(clientOptInput);
-            generator.generate();
+            watchedInput = clientOptInput;
+            return generator.generate();
         } catch (GeneratorNotFoundException e) {
             System.err.println(e.getMessage());
             System.err.println("[error] Check the spelling of the generator's name and try again.");
-            System.exit(1);
+            throw new CommandExitException(1);
+        }
+    }
+
+    /**
+     * Generates, then generates again whenever the inputs of the generation change, until interrupted.
+     */
+    private void watch() {
+        // keep the injected instances (for unit testing), others are created anew by each generation
+        CodegenConfigurator injectedConfigurator = configurator;
+        Generator injectedGenerator = generator;
+
+        try (SpecWatcher watcher = new SpecWatcher(Duration.ofMillis(WATCH_DEBOUNCE_MILLIS))) {
+            while (true) {
+                long start = System.currentTimeMillis();
+                try {
+                    List<File> files = generate();
+                    // file systems may only keep modification times to the second
+                    long since = start / 1000 * 1000;
+                    List<File> written = files.stream()
+                            .filter(f -> f.isFile() && f.lastModified() >= since)
+                            .collect(Collectors.toList());
+                    System.out.printf(Locale.ROOT, "[watch] Generated in %d ms, %d of %d files written%n",
+                            System.currentTimeMillis() - start, written.size(), files.size());
+                    written.forEach(f -> System.out.println("    - " + f.getPath()));
+                } catch (CommandExitException e) {
+                    // the cause was reported already
+                } catch (RuntimeException e) {
+                    System.err.println("[error] " + e.getMessage());
+                }
+
+                configurator = injectedConfigurator;
+                generator = injectedGenerator;
+
+                watcher.watch(getWatchedFiles(), getWatchedTrees(), getIgnoredFiles());
+                System.out.printf(Locale.ROOT, "[watch] Watching %d inputs for changes, press Ctrl-C to stop%n", watcher.size());
+                for (Path changed : watcher.awaitChanges()) {
+                    System.out.println("[watch] Changed: " + changed);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[error] Unable to watch the inputs for changes: " + e.getMessage());
+            throw new CommandExitException(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Set<Path> getWatchedFiles() {
+        Set<Path> files = new LinkedHashSet<>();
+        String inputSpec = watchedInput != null ? watchedInput.getConfig().getInputSpec() : spec;
+        if (isNotEmpty(inputSpec) && !inputSpec.matches("^http(s)?://.*")) {
+            files.addAll(SpecWatcher.findReferencedFiles(Paths.get(inputSpec)));
+        }
+        if (isNotEmpty(configFile)) {
+            files.add(Paths.get(configFile));
+        }
+        return files;
+    }
+
+    private Set<Path> getWatchedTrees() {
+        Set<Path> trees = new LinkedHashSet<>();
+        Object templates = watchedInput != null
+                ? watchedInput.getConfig().additionalProperties().get(CodegenConstants.TEMPLATE_DIR)
+                : templateDir;
+        if (templates != null && isNotEmpty(templates.toString())) {
+            trees.add(Paths.get(templates.toString()));
+        }
+        if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
+            trees.add(Paths.get(inputSpecRootDirectory));
+        }
+        return trees;
+    }
+
+    private Set<Path> getIgnoredFiles() {
+        Set<Path> ignored = new LinkedHashSet<>();
+        // the merged spec is written by the generation itself
+        if (StringUtils.isNotBlank(inputSpecRootDirectory) && isNotEmpty(spec)) {
+            ignored.add(Paths.get(spec));
         }
+        return ignored;
     }
 }
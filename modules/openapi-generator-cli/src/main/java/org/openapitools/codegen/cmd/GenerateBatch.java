@@ -63,8 +63,8 @@ import java.util.stream.Stream;
 @SuppressWarnings({"unused", "MismatchedQueryAndUpdateOfCollection", "java:S106"})
 @Command(name = "batch", description = "Generate code in batch via external configs.")
 public class GenerateBatch extends OpenApiGeneratorCommand {
-    private static AtomicInteger failures = new AtomicInteger(0);
-    private static AtomicInteger successes = new AtomicInteger(0);
+    private final AtomicInteger failures = new AtomicInteger(0);
+    private final AtomicInteger successes = new AtomicInteger(0);
     private final Logger LOGGER = LoggerFactory.getLogger(GenerateBatch.class);
 
     @Option(name = {"-v", "--verbose"}, description = "verbose mode")
@@ -106,7 +106,7 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
     public void execute() {
         if (configs.size() < 1) {
             LOGGER.error("No configuration file inputs specified");
-            System.exit(1);
+            throw new CommandExitException(1);
         }
 
         int cores = Runtime.getRuntime().availableProcessors();
@@ -155,7 +155,8 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
 
         // Execute each configurator on a separate pooled thread.
         configurators.forEach(configurator -> {
-            GenerationRunner runner = new GenerationRunner(configurator, rootDir, Boolean.TRUE.equals(failFast), Boolean.TRUE.equals(clean));
+            GenerationRunner runner = new GenerationRunner(configurator, rootDir, Boolean.TRUE.equals(failFast), Boolean.TRUE.equals(clean),
+                    executor, successes, failures);
             executor.execute(runner);
         });
 
@@ -171,7 +172,7 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
             int failCount = failures.intValue();
             if (failCount > 0) {
                 System.err.println(String.format(Locale.ROOT, "[FAIL] Completed with %d failures, %d successes", failCount, successes.intValue()));
-                System.exit(1);
+                throw new CommandExitException(1);
             } else {
                 System.out.println(String.format(Locale.ROOT, "[SUCCESS] Batch generation finished %d generators successfully.", successes.intValue()));
             }
@@ -187,12 +188,19 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         private final Path rootDir;
         private final boolean exitOnError;
         private final boolean clean;
+        private final ExecutorService executor;
+        private final AtomicInteger successes;
+        private final AtomicInteger failures;
 
-        private GenerationRunner(CodegenConfigurator configurator, Path rootDir, boolean failFast, boolean clean) {
+        private GenerationRunner(CodegenConfigurator configurator, Path rootDir, boolean failFast, boolean clean,
+                                 ExecutorService executor, AtomicInteger successes, AtomicInteger failures) {
             this.configurator = configurator;
             this.rootDir = rootDir;
             this.exitOnError = failFast;
             this.clean = clean;
+            this.executor = executor;
+            this.successes = successes;
+            this.failures = failures;
         }
 
         /**
@@ -242,7 +250,8 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
                 System.err.printf(Locale.ROOT, "[%s] Generation failed for %s: (%s) %s%n", Thread.currentThread().getName(), failedOn, e.getClass().getSimpleName(), e.getMessage());
                 e.printStackTrace(System.err);
                 if (exitOnError) {
-                    System.exit(1);
+                    // skip the remaining generations, the batch reports the failure once running ones are done
+                    executor.shutdownNow();
                 }
             } finally {
                 GlobalSettings.reset();
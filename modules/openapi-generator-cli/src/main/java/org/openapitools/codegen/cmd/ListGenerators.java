@@ -6,10 +6,9 @@ import io.airlift.airline.Command;
 import io.airlift.airline.Option;
 
 import org.apache.commons.lang3.StringUtils;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
-import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.GeneratorIndex;
 import org.openapitools.codegen.meta.Stability;
 
 import java.util.*;
@@ -36,7 +35,7 @@ public class ListGenerators extends OpenApiGeneratorCommand {
 
     @Override
     public void execute() {
-        List<CodegenConfig> generators = new ArrayList<>();
+        List<GeneratorIndex.Entry> generators = new ArrayList<>();
         List<Stability> stabilities = Arrays.asList(Stability.values());
 
         if (!StringUtils.isEmpty(include)) {
@@ -48,10 +47,9 @@ public class ListGenerators extends OpenApiGeneratorCommand {
             }
         }
 
-        for (CodegenConfig codegenConfig : CodegenConfigLoader.getAll()) {
-            GeneratorMetadata meta = codegenConfig.getGeneratorMetadata();
-            if (meta != null && stabilities.contains(meta.getStability())) {
-                generators.add(codegenConfig);
+        for (GeneratorIndex.Entry generator : CodegenConfigLoader.getIndex()) {
+            if (stabilities.contains(generator.getStability())) {
+                generators.add(generator);
             }
         }
 
@@ -59,7 +57,7 @@ public class ListGenerators extends OpenApiGeneratorCommand {
 
         if (shortened) {
             for (int i = 0; i < generators.size(); i++) {
-                CodegenConfig generator = generators.get(i);
+                GeneratorIndex.Entry generator = generators.get(i);
                 if (i != 0) {
                     sb.append(",");
                 }
@@ -82,10 +80,10 @@ public class ListGenerators extends OpenApiGeneratorCommand {
         System.out.printf(Locale.ROOT, "%s%n", sb.toString());
     }
 
-    private void appendForType(StringBuilder sb, CodegenType type, String typeName, List<CodegenConfig> generators) {
-        List<CodegenConfig> list = generators.stream()
-                .filter(g -> Objects.equal(type, g.getTag()))
-                .sorted(Comparator.comparing(CodegenConfig::getName))
+    private void appendForType(StringBuilder sb, CodegenType type, String typeName, List<GeneratorIndex.Entry> generators) {
+        List<GeneratorIndex.Entry> list = generators.stream()
+                .filter(g -> Objects.equal(type, g.getType()))
+                .sorted(Comparator.comparing(GeneratorIndex.Entry::getName))
                 .collect(Collectors.toList());
 
         if(!list.isEmpty()) {
@@ -97,15 +95,15 @@ public class ListGenerators extends OpenApiGeneratorCommand {
             sb.append(System.lineSeparator());
 
             list.forEach(generator -> {
-                GeneratorMetadata meta = generator.getGeneratorMetadata();
+                Stability stability = generator.getStability();
                 if (docusaurus || githubNestedIndex) {
                     sb.append("* ");
                     String idPrefix = docusaurus ? "generators/" : "";
                     String id = idPrefix + generator.getName() + ".md";
                     sb.append("[").append(generator.getName());
 
-                    if (meta != null && meta.getStability() != null && meta.getStability() != Stability.STABLE) {
-                        sb.append(" (").append(meta.getStability().value()).append(")");
+                    if (stability != null && stability != Stability.STABLE) {
+                        sb.append(" (").append(stability.value()).append(")");
                     }
 
                     sb.append("](").append(id).append(")");
@@ -116,8 +114,8 @@ public class ListGenerators extends OpenApiGeneratorCommand {
                     sb.append("    - ");
                     sb.append(generator.getName());
 
-                    if (meta != null && meta.getStability() != null && meta.getStability() != Stability.STABLE) {
-                        sb.append(" (").append(meta.getStability().value()).append(")");
+                    if (stability != null && stability != Stability.STABLE) {
+                        sb.append(" (").append(stability.value()).append(")");
                     }
                 }
                 sb.append(System.lineSeparator());
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Yaml;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watches the inputs of a generation for changes: individual files, such as the spec and the files it references,
+ * and directory trees, such as a template directory.
+ * <p>
+ * Changes are debounced, so that a burst of changes, as made by editors saving through temporary files, is reported
+ * once.
+ */
+class SpecWatcher implements Closeable {
+    private final WatchService watchService;
+    private final Duration debounce;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private Set<Path> files = new LinkedHashSet<>();
+    private Set<Path> trees = new LinkedHashSet<>();
+    private Set<Path> ignored = new LinkedHashSet<>();
+
+    SpecWatcher(Duration debounce) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.debounce = debounce;
+    }
+
+    /**
+     * Replaces the watched inputs. Directories which no longer hold a watched input stop being watched.
+     *
+     * @param files the files to watch
+     * @param trees the directories to watch, including their subdirectories
+     * @param ignored files to ignore within the watched directories, such as generated inputs
+     * @throws IOException if a directory can't be watched
+     */
+    void watch(Collection<Path> files, Collection<Path> trees, Collection<Path> ignored) throws IOException {
+        this.files = normalize(files);
+        this.trees = normalize(trees);
+        this.ignored = normalize(ignored);
+
+        Set<Path> wanted = new LinkedHashSet<>();
+        for (Path file : this.files) {
+            Path parent = file.getParent();
+            if (parent != null && Files.isDirectory(parent)) {
+                wanted.add(parent);
+            }
+        }
+        for (Path tree : this.trees) {
+            wanted.addAll(walkTree(tree));
+        }
+
+        Iterator<Map.Entry<WatchKey, Path>> registered = directories.entrySet().iterator();
+        while (registered.hasNext()) {
+            Map.Entry<WatchKey, Path> entry = registered.next();
+            if (!wanted.contains(entry.getValue())) {
+                entry.getKey().cancel();
+                registered.remove();
+            }
+        }
+        for (Path directory : wanted) {
+            register(directory);
+        }
+    }
+
+    /**
+     * @return the directories currently being watched
+     */
+    Collection<Path> watchedDirectories() {
+        return Collections.unmodifiableCollection(directories.values());
+    }
+
+    /**
+     * @return the number of watched files and directory trees
+     */
+    int size() {
+        return files.size() + trees.size();
+    }
+
+    /**
+     * Waits for the watched inputs to change, and then for the changes to settle.
+     *
+     * @return the changed inputs
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Set<Path> awaitChanges() throws InterruptedException {
+        Set<Path> changed = new LinkedHashSet<>();
+        while (changed.isEmpty()) {
+            collect(watchService.take(), changed);
+        }
+        WatchKey key;
+        while ((key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+            collect(key, changed);
+        }
+        return changed;
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // events were lost, so anything in the directory may have changed
+                changed.add(directory);
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path) && isInTree(path)) {
+                try {
+                    registerTree(path);
+                } catch (IOException ignored) {
+                    // the directory is gone already
+                }
+            }
+            if (!ignored.contains(path) && (files.contains(path) || isInTree(path))) {
+                changed.add(path);
+            }
+        }
+        if (!key.reset()) {
+            // the directory is gone, or no longer accessible
+            key.cancel();
+            directories.remove(key);
+        }
+    }
+
+    private boolean isInTree(Path path) {
+        for (Path tree : trees) {
+            if (path.startsWith(tree)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void registerTree(Path tree) throws IOException {
+        for (Path directory : walkTree(tree)) {
+            register(directory);
+        }
+    }
+
+    private static Set<Path> walkTree(Path tree) throws IOException {
+        Set<Path> found = new LinkedHashSet<>();
+        if (Files.isDirectory(tree)) {
+            try (Stream<Path> paths = Files.walk(tree)) {
+                Iterator<Path> iterator = paths.filter(Files::isDirectory).iterator();
+                while (iterator.hasNext()) {
+                    found.add(iterator.next());
+                }
+            }
+        }
+        return found;
+    }
+
+    private void register(Path directory) throws IOException {
+        if (directories.containsValue(directory)) {
+            return;
+        }
+        WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        directories.put(key, directory);
+    }
+
+    private static Set<Path> normalize(Collection<Path> paths) {
+        Set<Path> normalized = new LinkedHashSet<>();
+        for (Path path : paths) {
+            normalized.add(path.toAbsolutePath().normalize());
+        }
+        return normalized;
+    }
+
+    /**
+     * Finds the local files referenced by a spec through {@code $ref}, transitively.
+     *
+     * @param spec the spec file
+     * @return the spec file and the files it references
+     */
+    static Set<Path> findReferencedFiles(Path spec) {
+        Set<Path> found = new LinkedHashSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(spec.toAbsolutePath().normalize());
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            if (!found.add(file) || !Files.isRegularFile(file)) {
+                continue;
+            }
+            JsonNode root;
+            try {
+                // the YAML parser reads JSON as well
+                root = Yaml.mapper().readTree(file.toFile());
+            } catch (IOException e) {
+                // being edited, the parser reports the error when generating
+                continue;
+            }
+            collectReferences(root, file.getParent(), pending);
+        }
+        return found;
+    }
+
+    private static void collectReferences(JsonNode node, Path base, Deque<Path> pending) {
+        if (node == null) {
+            return;
+        }
+        if (node.isObject()) {
+            JsonNode ref = node.get("$ref");
+            if (ref != null && ref.isTextual()) {
+                Path referenced = toLocalFile(ref.asText(), base);
+                if (referenced != null) {
+                    pending.add(referenced);
+                }
+            }
+        }
+        for (JsonNode child : node) {
+            collectReferences(child, base, pending);
+        }
+    }
+
+    private static Path toLocalFile(String ref, Path base) {
+        int fragment = ref.indexOf('#');
+        String location = fragment >= 0 ? ref.substring(0, fragment) : ref;
+        if (location.isEmpty() || location.contains("://")) {
+            return null;
+        }
+        try {
+            // references are URIs, in which a plus sign is not a space
+            location = URLDecoder.decode(location.replace("+", "%2B"), "UTF-8");
+        } catch (IllegalArgumentException | UnsupportedEncodingException e) {
+            return null;
+        }
+        Path path = base == null ? Paths.get(location) : base.resolve(location);
+        return path.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
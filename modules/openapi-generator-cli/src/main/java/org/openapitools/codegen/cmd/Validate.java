@@ -25,13 +25,18 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.text.WordUtils;
+import org.openapitools.codegen.validation.Invalid;
+import org.openapitools.codegen.validation.Severity;
 import org.openapitools.codegen.validation.ValidationResult;
 import org.openapitools.codegen.validations.oas.OpenApiEvaluator;
 import org.openapitools.codegen.validations.oas.RuleConfiguration;
+import org.openapitools.codegen.validations.oas.StreamingOpenApiValidator;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings({"unused","java:S106"})
 @Command(name = "validate", description = "Validate specification")
@@ -44,9 +49,19 @@ public class Validate extends OpenApiGeneratorCommand {
     @Option(name = { "--recommend"}, title = "recommend spec improvements")
     private Boolean recommend;
 
+    @Option(name = {"--streaming"}, title = "streaming validation",
+            description = "validate the structure, references, operationIds and unused schemas of the spec in a single "
+                    + "pass over the document, without loading it in memory, and report issues as they are found. "
+                    + "Meant for specs too large to be validated otherwise; references to other documents are not followed.")
+    private Boolean streaming;
+
     @Override
     public void execute() {
         System.out.println("Validating spec (" + spec + ")");
+        if (Boolean.TRUE.equals(streaming)) {
+            executeStreaming();
+            return;
+        }
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
         SwaggerParseResult result = new OpenAPIParser().readLocation(spec, null, options);
@@ -88,7 +103,7 @@ public class Validate extends OpenApiGeneratorCommand {
             sb.append(System.lineSeparator());
             sb.append("[error] Spec has ").append(errors.size()).append(" errors.");
             System.err.println(sb.toString());
-            System.exit(1);
+            throw new CommandExitException(1);
         } else if (!warnings.isEmpty()) {
             sb.append(System.lineSeparator());
             sb.append("[info] Spec has ").append(warnings.size()).append(" recommendation(s).");
@@ -99,4 +114,35 @@ public class Validate extends OpenApiGeneratorCommand {
 
         System.out.println(sb.toString());
     }
+
+    private void executeStreaming() {
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger warnings = new AtomicInteger();
+        RuleConfiguration ruleConfiguration = new RuleConfiguration();
+        ruleConfiguration.setEnableRecommendations(recommend != null ? recommend : false);
+        StreamingOpenApiValidator validator = new StreamingOpenApiValidator(ruleConfiguration);
+        try {
+            validator.validate(spec, invalid -> {
+                boolean error = invalid.getSeverity() == Severity.ERROR;
+                (error ? errors : warnings).incrementAndGet();
+                System.out.println((error ? "[error] " : "[warning] ") + describe(invalid));
+            });
+        } catch (IOException e) {
+            System.err.println("[error] Unable to read the spec: " + e.getMessage());
+            throw new CommandExitException(1);
+        }
+
+        if (errors.get() > 0) {
+            System.err.println("[error] Spec has " + errors.get() + " errors.");
+            throw new CommandExitException(1);
+        } else if (warnings.get() > 0) {
+            System.out.println("[info] Spec has " + warnings.get() + " recommendation(s).");
+        } else {
+            System.out.println("No validation issues detected.");
+        }
+    }
+
+    private static String describe(Invalid invalid) {
+        return invalid.getDetails() == null ? invalid.getMessage() : invalid.getMessage() + " (" + invalid.getDetails() + ")";
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Sends CLI commands to the daemon running for the current working directory, relaying its output.
+ * <p>
+ * This class is loaded before anything else by the CLI, so it must not depend on the generators.
+ */
+public class DaemonClient {
+    /**
+     * Set to any value to run commands in-process even if a daemon is running.
+     */
+    public static final String NO_DAEMON_ENV = "OPENAPI_GENERATOR_NO_DAEMON";
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 1_000;
+
+    private final Path workingDirectory;
+    private final Path stateFile;
+    private final PrintStream stdout;
+    private final PrintStream stderr;
+    private final Map<String, String> environment;
+    private final Properties systemProperties;
+
+    public DaemonClient(Path workingDirectory) {
+        this(workingDirectory, DaemonEndpoint.getStateFile(workingDirectory), System.out, System.err,
+                System.getenv(), System.getProperties());
+    }
+
+    DaemonClient(Path workingDirectory, Path stateFile, PrintStream stdout, PrintStream stderr,
+                 Map<String, String> environment, Properties systemProperties) {
+        this.workingDirectory = workingDirectory.toAbsolutePath().normalize();
+        this.stateFile = stateFile;
+        this.stdout = stdout;
+        this.stderr = stderr;
+        this.environment = environment;
+        this.systemProperties = systemProperties;
+    }
+
+    /**
+     * Runs a command in the daemon, if the command is supported by the daemon and a daemon is running.
+     *
+     * @param version the version of the CLI
+     * @param args the CLI arguments
+     * @return the exit status of the command, or empty if the command must be run in-process
+     */
+    public OptionalInt execute(String version, String[] args) {
+        if (!DaemonEndpoint.isDaemonCommand(args) || System.getenv(NO_DAEMON_ENV) != null) {
+            return OptionalInt.empty();
+        }
+        DaemonEndpoint endpoint = DaemonEndpoint.read(stateFile);
+        if (endpoint == null) {
+            return OptionalInt.empty();
+        }
+
+        boolean started = false;
+        try (Socket socket = connect(endpoint)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeUTF(endpoint.getToken());
+            out.writeByte(DaemonEndpoint.REQUEST_RUN);
+            out.writeUTF(version);
+            out.writeUTF(workingDirectory.toString());
+            out.writeInt(args.length);
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            // the daemon runs the command with the system properties of this invocation, and refuses to run it if
+            // the environment variables read by generators differ from its own
+            DaemonEndpoint.writeMap(out, DaemonEndpoint.forwardedEnvironment(environment));
+            Map<String, String> properties = new TreeMap<>();
+            for (String name : systemProperties.stringPropertyNames()) {
+                properties.put(name, systemProperties.getProperty(name));
+            }
+            DaemonEndpoint.writeMap(out, properties);
+            out.flush();
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            while (true) {
+                byte frame = in.readByte();
+                switch (frame) {
+                    case DaemonEndpoint.FRAME_STDOUT:
+                    case DaemonEndpoint.FRAME_STDERR:
+                        started = true;
+                        byte[] bytes = new byte[in.readInt()];
+                        in.readFully(bytes);
+                        PrintStream target = frame == DaemonEndpoint.FRAME_STDOUT ? stdout : stderr;
+                        target.write(bytes, 0, bytes.length);
+                        target.flush();
+                        break;
+                    case DaemonEndpoint.FRAME_EXIT:
+                        return OptionalInt.of(in.readInt());
+                    case DaemonEndpoint.FRAME_REJECTED:
+                        stderr.println("[info] " + in.readUTF() + ", running without it.");
+                        return OptionalInt.empty();
+                    default:
+                        throw new IOException("Unexpected response from the generator daemon");
+                }
+            }
+        } catch (ConnectException e) {
+            // the daemon is gone without cleaning up after itself
+            deleteStateFile();
+            return OptionalInt.empty();
+        } catch (IOException e) {
+            if (!started) {
+                return OptionalInt.empty();
+            }
+            // the command may have partially run, so it's not safe to run it again
+            stderr.println("[error] Lost connection to the generator daemon: " + e.getMessage());
+            return OptionalInt.of(1);
+        }
+    }
+
+    /**
+     * Stops the daemon running for the working directory.
+     *
+     * @return true if a daemon was stopped
+     */
+    public boolean stop() {
+        DaemonEndpoint endpoint = DaemonEndpoint.read(stateFile);
+        if (endpoint == null) {
+            return false;
+        }
+        try (Socket socket = connect(endpoint)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeUTF(endpoint.getToken());
+            out.writeByte(DaemonEndpoint.REQUEST_STOP);
+            out.flush();
+            return new DataInputStream(socket.getInputStream()).readByte() == DaemonEndpoint.FRAME_EXIT;
+        } catch (ConnectException e) {
+            deleteStateFile();
+            return false;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether a daemon is running for the working directory.
+     *
+     * @return true if a daemon accepts connections
+     */
+    public boolean isRunning() {
+        DaemonEndpoint endpoint = DaemonEndpoint.read(stateFile);
+        if (endpoint == null) {
+            return false;
+        }
+        try (Socket ignored = connect(endpoint)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public Path getStateFile() {
+        return stateFile;
+    }
+
+    private static Socket connect(DaemonEndpoint endpoint) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), endpoint.getPort()),
+                    CONNECT_TIMEOUT_MILLIS);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        return socket;
+    }
+
+    private void deleteStateFile() {
+        try {
+            Files.deleteIfExists(stateFile);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The address of a running daemon, published in a state file which only the current user can read.
+ * <p>
+ * Each working directory has its own daemon, as the relative paths passed to the CLI are resolved against the working
+ * directory of the daemon. Requests are authenticated with a random token stored alongside the port.
+ */
+public class DaemonEndpoint {
+    /**
+     * The commands which are executed by the daemon when one is running.
+     */
+    public static final Set<String> COMMANDS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("generate", "batch", "validate")));
+
+    /**
+     * The option of the commands which keeps running until interrupted. Commands with it are run in-process, as the
+     * daemon serves one request at a time and a client can't interrupt a command running in the daemon.
+     */
+    static final String WATCH_OPTION = "--watch";
+
+    static final byte REQUEST_RUN = 1;
+    static final byte REQUEST_STOP = 2;
+
+    static final byte FRAME_STDOUT = 1;
+    static final byte FRAME_STDERR = 2;
+    static final byte FRAME_EXIT = 3;
+    static final byte FRAME_REJECTED = 4;
+
+    /**
+     * The suffix of the environment variables read by generators, which the daemon can't change for a single request.
+     */
+    static final String FORWARDED_VARIABLE_SUFFIX = "_POST_PROCESS_FILE";
+
+    private static final String PORT = "port";
+    private static final String TOKEN = "token";
+
+    private final int port;
+    private final String token;
+
+    public DaemonEndpoint(int port, String token) {
+        this.port = port;
+        this.token = token;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Checks whether the daemon runs the given CLI arguments.
+     *
+     * @param args the CLI arguments
+     * @return true if the command is one of {@link #COMMANDS} and does not keep running until interrupted
+     */
+    static boolean isDaemonCommand(String[] args) {
+        if (args.length == 0 || !COMMANDS.contains(args[0])) {
+            return false;
+        }
+        for (String arg : args) {
+            if (WATCH_OPTION.equals(arg) || arg.startsWith(WATCH_OPTION + "=")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the environment variables which must match between a client and the daemon for the daemon to run its
+     * commands.
+     *
+     * @param environment the environment of a process
+     * @return the variables read by generators, sorted by name
+     */
+    static Map<String, String> forwardedEnvironment(Map<String, String> environment) {
+        Map<String, String> forwarded = new TreeMap<>();
+        environment.forEach((name, value) -> {
+            if (name.endsWith(FORWARDED_VARIABLE_SUFFIX)) {
+                forwarded.put(name, value);
+            }
+        });
+        return forwarded;
+    }
+
+    /**
+     * Writes a map of strings to a request. Unlike {@link DataOutputStream#writeUTF(String)}, strings of any length
+     * are supported, as system properties such as the class path may be long.
+     *
+     * @param out the request
+     * @param map the map to write
+     * @throws IOException if the request can't be written
+     */
+    static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a map of strings written by {@link #writeMap(DataOutputStream, Map)}.
+     *
+     * @param in the request
+     * @return the map read, sorted by key
+     * @throws IOException if the request can't be read
+     */
+    static Map<String, String> readMap(DataInputStream in) throws IOException {
+        Map<String, String> map = new TreeMap<>();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+        return map;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the state file of the daemon serving the given working directory.
+     *
+     * @param workingDirectory the working directory
+     * @return the state file, which exists only while a daemon is running
+     */
+    public static Path getStateFile(Path workingDirectory) {
+        String directory = workingDirectory.toAbsolutePath().normalize().toString();
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder name = new StringBuilder();
+        byte[] hash = digest.digest(directory.getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < 8; i++) {
+            name.append(String.format(Locale.ROOT, "%02x", hash[i]));
+        }
+        return Paths.get(System.getProperty("user.home"), ".openapi-generator", "daemon", name + ".properties");
+    }
+
+    /**
+     * Reads an endpoint from a state file.
+     *
+     * @param stateFile the state file
+     * @return the endpoint, or null if the file doesn't exist or can't be read
+     */
+    public static DaemonEndpoint read(Path stateFile) {
+        if (!Files.isRegularFile(stateFile)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(stateFile)) {
+            properties.load(in);
+            return new DaemonEndpoint(Integer.parseInt(properties.getProperty(PORT)), properties.getProperty(TOKEN));
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Publishes this endpoint to a state file, replacing it atomically.
+     *
+     * @param stateFile the state file
+     * @throws IOException if the file can't be written
+     */
+    public void write(Path stateFile) throws IOException {
+        Path directory = stateFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        Path tmp = posix
+                ? Files.createTempFile(directory, "daemon", ".tmp",
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                : Files.createTempFile(directory, "daemon", ".tmp");
+
+        Properties properties = new Properties();
+        properties.setProperty(PORT, String.valueOf(port));
+        properties.setProperty(TOKEN, token);
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            properties.store(out, "openapi-generator daemon");
+        }
+        Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.daemon;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.core.joran.spi.JoranException;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Executes CLI commands sent by {@link DaemonClient} in a long-running JVM, so that each invocation is spared the
+ * JVM startup, class loading and warm-up costs.
+ * <p>
+ * Requests are executed one at a time, each on a fresh thread with its own {@link GlobalSettings} holding the system
+ * properties of the client, and with the standard output and error streams of the JVM redirected to the client.
+ * Environment variables can't be changed for a single request, so requests are rejected if the variables read by
+ * generators differ between the client and the daemon. The logging configuration is restored after
+ * each request, as commands may change it. The daemon stops once no request was received within the idle timeout.
+ */
+public class DaemonServer {
+    private static final int REQUEST_READ_TIMEOUT_MILLIS = 10_000;
+
+    private final Path workingDirectory;
+    private final Path stateFile;
+    private final Duration idleTimeout;
+    private final String version;
+    private final ToIntFunction<String[]> cli;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile boolean running;
+
+    /**
+     * @param workingDirectory the working directory served by the daemon
+     * @param stateFile the file to publish the daemon's endpoint to
+     * @param idleTimeout the time without requests after which the daemon stops, or {@link Duration#ZERO} to never stop
+     * @param version the version of the CLI, which clients must match
+     * @param cli runs the CLI with the given arguments and returns the exit status
+     */
+    public DaemonServer(Path workingDirectory, Path stateFile, Duration idleTimeout, String version,
+                        ToIntFunction<String[]> cli) {
+        this.workingDirectory = workingDirectory.toAbsolutePath().normalize();
+        this.stateFile = stateFile;
+        this.idleTimeout = idleTimeout;
+        this.version = version;
+        this.cli = cli;
+    }
+
+    /**
+     * Serves requests until the daemon is stopped or idles out.
+     *
+     * @throws IOException if the daemon can't listen for requests
+     */
+    public void run() throws IOException {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        StringBuilder token = new StringBuilder();
+        for (byte b : secret) {
+            token.append(String.format(Locale.ROOT, "%02x", b));
+        }
+
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout((int) Math.min(Integer.MAX_VALUE, idleTimeout.toMillis()));
+            new DaemonEndpoint(server.getLocalPort(), token.toString()).write(stateFile);
+            running = true;
+            try {
+                while (running) {
+                    Socket socket;
+                    try {
+                        socket = server.accept();
+                    } catch (SocketTimeoutException e) {
+                        break;
+                    }
+                    try (Socket s = socket) {
+                        handle(s, token.toString());
+                    } catch (IOException e) {
+                        // the client went away, there is nobody left to report to
+                    }
+                }
+            } finally {
+                running = false;
+                // a daemon started later for the same directory may have replaced the state file
+                DaemonEndpoint published = DaemonEndpoint.read(stateFile);
+                if (published != null && token.toString().equals(published.getToken())) {
+                    Files.deleteIfExists(stateFile);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket, String token) throws IOException {
+        socket.setSoTimeout(REQUEST_READ_TIMEOUT_MILLIS);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        byte[] received = in.readUTF().getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(received, token.getBytes(StandardCharsets.UTF_8))) {
+            return;
+        }
+
+        byte request = in.readByte();
+        if (request == DaemonEndpoint.REQUEST_STOP) {
+            running = false;
+            writeExit(out, 0);
+            return;
+        }
+
+        String clientVersion = in.readUTF();
+        String clientDirectory = in.readUTF();
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+        Map<String, String> clientEnvironment = DaemonEndpoint.readMap(in);
+        Map<String, String> clientProperties = DaemonEndpoint.readMap(in);
+        socket.setSoTimeout(0);
+
+        if (!version.equals(clientVersion)) {
+            reject(out, "The generator daemon runs version " + version);
+        } else if (!workingDirectory.toString().equals(clientDirectory)) {
+            reject(out, "The generator daemon serves " + workingDirectory);
+        } else if (!DaemonEndpoint.isDaemonCommand(args)) {
+            // e.g. generate --watch, which would keep the daemon from accepting other requests until it's stopped
+            reject(out, "The generator daemon doesn't run this command");
+        } else if (!clientEnvironment.equals(DaemonEndpoint.forwardedEnvironment(System.getenv()))) {
+            reject(out, "The generator daemon runs with other *" + DaemonEndpoint.FORWARDED_VARIABLE_SUFFIX
+                    + " environment variables");
+        } else {
+            writeExit(out, execute(args, clientProperties, out));
+        }
+    }
+
+    private int execute(String[] args, Map<String, String> properties, DataOutputStream out) throws IOException {
+        // encode like the standard streams of a CLI, the client relays the bytes as they are
+        String encoding = System.getProperty("file.encoding", StandardCharsets.UTF_8.name());
+        PrintStream stdout = new PrintStream(new FrameOutputStream(out, DaemonEndpoint.FRAME_STDOUT), true, encoding);
+        PrintStream stderr = new PrintStream(new FrameOutputStream(out, DaemonEndpoint.FRAME_STDERR), true, encoding);
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+
+        int[] status = {1};
+        Thread thread = new Thread(() -> {
+            GlobalSettings.reset();
+            // the command sees the system properties of the client, e.g. those set with -D, instead of the daemon's
+            for (String name : System.getProperties().stringPropertyNames()) {
+                if (!properties.containsKey(name)) {
+                    GlobalSettings.clearProperty(name);
+                }
+            }
+            properties.forEach(GlobalSettings::setProperty);
+            status[0] = cli.applyAsInt(args);
+        }, "openapi-generator-daemon-" + requestCount.incrementAndGet());
+        thread.setUncaughtExceptionHandler((t, e) -> e.printStackTrace(stderr));
+
+        System.setOut(stdout);
+        System.setErr(stderr);
+        try {
+            thread.start();
+            thread.join();
+        } catch (InterruptedException e) {
+            thread.interrupt();
+            Thread.currentThread().interrupt();
+        } finally {
+            stdout.flush();
+            stderr.flush();
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+            resetLogging();
+        }
+        return status[0];
+    }
+
+    private static void resetLogging() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        try {
+            new ContextInitializer(context).autoConfig();
+        } catch (JoranException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void reject(DataOutputStream out, String reason) throws IOException {
+        out.writeByte(DaemonEndpoint.FRAME_REJECTED);
+        out.writeUTF(reason);
+        out.flush();
+    }
+
+    private static void writeExit(DataOutputStream out, int status) throws IOException {
+        out.writeByte(DaemonEndpoint.FRAME_EXIT);
+        out.writeInt(status);
+        out.flush();
+    }
+
+    /**
+     * Forwards the bytes written to a standard stream to the client, tagged with the stream they were written to.
+     * Output for a client which went away is discarded.
+     */
+    private static class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte frame;
+        private boolean closed;
+
+        FrameOutputStream(DataOutputStream out, byte frame) {
+            this.out = out;
+            this.frame = frame;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            synchronized (out) {
+                if (closed || len == 0) {
+                    return;
+                }
+                try {
+                    out.writeByte(frame);
+                    out.writeInt(len);
+                    out.write(b, off, len);
+                } catch (IOException e) {
+                    closed = true;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            synchronized (out) {
+                try {
+                    out.flush();
+                } catch (IOException e) {
+                    closed = true;
+                }
+            }
+        }
+    }
+}
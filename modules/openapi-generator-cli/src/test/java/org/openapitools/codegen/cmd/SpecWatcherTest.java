@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+public class SpecWatcherTest {
+
+    @Test
+    public void shouldFindReferencedFilesTransitively() throws IOException {
+        Path dir = Files.createTempDirectory("SpecWatcherTest").toRealPath();
+        Path spec = write(dir.resolve("spec.yaml"), "openapi: 3.0.1\n"
+                + "components:\n"
+                + "  schemas:\n"
+                + "    Pet:\n"
+                + "      $ref: 'schemas/pet.yaml#/Pet'\n"
+                + "    Local:\n"
+                + "      $ref: '#/components/schemas/Pet'\n"
+                + "    Remote:\n"
+                + "      $ref: 'https://example.com/remote.yaml#/Remote'\n");
+        Path pet = write(dir.resolve("schemas").resolve("pet.yaml"), "Pet:\n"
+                + "  properties:\n"
+                + "    tag:\n"
+                + "      $ref: '../common/tag.json#/Tag'\n"
+                + "    self:\n"
+                + "      $ref: 'pet.yaml#/Pet'\n");
+        Path tag = write(dir.resolve("common").resolve("tag.json"), "{\"Tag\": {\"type\": \"string\"}}");
+
+        Set<Path> files = SpecWatcher.findReferencedFiles(spec);
+
+        assertEquals(files, new LinkedHashSet<>(Arrays.asList(spec, pet, tag)));
+    }
+
+    @Test(timeOut = 30000)
+    public void shouldReportChangedFiles() throws Exception {
+        Path dir = Files.createTempDirectory("SpecWatcherTest").toRealPath();
+        Path spec = write(dir.resolve("spec.yaml"), "openapi: 3.0.1\n");
+        Path other = write(dir.resolve("other.yaml"), "openapi: 3.0.1\n");
+        Path templates = Files.createDirectories(dir.resolve("templates"));
+
+        try (SpecWatcher watcher = new SpecWatcher(Duration.ofMillis(200))) {
+            watcher.watch(Collections.singleton(spec), Collections.singleton(templates), Collections.emptySet());
+            assertEquals(watcher.size(), 2);
+
+            write(other, "openapi: 3.0.2\n");
+            write(spec, "openapi: 3.0.2\n");
+            assertEquals(watcher.awaitChanges(), Collections.singleton(spec));
+
+            Path template = write(templates.resolve("model.mustache"), "{{name}}");
+            assertTrue(watcher.awaitChanges().contains(template));
+        }
+    }
+
+    @Test
+    public void shouldStopWatchingUnreferencedDirectories() throws Exception {
+        Path dir = Files.createTempDirectory("SpecWatcherTest").toRealPath();
+        Path spec = write(dir.resolve("spec.yaml"), "openapi: 3.0.1\n");
+        Path schema = write(dir.resolve("schemas").resolve("pet.yaml"), "Pet: {}\n");
+        Path templates = Files.createDirectories(dir.resolve("templates").resolve("api"));
+
+        try (SpecWatcher watcher = new SpecWatcher(Duration.ofMillis(200))) {
+            watcher.watch(Arrays.asList(spec, schema), Collections.singleton(templates.getParent()), Collections.emptySet());
+            assertEquals(new HashSet<>(watcher.watchedDirectories()),
+                    new HashSet<>(Arrays.asList(dir, schema.getParent(), templates.getParent(), templates)));
+
+            watcher.watch(Collections.singleton(spec), Collections.emptySet(), Collections.emptySet());
+            assertEquals(new HashSet<>(watcher.watchedDirectories()), Collections.singleton(dir));
+        }
+    }
+
+    private static Path write(Path file, String contents) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
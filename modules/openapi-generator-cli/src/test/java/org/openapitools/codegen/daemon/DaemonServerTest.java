@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.daemon;
+
+import org.openapitools.codegen.config.GlobalSettings;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+public class DaemonServerTest {
+    private static final String VERSION = "1.0.0 abcdef";
+
+    private Path workingDirectory;
+    private Path stateFile;
+    private Thread daemon;
+    private ByteArrayOutputStream stdout;
+    private ByteArrayOutputStream stderr;
+    private DaemonClient client;
+
+    @BeforeMethod
+    public void startDaemon() throws Exception {
+        workingDirectory = Files.createTempDirectory("DaemonServerTest");
+        stateFile = workingDirectory.resolve("state").resolve("daemon.properties");
+
+        DaemonServer server = new DaemonServer(workingDirectory, stateFile, Duration.ZERO, VERSION, args -> {
+            if (Arrays.asList(args).contains("--watch")) {
+                // like Generate --watch, runs until interrupted
+                try {
+                    Thread.sleep(Long.MAX_VALUE);
+                } catch (InterruptedException e) {
+                    return 130;
+                }
+            }
+            System.out.println("out " + String.join(" ", args));
+            System.err.println("err " + GlobalSettings.getProperty("daemon.test", "unset"));
+            GlobalSettings.setProperty("daemon.test", "set");
+            return args.length;
+        });
+        daemon = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        daemon.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!Files.exists(stateFile) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(stateFile), "daemon did not publish its endpoint");
+
+        stdout = new ByteArrayOutputStream();
+        stderr = new ByteArrayOutputStream();
+        client = client(System.getenv(), System.getProperties());
+    }
+
+    @AfterMethod
+    public void stopDaemon() throws Exception {
+        client.stop();
+        daemon.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Test
+    public void shouldRelayOutputAndExitStatus() throws Exception {
+        OptionalInt status = client.execute(VERSION, new String[]{"generate", "-g", "java"});
+
+        assertEquals(status, OptionalInt.of(3));
+        assertEquals(stdout.toString("UTF-8"), "out generate -g java" + System.lineSeparator());
+        assertEquals(stderr.toString("UTF-8"), "err unset" + System.lineSeparator());
+    }
+
+    @Test
+    public void shouldIsolateGlobalSettingsBetweenRequests() throws Exception {
+        client.execute(VERSION, new String[]{"validate"});
+        client.execute(VERSION, new String[]{"validate"});
+
+        String err = "err unset" + System.lineSeparator();
+        assertEquals(stderr.toString("UTF-8"), err + err);
+    }
+
+    @Test
+    public void shouldApplyClientSystemProperties() throws Exception {
+        Properties properties = new Properties();
+        properties.putAll(System.getProperties());
+        properties.setProperty("daemon.test", "client");
+
+        assertEquals(client(System.getenv(), properties).execute(VERSION, new String[]{"generate"}), OptionalInt.of(1));
+        assertEquals(stderr.toString("UTF-8"), "err client" + System.lineSeparator());
+    }
+
+    @Test
+    public void shouldRunInProcessWhenPostProcessingEnvironmentDiffers() throws Exception {
+        Map<String, String> environment = new HashMap<>(System.getenv());
+        environment.put("DAEMON_TEST_POST_PROCESS_FILE", "/bin/true " + System.nanoTime());
+
+        assertFalse(client(environment, System.getProperties()).execute(VERSION, new String[]{"generate"}).isPresent());
+        assertEquals(stdout.size(), 0);
+        assertTrue(stderr.toString("UTF-8").startsWith("[info] The generator daemon runs with other"));
+    }
+
+    @Test
+    public void shouldRejectOtherVersions() {
+        assertFalse(client.execute("0.0.1 000000", new String[]{"generate"}).isPresent());
+        assertEquals(stdout.size(), 0);
+    }
+
+    @Test
+    public void shouldNotForwardUnsupportedCommands() {
+        assertFalse(client.execute(VERSION, new String[]{"list"}).isPresent());
+        assertEquals(stderr.size(), 0);
+    }
+
+    @Test(timeOut = 30000)
+    public void shouldRunWatchInProcess() throws Exception {
+        assertFalse(client.execute(VERSION, new String[]{"generate", "-g", "java", "--watch"}).isPresent());
+        assertEquals(stdout.size(), 0);
+        assertEquals(stderr.size(), 0);
+    }
+
+    @Test(timeOut = 30000)
+    public void shouldRejectWatchWithoutBlockingOtherRequests() throws Exception {
+        DaemonEndpoint endpoint = DaemonEndpoint.read(stateFile);
+        assertNotNull(endpoint);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), endpoint.getPort())) {
+            // a request sent by a client which doesn't run --watch in-process
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeUTF(endpoint.getToken());
+            out.writeByte(DaemonEndpoint.REQUEST_RUN);
+            out.writeUTF(VERSION);
+            out.writeUTF(workingDirectory.toAbsolutePath().normalize().toString());
+            String[] args = {"generate", "--watch"};
+            out.writeInt(args.length);
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            DaemonEndpoint.writeMap(out, DaemonEndpoint.forwardedEnvironment(System.getenv()));
+            DaemonEndpoint.writeMap(out, new TreeMap<>());
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertEquals(in.readByte(), DaemonEndpoint.FRAME_REJECTED);
+        }
+
+        assertEquals(client.execute(VERSION, new String[]{"validate"}), OptionalInt.of(1));
+    }
+
+    @Test
+    public void shouldStopAndRemoveEndpoint() throws Exception {
+        assertTrue(client.isRunning());
+        assertTrue(client.stop());
+
+        daemon.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(daemon.isAlive());
+        assertFalse(Files.exists(stateFile));
+        assertFalse(client.execute(VERSION, new String[]{"generate"}).isPresent());
+    }
+
+    private DaemonClient client(Map<String, String> environment, Properties systemProperties) throws IOException {
+        return new DaemonClient(workingDirectory, stateFile, printStream(stdout), printStream(stderr), environment,
+                systemProperties);
+    }
+
+    private static PrintStream printStream(ByteArrayOutputStream out) throws UnsupportedEncodingException {
+        return new PrintStream(out, true, StandardCharsets.UTF_8.name());
+    }
+}
@@ -1,7 +1,9 @@
 package org.openapitools.codegen.api;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -31,6 +33,24 @@ public interface TemplateProcessor {
      */
     File writeToFile(String filename, byte[] contents) throws IOException;
 
+    /**
+     * Write the contents of a stream to a file. The stream is not closed.
+     *
+     * @param filename The name of file to write
+     * @param contents The contents stream.
+     * @return File representing the written file.
+     * @throws IOException If file cannot be written.
+     */
+    default File writeToFile(String filename, InputStream contents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = contents.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+        }
+        return writeToFile(filename, bytes.toByteArray());
+    }
+
     /**
      * Allow a caller to mark a path as ignored with accompanying reason
      *
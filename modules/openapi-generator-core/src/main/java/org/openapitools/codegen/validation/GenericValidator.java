@@ -16,6 +16,7 @@
 
 package org.openapitools.codegen.validation;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -46,15 +47,34 @@ public class GenericValidator<TInput> implements Validator<TInput> {
     public ValidationResult validate(TInput input) {
         ValidationResult result = new ValidationResult();
         if (rules != null) {
-            rules.forEach(it -> {
-                ValidationRule.Result attempt = it.evaluate(input);
-                if (attempt.passed()) {
-                    result.addResult(Validated.valid(it));
-                } else {
-                    result.addResult(Validated.invalid(it, it.getFailureMessage(), attempt.getDetails()));
-                }
-            });
+            rules.forEach(it -> result.addResult(evaluate(it, input)));
         }
         return result;
     }
+
+    /**
+     * Gets the rules evaluated by this validator.
+     *
+     * @return The rules, in order of evaluation.
+     */
+    public List<ValidationRule> getRules() {
+        return rules == null ? Collections.emptyList() : Collections.unmodifiableList(rules);
+    }
+
+    /**
+     * Evaluates a single rule against an input.
+     *
+     * @param rule  The rule to evaluate.
+     * @param input The object instance to be validated.
+     *
+     * @return A {@link Valid} state if the rule passed, otherwise an {@link Invalid} state.
+     */
+    public static Validated evaluate(ValidationRule rule, Object input) {
+        ValidationRule.Result attempt = rule.evaluate(input);
+        if (attempt.passed()) {
+            return Validated.valid(rule);
+        } else {
+            return Validated.invalid(rule, rule.getFailureMessage(), attempt.getDetails());
+        }
+    }
 }
@@ -25,14 +25,15 @@ package org.openapitools.codegen.online.api;
 import io.swagger.annotations.*;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -58,7 +59,7 @@ public interface GenApi {
     @RequestMapping(value = "/gen/download/{fileId}",
             produces = { "application/octet-stream" },
             method = RequestMethod.GET)
-    default ResponseEntity<Resource> downloadFile(@ApiParam(value = "",required=true) @PathVariable("fileId") String fileId) {
+    default ResponseEntity<StreamingResponseBody> downloadFile(@ApiParam(value = "",required=true) @PathVariable("fileId") String fileId) {
         return getDelegate().downloadFile(fileId);
     }
 
@@ -73,6 +74,17 @@ public interface GenApi {
     }
 
 
+    @ApiOperation(value = "Generates a client library and streams it back", nickname = "streamClient", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The generated code is returned as a zip archive in the response body.", response = MultipartFile.class, tags={ "clients", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = MultipartFile.class) })
+    @RequestMapping(value = "/gen/stream/clients/{language}",
+            produces = { "application/zip" },
+            method = RequestMethod.POST)
+    default ResponseEntity<StreamingResponseBody> streamClient(@ApiParam(value = "The target language for the client library",required=true) @PathVariable("language") String language,@ApiParam(value = "Configuration for building the client library" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().streamClient(language, generatorInput);
+    }
+
+
     @ApiOperation(value = "Generates a server library", nickname = "generateServerForLanguage", notes = "Accepts a `GeneratorInput` options map for spec location and generation options.", response = ResponseCode.class, tags={ "servers", })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation", response = ResponseCode.class) })
@@ -83,6 +95,65 @@ public interface GenApi {
     }
 
 
+    @ApiOperation(value = "Generates a server library and streams it back", nickname = "streamServer", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The generated code is returned as a zip archive in the response body.", response = MultipartFile.class, tags={ "servers", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = MultipartFile.class) })
+    @RequestMapping(value = "/gen/stream/servers/{framework}",
+            produces = { "application/zip" },
+            method = RequestMethod.POST)
+    default ResponseEntity<StreamingResponseBody> streamServer(@ApiParam(value = "framework",required=true) @PathVariable("framework") String framework,@ApiParam(value = "parameters" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().streamServer(framework, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Queues generation of a client library", nickname = "submitClientJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The generation runs asynchronously; poll the returned `link` until the job has completed, then download the result using the job `code` as `fileId`.", response = JobStatus.class, tags={ "clients", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "generation queued", response = JobStatus.class),
+            @ApiResponse(code = 429, message = "too many generations in progress") })
+    @RequestMapping(value = "/gen/jobs/clients/{language}",
+            produces = { "application/json" },
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitClientJob(@ApiParam(value = "The target language for the client library",required=true) @PathVariable("language") String language,@ApiParam(value = "Configuration for building the client library" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitClientJob(language, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Queues generation of a server library", nickname = "submitServerJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The generation runs asynchronously; poll the returned `link` until the job has completed, then download the result using the job `code` as `fileId`.", response = JobStatus.class, tags={ "servers", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "generation queued", response = JobStatus.class),
+            @ApiResponse(code = 429, message = "too many generations in progress") })
+    @RequestMapping(value = "/gen/jobs/servers/{framework}",
+            produces = { "application/json" },
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitServerJob(@ApiParam(value = "framework",required=true) @PathVariable("framework") String framework,@ApiParam(value = "parameters" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitServerJob(framework, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Returns the status of a generation job", nickname = "getJobStatus", notes = "", response = JobStatus.class, tags={ "clients","servers", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 404, message = "unknown or expired job") })
+    @RequestMapping(value = "/gen/jobs/{jobId}",
+            produces = { "application/json" },
+            method = RequestMethod.GET)
+    default ResponseEntity<JobStatus> getJobStatus(@ApiParam(value = "",required=true) @PathVariable("jobId") String jobId) {
+        return getDelegate().getJobStatus(jobId);
+    }
+
+
+    @ApiOperation(value = "Cancels a queued or running generation job", nickname = "cancelJob", notes = "", response = JobStatus.class, tags={ "clients","servers", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 404, message = "unknown or expired job") })
+    @RequestMapping(value = "/gen/jobs/{jobId}",
+            produces = { "application/json" },
+            method = RequestMethod.DELETE)
+    default ResponseEntity<JobStatus> cancelJob(@ApiParam(value = "",required=true) @PathVariable("jobId") String jobId) {
+        return getDelegate().cancelJob(jobId);
+    }
+
+
     @ApiOperation(value = "Returns options for a client library", nickname = "getClientOptions", notes = "", tags={ "clients", })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation") })
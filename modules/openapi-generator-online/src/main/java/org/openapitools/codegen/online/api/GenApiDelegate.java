@@ -19,12 +19,13 @@ package org.openapitools.codegen.online.api;
 
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -61,9 +62,9 @@ public interface GenApiDelegate {
     /**
      * @param fileId The unique id of the file, provided in a {@link ResponseCode} response.
      * @see GenApi#downloadFile
-     * @return A {@link ResponseEntity} of the requested {@link Resource}.
+     * @return A {@link ResponseEntity} streaming the requested zip archive.
      */
-    default ResponseEntity<Resource> downloadFile(String  fileId) {
+    default ResponseEntity<StreamingResponseBody> downloadFile(String  fileId) {
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
 
     }
@@ -88,6 +89,18 @@ public interface GenApiDelegate {
 
     }
 
+    /**
+     * @param language The target generator (language is a misnomer here, but kept for API consistency).
+     * @param generatorInput The configuration settings to be used during client generation.
+     * @see GenApi#streamClient
+     * @return A {@link ResponseEntity} streaming the generated client code as a zip archive.
+     */
+    default ResponseEntity<StreamingResponseBody> streamClient(String  language,
+         GeneratorInput  generatorInput) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
     /**
      * @param framework The target generator name (framework is a slight misnomer here, as we may have a framework like Spring implemented in multiple languages).
      * @param generatorInput The configuration settings to be used during server generation.
@@ -108,6 +121,62 @@ public interface GenApiDelegate {
 
     }
 
+    /**
+     * @param framework The target generator name (framework is a slight misnomer here, as we may have a framework like Spring implemented in multiple languages).
+     * @param generatorInput The configuration settings to be used during server generation.
+     * @see GenApi#streamServer
+     * @return A {@link ResponseEntity} streaming the generated server code as a zip archive.
+     */
+    default ResponseEntity<StreamingResponseBody> streamServer(String  framework,
+         GeneratorInput  generatorInput) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * @param language The target generator (language is a misnomer here, but kept for API consistency).
+     * @param generatorInput The configuration settings to be used during client generation.
+     * @see GenApi#submitClientJob
+     * @return A {@link ResponseEntity} of the queued {@link JobStatus}.
+     */
+    default ResponseEntity<JobStatus> submitClientJob(String  language,
+         GeneratorInput  generatorInput) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * @param framework The target generator name (framework is a slight misnomer here, as we may have a framework like Spring implemented in multiple languages).
+     * @param generatorInput The configuration settings to be used during server generation.
+     * @see GenApi#submitServerJob
+     * @return A {@link ResponseEntity} of the queued {@link JobStatus}.
+     */
+    default ResponseEntity<JobStatus> submitServerJob(String  framework,
+         GeneratorInput  generatorInput) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * @param jobId The unique id of the job, provided in a {@link JobStatus} response.
+     * @see GenApi#getJobStatus
+     * @return A {@link ResponseEntity} of the current {@link JobStatus}.
+     */
+    default ResponseEntity<JobStatus> getJobStatus(String  jobId) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * @param jobId The unique id of the job, provided in a {@link JobStatus} response.
+     * @see GenApi#cancelJob
+     * @return A {@link ResponseEntity} of the {@link JobStatus} after cancellation.
+     */
+    default ResponseEntity<JobStatus> cancelJob(String  jobId) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
     /**
      * @param language The target generator (language is a misnomer here, but kept for API consistency).
      * @see GenApi#getClientOptions
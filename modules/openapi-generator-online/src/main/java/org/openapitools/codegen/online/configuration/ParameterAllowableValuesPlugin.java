@@ -1,8 +1,8 @@
 package org.openapitools.codegen.online.configuration;
 
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
+import org.openapitools.codegen.GeneratorIndex;
 import org.springframework.stereotype.Component;
 import springfox.documentation.service.AllowableListValues;
 import springfox.documentation.spi.DocumentationType;
@@ -19,13 +19,12 @@ public class ParameterAllowableValuesPlugin implements ParameterBuilderPlugin {
     private static List<String> servers = new ArrayList<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
+        for (GeneratorIndex.Entry generator : CodegenConfigLoader.getIndex()) {
+            if (generator.getType().equals(CodegenType.CLIENT)
+                    || generator.getType().equals(CodegenType.DOCUMENTATION)) {
+                clients.add(generator.getName());
+            } else if (generator.getType().equals(CodegenType.SERVER)) {
+                servers.add(generator.getName());
             }
         }
 
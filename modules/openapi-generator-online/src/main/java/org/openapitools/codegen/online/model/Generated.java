@@ -17,16 +17,19 @@
 
 package org.openapitools.codegen.online.model;
 
+import java.util.Map;
+
 public class Generated {
-    private String filename;
+    private String folder;
     private String friendlyName;
+    private Map<String, byte[]> files;
 
-    public String getFilename() {
-        return filename;
+    public String getFolder() {
+        return folder;
     }
 
-    public void setFilename(String filename) {
-        this.filename = filename;
+    public void setFolder(String folder) {
+        this.folder = folder;
     }
 
     public String getFriendlyName() {
@@ -36,4 +39,12 @@ public class Generated {
     public void setFriendlyName(String friendlyName) {
         this.friendlyName = friendlyName;
     }
+
+    public Map<String, byte[]> getFiles() {
+        return files;
+    }
+
+    public void setFiles(Map<String, byte[]> files) {
+        this.files = files;
+    }
 }
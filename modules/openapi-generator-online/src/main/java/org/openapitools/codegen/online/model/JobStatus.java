@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.model;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class JobStatus {
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED, TIMED_OUT;
+
+        public boolean isFinished() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+
+    private String code;
+    private State state;
+    private String message;
+    private String link;
+
+    public JobStatus() {}
+
+    public JobStatus(String code, State state, String message, String link) {
+        setCode(code);
+        setState(state);
+        setMessage(message);
+        setLink(link);
+    }
+
+    @ApiModelProperty(value = "Generation job code, also used as the file download code once the job has completed",
+            example = "d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    @ApiModelProperty(value = "Current state of the generation job", example = "QUEUED")
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    @ApiModelProperty(value = "Reason for a failed, cancelled or timed out job")
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @ApiModelProperty(
+            value = "URL for polling the job status, or for fetching the generated code once the job has completed",
+            example = "http://localhost:8080/api/gen/jobs/d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getLink() {
+        return link;
+    }
+
+    public void setLink(String link) {
+        this.link = link;
+    }
+}
@@ -17,51 +17,43 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CliOption;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
+import org.openapitools.codegen.GeneratorIndex;
 import org.openapitools.codegen.online.api.GenApiDelegate;
 import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 @Service
 public class GenApiService implements GenApiDelegate {
 
     private static List<String> clients = new ArrayList<>();
     private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
+        for (GeneratorIndex.Entry generator : CodegenConfigLoader.getIndex()) {
+            if (generator.getType().equals(CodegenType.CLIENT)
+                    || generator.getType().equals(CodegenType.DOCUMENTATION)) {
+                clients.add(generator.getName());
+            } else if (generator.getType().equals(CodegenType.SERVER)) {
+                servers.add(generator.getName());
             }
         }
 
@@ -72,46 +64,37 @@ public class GenApiService implements GenApiDelegate {
     @Autowired
     private NativeWebRequest request;
 
+    @Autowired
+    private GenerationJobService jobService;
+
+    @Autowired
+    private GeneratedStore generatedStore;
+
+    @Autowired
+    private GenerationCache generationCache;
+
     @Override
     public Optional<NativeWebRequest> getRequest() {
         return Optional.ofNullable(request);
     }
 
     @Override
-    public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
-        ByteArrayResource resource;
-        try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
-        }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
+    public ResponseEntity<StreamingResponseBody> downloadFile(String fileId) {
+        Generated g = generatedStore.take(fileId);
+        if (g == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired file id " + fileId);
         }
-        return ResponseEntity
-                .ok()
-                .contentType(MediaType.valueOf("application/zip"))
-                .header("Content-Disposition",
-                        "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
-                .header("Accept-Range", "bytes")
-                //.header("Content-Length", bytes.length)
-                .body(resource);
+        return getZipResponse(g);
     }
 
     @Override
     public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+        return getResponse(generateCachedClient(language, generatorInput));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamClient(String language, GeneratorInput generatorInput) {
+        return getZipResponse(generateCachedClient(language, generatorInput));
     }
 
     @Override
@@ -151,33 +134,83 @@ public class GenApiService implements GenApiDelegate {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        return getResponse(generateCachedServer(framework, generatorInput));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamServer(String framework, GeneratorInput generatorInput) {
+        return getZipResponse(generateCachedServer(framework, generatorInput));
+    }
 
-        return getResponse(filename, framework + "-server");
+    @Override
+    public ResponseEntity<JobStatus> submitClientJob(String language, GeneratorInput generatorInput) {
+        return submitJob(() -> generateCachedClient(language, generatorInput));
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> submitServerJob(String framework, GeneratorInput generatorInput) {
+        return submitJob(() -> generateCachedServer(framework, generatorInput));
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    @Override
+    public ResponseEntity<JobStatus> getJobStatus(String jobId) {
+        return jobService.find(jobId)
+                .map(job -> ResponseEntity.ok().body(getJobStatus(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> cancelJob(String jobId) {
+        return jobService.cancel(jobId)
+                .map(job -> ResponseEntity.ok().body(getJobStatus(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<JobStatus> submitJob(Callable<Generated> generation) {
+        GenerationJobService.Job job = jobService.submit(generation, generatedStore::put);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(getJobStatus(job));
+    }
+
+    private JobStatus getJobStatus(GenerationJobService.Job job) {
+        String path = job.getState() == JobStatus.State.COMPLETED ? "/api/gen/download/" : "/api/gen/jobs/";
+        String link = getUriBuilder().path(path).path(job.getCode()).toUriString();
+        return new JobStatus(job.getCode(), job.getState(), job.getMessage(), link);
+    }
+
+    private Generated generateCachedClient(String language, GeneratorInput generatorInput) {
+        return generationCache.get(language, Generator.Type.CLIENT, generatorInput,
+                () -> Generator.generateClient(language, generatorInput));
+    }
+
+    private Generated generateCachedServer(String framework, GeneratorInput generatorInput) {
+        return generationCache.get(framework, Generator.Type.SERVER, generatorInput,
+                () -> Generator.generateServer(framework, generatorInput));
+    }
+
+    private ResponseEntity<ResponseCode> getResponse(Generated g) {
+        String code = UUID.randomUUID().toString();
+        generatedStore.put(code, g);
+        String link = getUriBuilder().path("/api/gen/download/").path(code).toUriString();
+        return ResponseEntity.ok().body(new ResponseCode(code, link));
+    }
+
+    private ResponseEntity<StreamingResponseBody> getZipResponse(Generated g) {
+        StreamingResponseBody body = out -> new ZipUtil().compressFiles(g.getFolder(), g.getFiles(), out);
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.valueOf("application/zip"))
+                .header("Content-Disposition",
+                        "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
+                .body(body);
+    }
+
+    private UriComponentsBuilder getUriBuilder() {
         String host = System.getenv("GENERATOR_HOST");
 
-        UriComponentsBuilder uriBuilder;
         if (!StringUtils.isBlank(host)) {
-            uriBuilder = UriComponentsBuilder.fromUriString(host);
-        } else {
-            uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
-        }
-
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
-            return ResponseEntity.ok().body(new ResponseCode(code, link));
+            return UriComponentsBuilder.fromUriString(host);
         } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            return ServletUriComponentsBuilder.fromCurrentContextPath();
         }
     }
 
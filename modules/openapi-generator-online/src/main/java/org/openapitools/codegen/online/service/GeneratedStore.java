@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.openapitools.codegen.online.model.Generated;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Holds generated code until it is downloaded.
+ * <p>
+ * The store is bounded in size, and generated code which has not been downloaded within the configured time to live
+ * is evicted.
+ */
+@Service
+public class GeneratedStore {
+    private final Cache<String, Generated> generated;
+
+    public GeneratedStore(@Value("${generator.downloads.max-entries:256}") long maxEntries,
+                          @Value("${generator.downloads.ttl:30m}") Duration ttl) {
+        this.generated = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    public void put(String code, Generated g) {
+        generated.put(code, g);
+    }
+
+    /**
+     * Removes generated code from the store, as it can only be downloaded once.
+     *
+     * @param code the download code
+     * @return the generated code, or null if it is unknown or has expired
+     */
+    public Generated take(String code) {
+        return generated.asMap().remove(code);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.utils.ImplementationVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Caches generation results by content, so that repeated generations of the same specification with the same
+ * generator, options and generator version are served without parsing or generating again.
+ * <p>
+ * Results are held in a memory tier bounded by the total size of the generated files and, optionally, in an on-disk
+ * tier of zip archives bounded by the total size of the archives. Only specifications supplied inline are cached, as
+ * the contents behind a URL may change at any time.
+ */
+@Service
+public class GenerationCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationCache.class);
+
+    private final boolean enabled;
+    private final Cache<String, Generated> memory;
+    private final Path directory;
+    private final long directoryMaxSize;
+    private final Counter diskHits;
+    private final Counter diskMisses;
+
+    public GenerationCache(@Value("${generator.cache.enabled:true}") boolean enabled,
+                           @Value("${generator.cache.max-size:256MB}") DataSize maxSize,
+                           @Value("${generator.cache.directory:}") String directory,
+                           @Value("${generator.cache.directory-max-size:2GB}") DataSize directoryMaxSize,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .<String, Generated>weigher((key, g) -> (int) Math.min(Integer.MAX_VALUE, getSize(g)))
+                .recordStats()
+                .build();
+        this.directory = StringUtils.isBlank(directory) ? null : Paths.get(directory);
+        this.directoryMaxSize = directoryMaxSize.toBytes();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "generator.results");
+        this.diskHits = Counter.builder("generator.results.disk.gets").tag("result", "hit")
+                .description("Number of generation results found in the on-disk cache")
+                .register(meterRegistry);
+        this.diskMisses = Counter.builder("generator.results.disk.gets").tag("result", "miss")
+                .description("Number of generation results not found in the on-disk cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached result of a generation, generating and caching it if necessary.
+     *
+     * @param language the target generator
+     * @param type the type of generator
+     * @param input the generator input
+     * @param generation the generation to run on a cache miss
+     * @return the generated code
+     */
+    public Generated get(String language, Generator.Type type, GeneratorInput input, Supplier<Generated> generation) {
+        String key = getKey(language, type, input);
+        if (key == null) {
+            return generation.get();
+        }
+
+        Generated g = memory.getIfPresent(key);
+        if (g == null && directory != null) {
+            g = read(key, Generator.getFolder(language, input, type), Generator.getFriendlyName(language, type));
+            if (g != null) {
+                memory.put(key, g);
+            }
+        }
+        if (g == null) {
+            g = generation.get();
+            memory.put(key, g);
+            if (directory != null) {
+                write(key, g);
+            }
+        }
+        return g;
+    }
+
+    /**
+     * Computes the content address of a generation.
+     *
+     * @return the key, or null if the generation can't be cached
+     */
+    private String getKey(String language, Generator.Type type, GeneratorInput input) {
+        if (!enabled || input == null || input.getAuthorizationValue() != null) {
+            return null;
+        }
+        // an empty spec is ignored in favor of the URL, whose contents may change
+        if (input.getSpec() == null || "{}".equals(input.getSpec().toString()) || input.getOpenAPIUrl() != null) {
+            return null;
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, ImplementationVersion.read());
+        update(digest, type.getTypeName());
+        update(digest, language);
+        if (input.getOptions() != null) {
+            for (Map.Entry<String, String> option : new TreeMap<>(input.getOptions()).entrySet()) {
+                update(digest, option.getKey());
+                update(digest, option.getValue());
+            }
+        }
+        update(digest, input.getSpec().toString());
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format(Locale.ROOT, "%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // separate values, so that ("ab", "c") and ("a", "bc") don't collide
+        digest.update((byte) 0);
+    }
+
+    private static long getSize(Generated g) {
+        return g.getFiles().values().stream().mapToLong(contents -> contents.length).sum();
+    }
+
+    private Generated read(String key, String folder, String friendlyName) {
+        Path archive = directory.resolve(key + ".zip");
+        if (!Files.isRegularFile(archive)) {
+            diskMisses.increment();
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(archive)) {
+            Generated g = new Generated();
+            g.setFolder(folder);
+            g.setFriendlyName(friendlyName);
+            g.setFiles(new ZipUtil().decompressFiles(folder, in));
+            // keep recently used archives when trimming the directory
+            Files.setLastModifiedTime(archive, FileTime.fromMillis(System.currentTimeMillis()));
+            diskHits.increment();
+            return g;
+        } catch (IOException e) {
+            LOGGER.warn("unable to read cached generation {}", archive, e);
+            diskMisses.increment();
+            return null;
+        }
+    }
+
+    private void write(String key, Generated g) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new ZipUtil().compressFiles(g.getFolder(), g.getFiles(), out);
+            }
+            Files.move(tmp, directory.resolve(key + ".zip"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            trim();
+        } catch (IOException e) {
+            LOGGER.warn("unable to cache generation {} in {}", key, directory, e);
+        }
+    }
+
+    /**
+     * Deletes the least recently used archives until the directory fits its maximum size.
+     */
+    private synchronized void trim() throws IOException {
+        List<Path> archives;
+        try (Stream<Path> files = Files.list(directory)) {
+            archives = files.filter(f -> f.getFileName().toString().endsWith(".zip"))
+                    .sorted(Comparator.comparingLong(f -> f.toFile().lastModified()))
+                    .collect(Collectors.toList());
+        }
+        long size = 0;
+        for (Path archive : archives) {
+            size += archive.toFile().length();
+        }
+        for (Path archive : archives) {
+            if (size <= directoryMaxSize) {
+                break;
+            }
+            size -= archive.toFile().length();
+            Files.deleteIfExists(archive);
+        }
+    }
+}
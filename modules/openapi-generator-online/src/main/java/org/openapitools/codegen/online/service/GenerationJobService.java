@@ -0,0 +1,249 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.JobStatus.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs generations on a bounded worker pool so that large specifications do not tie up servlet threads.
+ * <p>
+ * Submissions beyond the configured queue capacity are rejected with {@link HttpStatus#TOO_MANY_REQUESTS}.
+ * Each job is cancelled once it has been running for longer than the configured timeout, and finished jobs
+ * are forgotten after the configured retention period.
+ */
+@Service
+public class GenerationJobService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJobService.class);
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService scheduler;
+    private final Duration timeout;
+    private final Duration retention;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public GenerationJobService(@Value("${generator.jobs.pool-size:4}") int poolSize,
+                                @Value("${generator.jobs.queue-capacity:32}") int queueCapacity,
+                                @Value("${generator.jobs.timeout:5m}") Duration timeout,
+                                @Value("${generator.jobs.retention:30m}") Duration retention,
+                                MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.retention = retention;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "generator-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "generator-job-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("generator.jobs.queue.size", executor, e -> e.getQueue().size())
+                .description("Number of generation jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("generator.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of generation jobs currently running")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("generator.jobs.rejected")
+                .description("Number of generation jobs rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a generation.
+     *
+     * @param generation the generation to run
+     * @param onComplete invoked with the job code and the generated code before the job is reported as completed
+     * @return the queued job
+     * @throws ResponseStatusException with {@link HttpStatus#TOO_MANY_REQUESTS} if the queue is full
+     */
+    public Job submit(Callable<Generated> generation, BiConsumer<String, Generated> onComplete) {
+        Job job = new Job(UUID.randomUUID().toString(), generation, onComplete);
+        jobs.put(job.getCode(), job);
+        try {
+            job.future = executor.submit(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getCode());
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many generations in progress, please retry later", e);
+        }
+        return job;
+    }
+
+    public Optional<Job> find(String code) {
+        return Optional.ofNullable(jobs.get(code));
+    }
+
+    /**
+     * Cancels a queued or running job. Finished jobs are left untouched.
+     *
+     * @param code the job code
+     * @return the job, if known
+     */
+    public Optional<Job> cancel(String code) {
+        Optional<Job> job = find(code);
+        job.ifPresent(j -> {
+            if (j.finish(State.CANCELLED, "Cancelled by request")) {
+                release(j);
+            }
+        });
+        return job;
+    }
+
+    private void run(Job job) {
+        if (!job.start()) {
+            return;
+        }
+        ScheduledFuture<?> deadline = scheduler.schedule(() -> {
+            if (job.finish(State.TIMED_OUT, "Generation did not complete within " + timeout)) {
+                release(job);
+            }
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        try {
+            // the result of a job which was cancelled or timed out while generating is discarded
+            job.complete(job.generation.call());
+        } catch (ResponseStatusException e) {
+            job.finish(State.FAILED, e.getReason());
+        } catch (Exception e) {
+            LOGGER.error("generation job {} failed", job.getCode(), e);
+            job.finish(State.FAILED, e.getMessage());
+        } finally {
+            deadline.cancel(false);
+            Timer.builder("generator.jobs.duration")
+                    .description("Time spent running generation jobs")
+                    .tag("outcome", job.getState().name().toLowerCase(Locale.ROOT))
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            scheduleExpiry(job);
+        }
+    }
+
+    private void release(Job job) {
+        if (job.future != null) {
+            job.future.cancel(true);
+            executor.purge();
+        }
+        scheduleExpiry(job);
+    }
+
+    private void scheduleExpiry(Job job) {
+        scheduler.schedule(() -> jobs.remove(job.getCode()), retention.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    public static class Job {
+        private final String code;
+        private final Callable<Generated> generation;
+        private final BiConsumer<String, Generated> onComplete;
+        private volatile State state = State.QUEUED;
+        private volatile String message;
+        private volatile Future<?> future;
+
+        Job(String code, Callable<Generated> generation, BiConsumer<String, Generated> onComplete) {
+            this.code = code;
+            this.generation = generation;
+            this.onComplete = onComplete;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        synchronized boolean start() {
+            if (state != State.QUEUED) {
+                return false;
+            }
+            state = State.RUNNING;
+            return true;
+        }
+
+        synchronized boolean complete(Generated generated) {
+            if (state != State.RUNNING) {
+                return false;
+            }
+            onComplete.accept(code, generated);
+            state = State.COMPLETED;
+            return true;
+        }
+
+        synchronized boolean finish(State finalState, String reason) {
+            if (state.isFinished()) {
+                return false;
+            }
+            state = finalState;
+            message = reason;
+            return true;
+        }
+    }
+}
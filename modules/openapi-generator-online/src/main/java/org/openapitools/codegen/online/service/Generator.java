@@ -26,7 +26,7 @@ import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
-import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,12 +34,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.File;
-import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 
 public class Generator {
     private static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
@@ -73,15 +75,15 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
+    public static Generated generateClient(String language, GeneratorInput opts) {
         return generate(language, opts, Type.CLIENT);
     }
 
-    public static String generateServer(String language, GeneratorInput opts) {
+    public static Generated generateServer(String language, GeneratorInput opts) {
         return generate(language, opts, Type.SERVER);
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type) {
+    private static Generated generate(String language, GeneratorInput opts, Type type) {
         LOGGER.debug(String.format(Locale.ROOT,"generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
@@ -118,18 +120,12 @@ public class Generator {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The OpenAPI specification supplied was not valid");
         }
 
-        String destPath = null;
-
-        if (opts.getOptions() != null) {
-            destPath = opts.getOptions().get("outputFolder");
-        }
-        if (destPath == null) {
-            destPath = language + "-" + type.getTypeName();
-        }
+        String folder = getFolder(language, opts, type);
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
+        // nothing is ever written to the output folder, it merely serves as a root for the generated file names
+        String outputFolder = Paths.get(System.getProperty("java.io.tmpdir"), "codegen-" + UUID.randomUUID())
+                .resolve(folder).toString();
 
         clientOptInput.openAPI(openapi);
 
@@ -149,44 +145,50 @@ public class Generator {
 
         clientOptInput.config(codegenConfig);
 
+        InMemoryGenerator generator = new InMemoryGenerator();
         try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to {}", outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                        "A target generation was attempted, but no files were created!");
-            }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
-                }
-            }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
-            }
+            generator.opts(clientOptInput).generate();
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
         }
-        return outputFilename;
+        if (generator.getFiles().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A target generation was attempted, but no files were created!");
+        }
+
+        Generated generated = new Generated();
+        generated.setFolder(folder);
+        generated.setFriendlyName(getFriendlyName(language, type));
+        generated.setFiles(generator.getFiles());
+        return generated;
     }
 
-    private static File getTmpFolder() {
-        try {
-            File outputFolder = Files.createTempDirectory("codegen-tmp").toFile();
-            outputFolder.deleteOnExit();
-            return outputFolder;
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Cannot access tmp folder");
+    /**
+     * Determines the folder which generated files are placed in within the zip archive.
+     *
+     * @param language the target generator
+     * @param opts the generator input
+     * @param type the type of generator
+     * @return the requested {@code outputFolder}, or a name derived from the generator
+     */
+    static String getFolder(String language, GeneratorInput opts, Type type) {
+        String destPath = null;
+
+        if (opts.getOptions() != null) {
+            destPath = opts.getOptions().get("outputFolder");
         }
+        if (destPath == null) {
+            destPath = language + "-" + type.getTypeName();
+        }
+
+        Path folder = Paths.get(destPath).normalize();
+        if (folder.isAbsolute() || folder.startsWith("..")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid outputFolder " + destPath + " supplied");
+        }
+        return folder.toString().replace(File.separatorChar, '/');
+    }
+
+    static String getFriendlyName(String language, Type type) {
+        return language + "-" + type.getTypeName();
     }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplateProcessor;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A {@link DefaultGenerator} which renders all files into memory, leaving the output folder untouched.
+ */
+public class InMemoryGenerator extends DefaultGenerator {
+    private InMemoryTemplateManager inMemoryTemplateManager;
+
+    @Override
+    protected TemplateProcessor createTemplateProcessor(TemplateManagerOptions templateManagerOptions,
+                                                        TemplatingEngineAdapter templatingEngine,
+                                                        TemplatePathLocator[] templateLocators) {
+        inMemoryTemplateManager = new InMemoryTemplateManager(templateManagerOptions, templatingEngine,
+                templateLocators, config.getOutputDir());
+        return inMemoryTemplateManager;
+    }
+
+    @Override
+    protected boolean writesToFileSystem() {
+        return false;
+    }
+
+    /**
+     * @return The generated files, keyed by their path relative to the output folder.
+     */
+    public Map<String, byte[]> getFiles() {
+        return inMemoryTemplateManager == null ? Collections.emptyMap() : inMemoryTemplateManager.getFiles();
+    }
+}
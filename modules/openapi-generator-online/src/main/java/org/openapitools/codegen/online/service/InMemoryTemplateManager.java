@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.apache.commons.io.IOUtils;
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link TemplateManager} which keeps generated files in memory instead of writing them to the output folder.
+ */
+public class InMemoryTemplateManager extends TemplateManager {
+    private final Path outputDir;
+    private final Map<String, byte[]> files = new LinkedHashMap<>();
+
+    /**
+     * Constructs a new instance of an {@link InMemoryTemplateManager}
+     *
+     * @param options The {@link TemplateManagerOptions} for reading templates
+     * @param engineAdapter The adaptor to underlying templating engine
+     * @param templateLoaders Loaders which define where we look for templates
+     * @param outputDir The output folder which captured file names are relative to. It is never written to.
+     */
+    public InMemoryTemplateManager(TemplateManagerOptions options,
+                                   TemplatingEngineAdapter engineAdapter,
+                                   TemplatePathLocator[] templateLoaders,
+                                   String outputDir) {
+        super(options, engineAdapter, templateLoaders);
+        this.outputDir = Paths.get(outputDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Captures the contents of a generated file.
+     *
+     * @param filename The name of file to capture, which must reside in the output folder
+     * @param contents The contents bytes.
+     * @return File representing the captured file. The file does not exist.
+     * @throws IOException If the file lies outside of the output folder.
+     */
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        Path target = Paths.get(filename).toAbsolutePath().normalize();
+        if (!target.startsWith(outputDir)) {
+            throw new IOException("Refusing to write " + filename + " outside of the output folder");
+        }
+        // zip entries always use forward slashes
+        files.put(outputDir.relativize(target).toString().replace(File.separatorChar, '/'), contents);
+        return target.toFile();
+    }
+
+    /**
+     * Captures the contents of a copied file, such as a binary supporting file.
+     *
+     * @param filename The name of file to capture, which must reside in the output folder
+     * @param contents The contents stream.
+     * @return File representing the captured file. The file does not exist.
+     * @throws IOException If the file lies outside of the output folder or the stream can't be read.
+     */
+    @Override
+    public File writeToFile(String filename, InputStream contents) throws IOException {
+        return writeToFile(filename, IOUtils.toByteArray(contents));
+    }
+
+    /**
+     * @return The captured files, keyed by their path relative to the output folder, in the order they were generated.
+     */
+    public Map<String, byte[]> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+}
@@ -17,109 +17,63 @@
 
 package org.openapitools.codegen.online.service;
 
-import java.io.BufferedInputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import org.apache.commons.io.IOUtils;
+
 import java.io.IOException;
-import java.util.List;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 /**
- * This utility compresses a list of files to standard ZIP format file. It is able to compresses all
- * sub files and sub directories, recursively.
+ * This utility compresses generated files held in memory to standard ZIP format, writing the archive directly to
+ * an output stream, and reads such archives back into memory.
  *
  * @author Ha Minh Nam
  *
  */
 public class ZipUtil {
     /**
-     * A constants for buffer size used to read/write data.
-     */
-    private static final int BUFFER_SIZE = 4096;
-
-    /**
-     * Compresses a collection of files to a destination zip file.
-     *
-     * @param listFiles A collection of files and directories
-     * @param destZipFile The path of the destination zip file
-     * @throws FileNotFoundException if file not found
-     * @throws IOException if IO exception occurs
-     */
-    public void compressFiles(List<File> listFiles, String destZipFile)
-            throws IOException {
-
-        try (FileOutputStream fileOutputStream = new FileOutputStream(destZipFile);
-             ZipOutputStream zos = new ZipOutputStream(fileOutputStream)) {
-
-            for (File file : listFiles) {
-                if (file.isDirectory()) {
-                    addFolderToZip(file, file.getName(), zos);
-                } else {
-                    addFileToZip(file, zos);
-                }
-            }
-
-            zos.flush();
-        }
-    }
-
-    /**
-     * Adds a directory to the current zip output stream.
+     * Compresses a collection of files to a zip archive.
      *
-     * @param folder the directory to be added
-     * @param parentFolder the path of parent directory
-     * @param zos the current zip output stream
-     * @throws FileNotFoundException if file not found
+     * @param folder The folder all files are placed in within the archive
+     * @param files The file contents, keyed by their path relative to {@code folder}
+     * @param out The stream to write the zip archive to. It is finished, but not closed.
      * @throws IOException if IO exception occurs
      */
-    private void addFolderToZip(File folder, String parentFolder, ZipOutputStream zos)
-            throws FileNotFoundException, IOException {
-        for (File file : folder.listFiles()) {
-            if (file.isDirectory()) {
-                addFolderToZip(file, parentFolder + "/" + file.getName(), zos);
-                continue;
-            }
-
-            zos.putNextEntry(new ZipEntry(parentFolder + "/" + file.getName()));
-
-            try (FileInputStream fileInputStream = new FileInputStream(file);
-                 BufferedInputStream bis = new BufferedInputStream(fileInputStream)) {
-                byte[] bytesIn = new byte[BUFFER_SIZE];
-                int read;
-                while ((read = bis.read(bytesIn)) != -1) {
-                    zos.write(bytesIn, 0, read);
-                }
-            }
-
+    public void compressFiles(String folder, Map<String, byte[]> files, OutputStream out) throws IOException {
+        ZipOutputStream zos = new ZipOutputStream(out);
+        for (Map.Entry<String, byte[]> file : files.entrySet()) {
+            zos.putNextEntry(new ZipEntry(folder + "/" + file.getKey()));
+            zos.write(file.getValue());
             zos.closeEntry();
-
         }
+        zos.finish();
+        zos.flush();
     }
 
     /**
-     * Adds a file to the current zip output stream.
+     * Reads a zip archive written by {@link #compressFiles(String, Map, OutputStream)} back into memory.
      *
-     * @param file the file to be added
-     * @param zos the current zip output stream
-     * @throws FileNotFoundException if file not found
-     * @throws IOException if IO exception occurs
+     * @param folder The folder all files were placed in within the archive
+     * @param in The stream to read the zip archive from
+     * @return The file contents, keyed by their path relative to {@code folder}
+     * @throws IOException if IO exception occurs, or the archive contains files outside of {@code folder}
      */
-    private static void addFileToZip(File file, ZipOutputStream zos) throws FileNotFoundException,
-            IOException {
-        zos.putNextEntry(new ZipEntry(file.getName()));
-
-        try (FileInputStream fileInputStream = new FileInputStream(file);
-             BufferedInputStream bis = new BufferedInputStream(fileInputStream)) {
-            byte[] bytesIn = new byte[BUFFER_SIZE];
-            int read;
-            while ((read = bis.read(bytesIn)) != -1) {
-                zos.write(bytesIn, 0, read);
+    public Map<String, byte[]> decompressFiles(String folder, InputStream in) throws IOException {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        String prefix = folder + "/";
+        ZipInputStream zis = new ZipInputStream(in);
+        ZipEntry entry;
+        while ((entry = zis.getNextEntry()) != null) {
+            if (!entry.getName().startsWith(prefix)) {
+                throw new IOException("Unexpected zip entry " + entry.getName());
             }
+            files.put(entry.getName().substring(prefix.length()), IOUtils.toByteArray(zis));
         }
-
-        zos.closeEntry();
+        return files;
     }
 }
@@ -0,0 +1,56 @@
+package org.openapitools.codegen.online.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.GeneratorInput;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GenerationCacheTest {
+
+    private final GenerationCache cache = new GenerationCache(true, DataSize.ofMegabytes(1), "",
+            DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+    private final AtomicInteger generations = new AtomicInteger();
+
+    @Test
+    public void inlineSpecsAreCached() throws Exception {
+        Generated first = cache.get("java", Generator.Type.CLIENT, input("{\"openapi\": \"3.0.1\"}", null), this::generate);
+        Generated second = cache.get("java", Generator.Type.CLIENT, input("{\"openapi\": \"3.0.1\"}", null), this::generate);
+
+        assertSame(first, second);
+        assertEquals(1, generations.get());
+    }
+
+    @Test
+    public void emptySpecsWithDifferentUrlsAreNotCached() throws Exception {
+        Generated first = cache.get("java", Generator.Type.CLIENT, input("{}", "https://example.com/a.yaml"), this::generate);
+        Generated second = cache.get("java", Generator.Type.CLIENT, input("{}", "https://example.com/b.yaml"), this::generate);
+
+        assertEquals(2, generations.get());
+        assertEquals("1", new String(first.getFiles().get("generation"), StandardCharsets.UTF_8));
+        assertEquals("2", new String(second.getFiles().get("generation"), StandardCharsets.UTF_8));
+    }
+
+    private static GeneratorInput input(String spec, String url) throws Exception {
+        GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree(spec));
+        input.setOpenAPIUrl(url);
+        return input;
+    }
+
+    private Generated generate() {
+        Generated g = new Generated();
+        g.setFolder("java-client");
+        g.setFiles(Collections.singletonMap("generation",
+                String.valueOf(generations.incrementAndGet()).getBytes(StandardCharsets.UTF_8)));
+        return g;
+    }
+}
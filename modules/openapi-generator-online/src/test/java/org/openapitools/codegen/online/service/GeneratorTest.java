@@ -0,0 +1,61 @@
+package org.openapitools.codegen.online.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.GeneratorInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratorTest {
+
+    private static final String SPEC = "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"ping\", \"version\": \"1.0\"},"
+            + " \"paths\": {\"/ping\": {\"get\": {\"operationId\": \"ping\", \"responses\": {\"200\": {\"description\": \"OK\"}}}}}}";
+
+    @Test
+    public void binarySupportingFilesAreZipped() throws Exception {
+        Map<String, byte[]> files = zip(Generator.generateClient("java", input()));
+
+        byte[] jar = files.get("gradle/wrapper/gradle-wrapper.jar");
+        assertTrue("gradle-wrapper.jar is missing", jar != null && jar.length > 0);
+        // a jar is a zip archive, which starts with the local file header signature
+        assertArrayEquals(new byte[]{'P', 'K', 3, 4}, new byte[]{jar[0], jar[1], jar[2], jar[3]});
+    }
+
+    @Test
+    public void yamlSpecIsZipped() throws Exception {
+        Map<String, byte[]> files = zip(Generator.generateServer("openapi-yaml", input()));
+
+        byte[] yaml = files.get("openapi/openapi.yaml");
+        assertTrue("openapi/openapi.yaml is missing", yaml != null);
+        assertTrue(new String(yaml, StandardCharsets.UTF_8).contains("operationId: ping"));
+    }
+
+    @Test
+    public void jsonSpecIsZipped() throws Exception {
+        Map<String, byte[]> files = zip(Generator.generateServer("openapi", input()));
+
+        byte[] json = files.get("openapi.json");
+        assertTrue("openapi.json is missing", json != null);
+        assertTrue(new String(json, StandardCharsets.UTF_8).contains("\"operationId\" : \"ping\""));
+    }
+
+    private static GeneratorInput input() throws Exception {
+        GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree(SPEC));
+        return input;
+    }
+
+    private static Map<String, byte[]> zip(Generated generated) throws Exception {
+        ZipUtil zipUtil = new ZipUtil();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        zipUtil.compressFiles(generated.getFolder(), generated.getFiles(), out);
+        return zipUtil.decompressFiles(generated.getFolder(), new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -30,6 +30,7 @@ import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.postprocess.FilePostProcessor;
 
 import java.io.File;
 import java.util.List;
@@ -201,6 +202,15 @@ public interface CodegenConfig {
 
     Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs);
 
+    /**
+     * Whether the models can be generated one at a time, each model being converted, rendered and released before
+     * the next one. {@link #updateAllModels(Map)} and {@link #postProcessAllModels(Map)} are then not called, and the
+     * operations and supporting files only get a summary of each model (name, class name and file name, description).
+     *
+     * @return true if the generator needs no cross-model processing
+     */
+    boolean isModelStreamingSupported();
+
     ModelsMap postProcessModels(ModelsMap objs);
 
     OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels);
@@ -286,6 +296,14 @@ public interface CodegenConfig {
 
     void postProcessFile(File file, String fileType);
 
+    /**
+     * Returns the post-processor the generated files can be handed to in batches, or null if files are only
+     * post-processed one at a time through {@link #postProcessFile(File, String)}.
+     *
+     * @return the post-processor, or null
+     */
+    FilePostProcessor getFilePostProcessor();
+
     boolean isEnablePostProcessFile();
 
     void setEnablePostProcessFile(boolean isEnablePostProcessFile);
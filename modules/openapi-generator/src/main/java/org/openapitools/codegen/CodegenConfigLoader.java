@@ -17,38 +17,60 @@
 
 package org.openapitools.codegen;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class CodegenConfigLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigLoader.class);
+
+    private static final String SERVICES = "META-INF/services/" + CodegenConfig.class.getName();
+
+    private static volatile List<GeneratorIndex.Entry> index;
+
     /**
-     * Tries to load config class with SPI first, then with class name directly from classpath
+     * Tries to load config class from the generator index first, then with class name directly from classpath
      *
      * @param name name of config, or full qualified class name in classpath
      * @return config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
-
-        StringBuilder availableConfigs = new StringBuilder();
-
-        for (CodegenConfig config : loader) {
-            if (config.getName().equals(name)) {
-                return config;
+        for (GeneratorIndex.Entry entry : getIndex()) {
+            if (entry.getName().equals(name)) {
+                return newInstance(entry.getClassName());
             }
-
-            availableConfigs.append(config.getName()).append("\n");
         }
 
         // else try to load directly
         try {
             return (CodegenConfig) Class.forName(name).getDeclaredConstructor().newInstance();
         } catch (Exception e) {
+            String availableConfigs = getIndex().stream()
+                    .map(GeneratorIndex.Entry::getName)
+                    .collect(Collectors.joining("\n", "", "\n"));
             throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n" + availableConfigs, e);
         }
     }
 
+    /**
+     * Instantiates all available generators. Prefer {@link #getIndex()} where the generators are only listed.
+     *
+     * @return all available generators
+     */
     public static List<CodegenConfig> getAll() {
         ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
         List<CodegenConfig> output = new ArrayList<CodegenConfig>();
@@ -57,4 +79,94 @@ public class CodegenConfigLoader {
         }
         return output;
     }
+
+    /**
+     * Lists all available generators without instantiating them.
+     * <p>
+     * Generators are read from the generator index built with each generator jar. Only generators registered as
+     * {@link CodegenConfig} services in jars without an index, such as custom generators, are instantiated, once, to
+     * describe them.
+     *
+     * @return all available generators
+     */
+    public static List<GeneratorIndex.Entry> getIndex() {
+        List<GeneratorIndex.Entry> entries = index;
+        if (entries == null) {
+            synchronized (CodegenConfigLoader.class) {
+                entries = index;
+                if (entries == null) {
+                    entries = Collections.unmodifiableList(loadIndex(CodegenConfig.class.getClassLoader()));
+                    index = entries;
+                }
+            }
+        }
+        return entries;
+    }
+
+    static List<GeneratorIndex.Entry> loadIndex(ClassLoader classLoader) {
+        List<GeneratorIndex.Entry> entries;
+        try {
+            entries = GeneratorIndex.load(classLoader);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read the generator index, generators will be instantiated to list them", e);
+            entries = new ArrayList<>();
+        }
+
+        Set<String> indexed = entries.stream().map(GeneratorIndex.Entry::getClassName).collect(Collectors.toSet());
+        for (String className : getServiceClassNames(classLoader)) {
+            if (indexed.contains(className)) {
+                continue;
+            }
+            try {
+                GeneratorIndex.Entry entry = GeneratorIndex.Entry.of(newInstance(className, classLoader));
+                if (entries.stream().noneMatch(e -> e.getName().equals(entry.getName()))) {
+                    entries.add(entry);
+                }
+            } catch (GeneratorNotFoundException e) {
+                LOGGER.warn("Unable to load generator {}", className, e);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the provider class names from the {@link CodegenConfig} service files, following the
+     * {@link ServiceLoader} file format, so that providers can be compared with the index without instantiating them.
+     */
+    private static Set<String> getServiceClassNames(ClassLoader classLoader) {
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> services = classLoader.getResources(SERVICES);
+            while (services.hasMoreElements()) {
+                URL url = services.nextElement();
+                try (InputStream in = url.openStream();
+                     BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int comment = line.indexOf('#');
+                        String className = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                        if (!className.isEmpty()) {
+                            classNames.add(className);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read the generator service files", e);
+        }
+        return classNames;
+    }
+
+    private static CodegenConfig newInstance(String className) {
+        return newInstance(className, CodegenConfig.class.getClassLoader());
+    }
+
+    private static CodegenConfig newInstance(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, true, classLoader).asSubclass(CodegenConfig.class)
+                    .getDeclaredConstructor().newInstance();
+        } catch (Exception | LinkageError e) {
+            throw new GeneratorNotFoundException("Can't load config class with name '" + className + "'", e);
+        }
+    }
 }
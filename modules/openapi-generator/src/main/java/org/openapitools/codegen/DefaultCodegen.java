@@ -33,6 +33,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.openapitools.codegen.CodegenDiscriminator.MappedModel;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.examples.ExampleCache;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.openapitools.codegen.languages.RustServerCodegen;
 import org.openapitools.codegen.meta.FeatureSet;
@@ -42,6 +43,7 @@ import org.openapitools.codegen.meta.features.*;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.postprocess.FilePostProcessor;
 import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.mustache.*;
@@ -287,6 +289,9 @@ public class DefaultCodegen implements CodegenConfig {
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
     private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
 
+    // The examples of models rendered for operations, reused by all the operations referencing the same model
+    private final ExampleCache exampleCache = new ExampleCache();
+
     protected boolean loadDeepObjectIntoItems = true;
 
     // if true then baseTypes will be imported
@@ -553,6 +558,11 @@ public class DefaultCodegen implements CodegenConfig {
         return objs;
     }
 
+    @Override
+    public boolean isModelStreamingSupported() {
+        return false;
+    }
+
     private boolean codegenPropertyIsNew(CodegenModel model, CodegenProperty property) {
         return model.parentModel == null
             ? false
@@ -893,6 +903,7 @@ public class DefaultCodegen implements CodegenConfig {
             LOGGER.warn(UNSUPPORTED_V310_SPEC_MSG);
         }
         this.openAPI = openAPI;
+        this.exampleCache.clear();
         // Set global settings such that helper functions in ModelUtils can lookup the value
         // of the CLI option.
         ModelUtils.setDisallowAdditionalPropertiesIfNotPresent(getDisallowAdditionalPropertiesIfNotPresent());
@@ -4208,7 +4219,7 @@ public class DefaultCodegen implements CodegenConfig {
                         exampleStatusCode = key;
                     }
                 }
-                op.examples = new ExampleGenerator(schemas, this.openAPI).generateFromResponseSchema(exampleStatusCode, responseSchema, getProducesInfo(this.openAPI, operation));
+                op.examples = new ExampleGenerator(schemas, this.openAPI, exampleCache).generateFromResponseSchema(exampleStatusCode, responseSchema, getProducesInfo(this.openAPI, operation));
             }
 
             op.defaultResponse = toDefaultValue(responseSchema);
@@ -4452,7 +4463,7 @@ public class DefaultCodegen implements CodegenConfig {
 
                 // add example
                 if (schemas != null && !isSkipOperationExample()) {
-                    op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
+                    op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI, exampleCache).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
                 }
             }
         }
@@ -7584,6 +7595,22 @@ public class DefaultCodegen implements CodegenConfig {
     @Override
     public void postProcessFile(File file, String fileType) {
         LOGGER.debug("Post processing file {} ({})", file, fileType);
+        FilePostProcessor postProcessor = getFilePostProcessor();
+        if (postProcessor != null && postProcessor.accepts(file, fileType)) {
+            postProcessor.process(Collections.singletonList(file));
+        }
+    }
+
+    /**
+     * Returns the post-processor the generated files can be handed to in batches. Generators configuring an external
+     * formatter through an environment variable return e.g. {@code FilePostProcessor.forCommand(command, "java")},
+     * which {@link DefaultGenerator} then runs on many files per invocation.
+     *
+     * @return the post-processor, or null if there is nothing to post-process
+     */
+    @Override
+    public FilePostProcessor getFilePostProcessor() {
+        return null;
     }
 
     /**
@@ -49,6 +49,8 @@ import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.postprocess.FilePostProcessor;
+import org.openapitools.codegen.postprocess.PostProcessingStage;
 import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.CommonTemplateContentLocator;
 import org.openapitools.codegen.templating.GeneratorTemplateContentLocator;
@@ -96,6 +98,7 @@ public class DefaultGenerator implements Generator {
     private String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
     protected TemplateProcessor templateProcessor = null;
+    private PostProcessingStage postProcessingStage;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
 
@@ -134,7 +137,7 @@ public class DefaultGenerator implements Generator {
 
             TemplatePathLocator commonTemplateLocator = new CommonTemplateContentLocator();
             TemplatePathLocator generatorTemplateLocator = new GeneratorTemplateContentLocator(this.config);
-            this.templateProcessor = new TemplateManager(
+            this.templateProcessor = createTemplateProcessor(
                     templateManagerOptions,
                     templatingEngine,
                     new TemplatePathLocator[]{generatorTemplateLocator, commonTemplateLocator}
@@ -158,6 +161,60 @@ public class DefaultGenerator implements Generator {
         return this;
     }
 
+    /**
+     * Creates the template processor used to render and write templates for a generation which isn't a dry run.
+     * Override this to direct generated output somewhere other than the output folder, in which case
+     * {@link #writesToFileSystem()} should be overridden as well.
+     *
+     * @param templateManagerOptions The options for reading and writing templates
+     * @param templatingEngine The adapter to the underlying templating engine
+     * @param templateLocators Locators which define where templates are looked up
+     * @return A new {@link TemplateProcessor}
+     */
+    protected TemplateProcessor createTemplateProcessor(TemplateManagerOptions templateManagerOptions,
+                                                        TemplatingEngineAdapter templatingEngine,
+                                                        TemplatePathLocator[] templateLocators) {
+        return new TemplateManager(templateManagerOptions, templatingEngine, templateLocators);
+    }
+
+    /**
+     * Whether generated files end up in the output folder, which is a prerequisite for creating output directories
+     * and post-processing generated files.
+     *
+     * @return false for dry runs, true otherwise
+     */
+    protected boolean writesToFileSystem() {
+        return !dryRun;
+    }
+
+    /**
+     * Post-processes a generated file, or queues it when the generator post-processes its files in batches.
+     *
+     * @param file     the generated file
+     * @param fileType the type of the generated file
+     */
+    private void postProcessFile(File file, String fileType) {
+        if (!config.isEnablePostProcessFile() || !writesToFileSystem()) {
+            return;
+        }
+        if (postProcessingStage == null || !postProcessingStage.offer(file, fileType)) {
+            config.postProcessFile(file, fileType);
+        }
+    }
+
+    private PostProcessingStage createPostProcessingStage() {
+        FilePostProcessor postProcessor = config.isEnablePostProcessFile() && writesToFileSystem()
+                ? config.getFilePostProcessor() : null;
+        if (postProcessor == null) {
+            return null;
+        }
+        int batchSize = Integer.parseInt(GlobalSettings.getProperty(PostProcessingStage.BATCH_SIZE,
+                String.valueOf(PostProcessingStage.DEFAULT_BATCH_SIZE)));
+        int parallelism = Integer.parseInt(GlobalSettings.getProperty(PostProcessingStage.PARALLELISM,
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        return new PostProcessingStage(postProcessor, batchSize, parallelism);
+    }
+
     /**
      * Retrieves an instance to the configured template processor, available after user-defined options are
      * applied via {@link DefaultGenerator#opts(ClientOptInput)}.
@@ -374,9 +431,7 @@ public class DefaultGenerator implements Generator {
                     File written = processTemplateToFile(models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
                     if (written != null) {
                         files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "model-test");
-                        }
+                        postProcessFile(written, "model-test");
                     }
                 }
             } else if (dryRun) {
@@ -395,9 +450,7 @@ public class DefaultGenerator implements Generator {
             File written = processTemplateToFile(models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS);
             if (written != null) {
                 files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model-doc");
-                }
+                postProcessFile(written, "model-doc");
             }
         }
     }
@@ -408,9 +461,7 @@ public class DefaultGenerator implements Generator {
             File written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS);
             if (written != null) {
                 files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model");
-                }
+                postProcessFile(written, "model");
             }
         }
     }
@@ -446,134 +497,213 @@ public class DefaultGenerator implements Generator {
             modelKeys = updatedKeys;
         }
 
-        // store all processed models
-        Map<String, ModelsMap> allProcessedModels = new TreeMap<>((o1, o2) -> ObjectUtils.compare(config.toModelName(o1), config.toModelName(o2)));
+        Comparator<String> byModelName = (o1, o2) -> ObjectUtils.compare(config.toModelName(o1), config.toModelName(o2));
 
         Boolean skipFormModel = GlobalSettings.getProperty(CodegenConstants.SKIP_FORM_MODEL) != null ?
                 Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.SKIP_FORM_MODEL)) :
                 getGeneratorPropertyDefaultSwitch(CodegenConstants.SKIP_FORM_MODEL, true);
 
-        // process models only
-        for (String name : modelKeys) {
-            try {
-                //don't generate models that have an import mapping
-                if (config.schemaMapping().containsKey(name)) {
-                    LOGGER.debug("Model {} not imported due to import mapping", name);
-
-                    for (String templateName : config.modelTemplateFiles().keySet()) {
-                        // HACK: Because this returns early, could lead to some invalid model reporting.
-                        String filename = config.modelFilename(templateName, name);
-                        Path path = java.nio.file.Paths.get(filename);
-                        this.templateProcessor.skip(path,"Skipped prior to model processing due to schema mapping." );
-                    }
-                    continue;
+        if (config.isModelStreamingSupported()) {
+            streamModels(files, allModels, unusedModels, schemas, modelKeys, byModelName, skipFormModel);
+        } else {
+            // store all processed models
+            Map<String, ModelsMap> allProcessedModels = new TreeMap<>(byModelName);
+
+            // process models only
+            for (String name : modelKeys) {
+                ModelsMap models = processModel(name, schemas.get(name), unusedModels, skipFormModel);
+                if (models != null) {
+                    allProcessedModels.put(name, models);
                 }
+            }
 
-                // don't generate models that are not used as object (e.g. form parameters)
-                if (unusedModels.contains(name)) {
-                    if (Boolean.FALSE.equals(skipFormModel)) {
-                        // if skipFormModel sets to true, still generate the model and log the result
-                        LOGGER.info("Model {} (marked as unused due to form parameters) is generated due to the global property `skipFormModel` set to false", name);
-                    } else {
-                        LOGGER.info("Model {} not generated since it's marked as unused (due to form parameters) and `skipFormModel` (global property) set to true (default)", name);
-                        // TODO: Should this be added to dryRun? If not, this seems like a weird place to return early from processing.
-                        continue;
-                    }
-                }
+            // loop through all models to update children models, isSelfReference, isCircularReference, etc
+            allProcessedModels = config.updateAllModels(allProcessedModels);
 
-                Schema schema = schemas.get(name);
-
-                if (ModelUtils.isFreeFormObject(this.openAPI, schema)) { // check to see if it's a free-form object
-                    // there are 3 free form use cases
-                    // 1. free form with no validation that is not allOf included in any composed schemas
-                    // 2. free form with validation
-                    // 3. free form that is allOf included in any composed schemas
-                    //      this use case arises when using interface schemas
-                    // generators may choose to make models for use case 2 + 3
-                    Schema refSchema = new Schema();
-                    refSchema.set$ref("#/components/schemas/" + name);
-                    Schema unaliasedSchema = config.unaliasSchema(refSchema);
-                    if (unaliasedSchema.get$ref() == null) {
-                        LOGGER.info("Model {} not generated since it's a free-form object", name);
-                        continue;
-                    }
-                } else if (ModelUtils.isMapSchema(schema)) { // check to see if it's a "map" model
-                    // A composed schema (allOf, oneOf, anyOf) is considered a Map schema if the additionalproperties attribute is set
-                    // for that composed schema. However, in the case of a composed schema, the properties are defined or referenced
-                    // in the inner schemas, and the outer schema does not have properties.
-                    if (!ModelUtils.isGenerateAliasAsModel(schema) && !ModelUtils.isComposedSchema(schema) && (schema.getProperties() == null || schema.getProperties().isEmpty())) {
-                        // schema without property, i.e. alias to map
-                        LOGGER.info("Model {} not generated since it's an alias to map (without property) and `generateAliasAsModel` is set to false (default)", name);
-                        continue;
-                    }
-                } else if (ModelUtils.isArraySchema(schema)) { // check to see if it's an "array" model
-                    if (!ModelUtils.isGenerateAliasAsModel(schema) && (schema.getProperties() == null || schema.getProperties().isEmpty())) {
-                        // schema without property, i.e. alias to array
-                        LOGGER.info("Model {} not generated since it's an alias to array (without property) and `generateAliasAsModel` is set to false (default)", name);
-                        continue;
-                    }
-                }
+            // post process all processed models
+            allProcessedModels = config.postProcessAllModels(allProcessedModels);
 
-                Map<String, Schema> schemaMap = new HashMap<>();
-                schemaMap.put(name, schema);
-                ModelsMap models = processModels(config, schemaMap);
-                models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
-                allProcessedModels.put(name, models);
-            } catch (Exception e) {
-                throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
+            // generate files based on processed models
+            for (String modelName : allProcessedModels.keySet()) {
+                ModelMap generated = generateModelFiles(files, modelName, allProcessedModels.get(modelName));
+                if (generated != null) {
+                    allModels.add(generated);
+                }
             }
         }
+        if (GlobalSettings.getProperty("debugModels") != null) {
+            LOGGER.info("############ Model info ############");
+            Json.prettyPrint(allModels);
+        }
+
+    }
+
+    /**
+     * Converts, renders and releases the models one at a time, for generators which need no cross-model processing.
+     * Only a summary of each generated model is kept for the operations and supporting files.
+     */
+    private void streamModels(List<File> files, List<ModelMap> allModels, List<String> unusedModels, Map<String, Schema> schemas,
+                              Set<String> modelKeys, Comparator<String> byModelName, Boolean skipFormModel) {
+        // same order, and same winner when names collide, as when all the models are processed first
+        Map<String, String> orderedNames = new TreeMap<>(byModelName);
+        for (String name : modelKeys) {
+            orderedNames.put(name, name);
+        }
 
-        // loop through all models to update children models, isSelfReference, isCircularReference, etc
-        allProcessedModels = config.updateAllModels(allProcessedModels);
+        for (Map.Entry<String, String> entry : orderedNames.entrySet()) {
+            String name = entry.getValue();
+            ModelsMap models = processModel(name, schemas.get(name), unusedModels, skipFormModel);
+            if (models == null) {
+                continue;
+            }
+            ModelMap generated = generateModelFiles(files, entry.getKey(), models);
+            if (generated != null) {
+                allModels.add(summarizeModel(generated));
+            }
+        }
+    }
 
-        // post process all processed models
-        allProcessedModels = config.postProcessAllModels(allProcessedModels);
+    /**
+     * Converts a schema to the models to render.
+     *
+     * @return the models, or null if no model is generated for the schema
+     */
+    private ModelsMap processModel(String name, Schema schema, List<String> unusedModels, Boolean skipFormModel) {
+        try {
+            //don't generate models that have an import mapping
+            if (config.schemaMapping().containsKey(name)) {
+                LOGGER.debug("Model {} not imported due to import mapping", name);
+
+                for (String templateName : config.modelTemplateFiles().keySet()) {
+                    // HACK: Because this returns early, could lead to some invalid model reporting.
+                    String filename = config.modelFilename(templateName, name);
+                    Path path = java.nio.file.Paths.get(filename);
+                    this.templateProcessor.skip(path,"Skipped prior to model processing due to schema mapping." );
+                }
+                return null;
+            }
 
-        // generate files based on processed models
-        for (String modelName : allProcessedModels.keySet()) {
-            ModelsMap models = allProcessedModels.get(modelName);
-            models.put("modelPackage", config.modelPackage());
-            try {
-                //don't generate models that have a schema mapping
-                if (config.schemaMapping().containsKey(modelName)) {
-                    continue;
+            // don't generate models that are not used as object (e.g. form parameters)
+            if (unusedModels.contains(name)) {
+                if (Boolean.FALSE.equals(skipFormModel)) {
+                    // if skipFormModel sets to true, still generate the model and log the result
+                    LOGGER.info("Model {} (marked as unused due to form parameters) is generated due to the global property `skipFormModel` set to false", name);
+                } else {
+                    LOGGER.info("Model {} not generated since it's marked as unused (due to form parameters) and `skipFormModel` (global property) set to true (default)", name);
+                    // TODO: Should this be added to dryRun? If not, this seems like a weird place to return early from processing.
+                    return null;
                 }
+            }
 
-                // TODO revise below as we've already performed unaliasing so that the isAlias check may be removed
-                List<ModelMap> modelList = models.getModels();
-                if (modelList != null && !modelList.isEmpty()) {
-                    ModelMap modelTemplate = modelList.get(0);
-                    if (modelTemplate != null && modelTemplate.getModel() != null) {
-                        CodegenModel m = modelTemplate.getModel();
-                        if (m.isAlias && !((config instanceof PythonPriorClientCodegen) || (config instanceof PythonClientCodegen))) {
-                            // alias to number, string, enum, etc, which should not be generated as model
-                            // for PythonClientCodegen, all aliases are generated as models
-                            continue;  // Don't create user-defined classes for aliases
-                        }
-                    }
-                    allModels.add(modelTemplate);
+            if (ModelUtils.isFreeFormObject(this.openAPI, schema)) { // check to see if it's a free-form object
+                // there are 3 free form use cases
+                // 1. free form with no validation that is not allOf included in any composed schemas
+                // 2. free form with validation
+                // 3. free form that is allOf included in any composed schemas
+                //      this use case arises when using interface schemas
+                // generators may choose to make models for use case 2 + 3
+                Schema refSchema = new Schema();
+                refSchema.set$ref("#/components/schemas/" + name);
+                Schema unaliasedSchema = config.unaliasSchema(refSchema);
+                if (unaliasedSchema.get$ref() == null) {
+                    LOGGER.info("Model {} not generated since it's a free-form object", name);
+                    return null;
+                }
+            } else if (ModelUtils.isMapSchema(schema)) { // check to see if it's a "map" model
+                // A composed schema (allOf, oneOf, anyOf) is considered a Map schema if the additionalproperties attribute is set
+                // for that composed schema. However, in the case of a composed schema, the properties are defined or referenced
+                // in the inner schemas, and the outer schema does not have properties.
+                if (!ModelUtils.isGenerateAliasAsModel(schema) && !ModelUtils.isComposedSchema(schema) && (schema.getProperties() == null || schema.getProperties().isEmpty())) {
+                    // schema without property, i.e. alias to map
+                    LOGGER.info("Model {} not generated since it's an alias to map (without property) and `generateAliasAsModel` is set to false (default)", name);
+                    return null;
                 }
+            } else if (ModelUtils.isArraySchema(schema)) { // check to see if it's an "array" model
+                if (!ModelUtils.isGenerateAliasAsModel(schema) && (schema.getProperties() == null || schema.getProperties().isEmpty())) {
+                    // schema without property, i.e. alias to array
+                    LOGGER.info("Model {} not generated since it's an alias to array (without property) and `generateAliasAsModel` is set to false (default)", name);
+                    return null;
+                }
+            }
 
-                // to generate model files
-                generateModel(files, models, modelName);
+            Map<String, Schema> schemaMap = new HashMap<>();
+            schemaMap.put(name, schema);
+            ModelsMap models = processModels(config, schemaMap);
+            models.put("classname", config.toModelName(name));
+            models.putAll(config.additionalProperties());
+            return models;
+        } catch (Exception e) {
+            throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
+        }
+    }
 
-                // to generate model test files
-                generateModelTests(files, models, modelName);
+    /**
+     * Renders the files of a processed model.
+     *
+     * @return the model to pass on to the operations and supporting files, or null if none was generated
+     */
+    private ModelMap generateModelFiles(List<File> files, String modelName, ModelsMap models) {
+        models.put("modelPackage", config.modelPackage());
+        try {
+            ModelMap generated = null;
 
-                // to generate model documentation files
-                generateModelDocumentation(files, models, modelName);
+            //don't generate models that have a schema mapping
+            if (config.schemaMapping().containsKey(modelName)) {
+                return null;
+            }
 
-            } catch (Exception e) {
-                throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+            // TODO revise below as we've already performed unaliasing so that the isAlias check may be removed
+            List<ModelMap> modelList = models.getModels();
+            if (modelList != null && !modelList.isEmpty()) {
+                ModelMap modelTemplate = modelList.get(0);
+                if (modelTemplate != null && modelTemplate.getModel() != null) {
+                    CodegenModel m = modelTemplate.getModel();
+                    if (m.isAlias && !((config instanceof PythonPriorClientCodegen) || (config instanceof PythonClientCodegen))) {
+                        // alias to number, string, enum, etc, which should not be generated as model
+                        // for PythonClientCodegen, all aliases are generated as models
+                        return null;  // Don't create user-defined classes for aliases
+                    }
+                }
+                generated = modelTemplate;
             }
+
+            // to generate model files
+            generateModel(files, models, modelName);
+
+            // to generate model test files
+            generateModelTests(files, models, modelName);
+
+            // to generate model documentation files
+            generateModelDocumentation(files, models, modelName);
+            return generated;
+        } catch (Exception e) {
+            throw new RuntimeException("Could not generate model '" + modelName + "'", e);
         }
-        if (GlobalSettings.getProperty("debugModels") != null) {
-            LOGGER.info("############ Model info ############");
-            Json.prettyPrint(allModels);
-        }
+    }
 
+    /**
+     * Keeps what the operations and supporting files use of a streamed model.
+     */
+    private static ModelMap summarizeModel(ModelMap modelMap) {
+        CodegenModel model = modelMap.getModel();
+        CodegenModel summary = new CodegenModel();
+        summary.name = model.name;
+        summary.classname = model.classname;
+        summary.classVarName = model.classVarName;
+        summary.classFilename = model.classFilename;
+        summary.title = model.title;
+        summary.description = model.description;
+        summary.unescapedDescription = model.unescapedDescription;
+        summary.isEnum = model.isEnum;
+        summary.isAlias = model.isAlias;
+        summary.dataType = model.dataType;
+
+        ModelMap summaryMap = new ModelMap();
+        summaryMap.setModel(summary);
+        if (modelMap.containsKey("importPath")) {
+            summaryMap.put("importPath", modelMap.get("importPath"));
+        }
+        return summaryMap;
     }
 
     @SuppressWarnings("unchecked")
@@ -661,9 +791,7 @@ public class DefaultGenerator implements Generator {
                     File written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
                     if (written != null) {
                         files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
+                        postProcessFile(written, "api");
                     }
                 }
 
@@ -678,9 +806,7 @@ public class DefaultGenerator implements Generator {
                         File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
                         if (written != null) {
                             files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
+                            postProcessFile(written, "api-test");
                         }
                     }
                 }
@@ -691,9 +817,7 @@ public class DefaultGenerator implements Generator {
                     File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
                     if (written != null) {
                         files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
+                        postProcessFile(written, "api-doc");
                     }
                 }
 
@@ -733,7 +857,7 @@ public class DefaultGenerator implements Generator {
 
                 if (!of.isDirectory()) {
                     // check that its not a dryrun and the files in the directory aren't ignored before we make the directory
-                    if (!dryRun && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
+                    if (writesToFileSystem() && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
                         once(LOGGER).debug("Output directory {} not created. It {}.", outputFolder, of.exists() ? "already exists." : "may not have appropriate permissions.");
                     }
                 }
@@ -747,9 +871,7 @@ public class DefaultGenerator implements Generator {
                 File written = processTemplateToFile(bundle, support.getTemplateFile(), outputFilename, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
                 if (written != null) {
                     files.add(written);
-                    if (config.isEnablePostProcessFile() && !dryRun) {
-                        config.postProcessFile(written, "supporting-file");
-                    }
+                    postProcessFile(written, "supporting-file");
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate supporting file '" + support + "'", e);
@@ -770,9 +892,7 @@ public class DefaultGenerator implements Generator {
                 File written = processTemplateToFile(bundle, openapiGeneratorIgnore, ignoreFileNameTarget, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
                 if (written != null) {
                     files.add(written);
-                    if (config.isEnablePostProcessFile() && !dryRun) {
-                        config.postProcessFile(written, "openapi-generator-ignore");
-                    }
+                    postProcessFile(written, "openapi-generator-ignore");
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate supporting file '" + ignoreFileNameTarget + "'", e);
@@ -809,6 +929,8 @@ public class DefaultGenerator implements Generator {
         bundle.put("modelPackage", config.modelPackage());
         bundle.put("library", config.getLibrary());
         bundle.put("generatorLanguageVersion", config.generatorLanguageVersion());
+        // lets generators skip expensive preparation of files which won't be written
+        bundle.put("dryRun", dryRun);
         // todo verify support and operation bundles have access to the common variables
 
         addAuthenticationSwitches(bundle);
@@ -909,6 +1031,7 @@ public class DefaultGenerator implements Generator {
 
         configureGeneratorProperties();
         configureOpenAPIInfo();
+        postProcessingStage = createPostProcessingStage();
 
         config.processOpenAPI(openAPI);
 
@@ -971,6 +1094,12 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        // post-process the generated files in batches
+        if (postProcessingStage != null) {
+            postProcessingStage.run();
+            postProcessingStage = null;
+        }
+
         // post-process
         config.postProcess();
 
@@ -1460,9 +1589,7 @@ public class DefaultGenerator implements Generator {
                 File written = this.templateProcessor.writeToFile(versionMetadata, ImplementationVersion.read().getBytes(StandardCharsets.UTF_8));
                 if (written != null) {
                     files.add(versionMetadataFile);
-                    if (config.isEnablePostProcessFile() && !dryRun) {
-                        config.postProcessFile(written, "openapi-generator-version");
-                    }
+                    postProcessFile(written, "openapi-generator-version");
                 }
             } catch (IOException e) {
                 throw new RuntimeException("Could not generate supporting file '" + versionMetadata + "'", e);
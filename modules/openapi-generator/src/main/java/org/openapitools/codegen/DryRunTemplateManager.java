@@ -5,6 +5,7 @@ import org.openapitools.codegen.templating.TemplateManagerOptions;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
@@ -70,6 +71,12 @@ public class DryRunTemplateManager implements TemplateProcessor {
         return path.toFile();
     }
 
+    @Override
+    public File writeToFile(String filename, InputStream contents) throws IOException {
+        // the contents don't matter for a dry run, so the stream is not read
+        return writeToFile(filename, new byte[0]);
+    }
+
     @Override
     public void ignore(Path path, String context) {
         dryRunStatusMap.put(path.toString(),
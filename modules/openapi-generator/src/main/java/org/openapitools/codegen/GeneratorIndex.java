@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.meta.Stability;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+/**
+ * An index of the generators available on the classpath, which allows generators to be listed and looked up by name
+ * without instantiating them.
+ * <p>
+ * The index is written at build time by {@link #main(String[])} to {@link #LOCATION}, one generator per line as
+ * tab-separated name, type, stability and class name.
+ */
+public class GeneratorIndex {
+    public static final String LOCATION = "META-INF/openapi-generator/generators.index";
+
+    private static final String SEPARATOR = "\t";
+
+    private GeneratorIndex() {
+    }
+
+    /**
+     * Reads the indexes found in the given class loader. Where several indexes declare the same generator name, the
+     * first one found wins.
+     *
+     * @param classLoader the class loader to read the indexes from
+     * @return the indexed generators
+     * @throws IOException if an index can't be read
+     */
+    public static List<Entry> load(ClassLoader classLoader) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        Enumeration<URL> indexes = classLoader.getResources(LOCATION);
+        while (indexes.hasMoreElements()) {
+            try (InputStream in = indexes.nextElement().openStream()) {
+                for (Entry entry : read(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                    if (entries.stream().noneMatch(e -> e.getName().equals(entry.getName()))) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    static List<Entry> read(Reader reader) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        BufferedReader in = new BufferedReader(reader);
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.trim().isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(SEPARATOR, -1);
+            if (fields.length != 4) {
+                throw new IOException("Malformed generator index entry: " + line);
+            }
+            entries.add(new Entry(fields[0],
+                    CodegenType.valueOf(fields[1]),
+                    fields[2].isEmpty() ? null : Stability.forDescription(fields[2]),
+                    fields[3]));
+        }
+        return entries;
+    }
+
+    static void write(List<Entry> entries, Writer out) throws IOException {
+        out.write("# name" + SEPARATOR + "type" + SEPARATOR + "stability" + SEPARATOR + "class\n");
+        for (Entry entry : entries) {
+            out.write(entry.getName() + SEPARATOR
+                    + entry.getType().name() + SEPARATOR
+                    + (entry.getStability() == null ? "" : entry.getStability().value()) + SEPARATOR
+                    + entry.getClassName() + "\n");
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the index of the generators registered as {@link CodegenConfig} services.
+     *
+     * @param args the file to write the index to
+     * @throws IOException if the index can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: GeneratorIndex <output file>");
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader())) {
+            entries.add(Entry.of(config));
+        }
+        entries.sort(Comparator.comparing(e -> e.getName().toLowerCase(Locale.ROOT)));
+
+        File file = new File(args[0]);
+        Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            write(entries, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * A generator in the index.
+     */
+    public static class Entry {
+        private final String name;
+        private final CodegenType type;
+        private final Stability stability;
+        private final String className;
+
+        public Entry(String name, CodegenType type, Stability stability, String className) {
+            this.name = name;
+            this.type = type;
+            this.stability = stability;
+            this.className = className;
+        }
+
+        /**
+         * Describes an instantiated generator.
+         *
+         * @param config the generator
+         * @return the entry for the generator
+         */
+        public static Entry of(CodegenConfig config) {
+            GeneratorMetadata meta = config.getGeneratorMetadata();
+            return new Entry(config.getName(), config.getTag(), meta == null ? null : meta.getStability(),
+                    config.getClass().getName());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public CodegenType getType() {
+            return type;
+        }
+
+        public Stability getStability() {
+            return stability;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + className + ")";
+        }
+    }
+}
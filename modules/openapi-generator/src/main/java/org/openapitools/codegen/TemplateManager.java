@@ -1,6 +1,6 @@
 package org.openapitools.codegen;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.api.TemplateProcessor;
@@ -172,7 +172,9 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
             } catch (TemplateNotFoundException ex) {
                 is = new FileInputStream(Paths.get(template).toFile());
             }
-            return writeToFile(target.getAbsolutePath(), IOUtils.toByteArray(is));
+            try (InputStream in = is) {
+                return writeToFile(target.getAbsolutePath(), in);
+            }
         }
     }
 
@@ -208,6 +210,23 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
      */
     @Override
     public File writeToFile(String filename, byte[] contents) throws IOException {
+        return writeToFile(filename, path -> Files.write(path, contents));
+    }
+
+    /**
+     * Write the contents of a stream to a file. The stream is copied as it is read, so large files aren't held in memory.
+     *
+     * @param filename The name of file to write
+     * @param contents The contents stream.
+     * @return File representing the written file.
+     * @throws IOException If file cannot be written.
+     */
+    @Override
+    public File writeToFile(String filename, InputStream contents) throws IOException {
+        return writeToFile(filename, path -> Files.copy(contents, path, StandardCopyOption.REPLACE_EXISTING));
+    }
+
+    private File writeToFile(String filename, ContentWriter contents) throws IOException {
         // Use Paths.get here to normalize path (for Windows file separator, space escaping on Linux/Mac, etc)
         File outputFile = Paths.get(filename).toFile();
 
@@ -240,7 +259,7 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return outputFile;
     }
 
-    private File writeToFileRaw(String filename, byte[] contents) throws IOException {
+    private File writeToFileRaw(String filename, ContentWriter contents) throws IOException {
         // Use Paths.get here to normalize path (for Windows file separator, space escaping on Linux/Mac, etc)
         File output = Paths.get(filename).toFile();
         if (this.options.isSkipOverwrite() && output.exists()) {
@@ -252,12 +271,20 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
             File parent = Paths.get(output.getParent()).toFile();
             parent.mkdirs();
         }
-        Files.write(output.toPath(), contents);
+        contents.writeTo(output.toPath());
 
         return output;
     }
 
     private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+        return file1.exists() && file2.exists() && FileUtils.contentEquals(file1, file2);
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    private interface ContentWriter {
+        void writeTo(Path path) throws IOException;
     }
 }
@@ -6,18 +6,27 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.collect.ImmutableMap;
@@ -30,6 +39,17 @@ public class MergedSpecBuilder {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MergedSpecBuilder.class);
 
+    private static final int MAX_CACHED_FRAGMENTS = 10_000;
+
+    /**
+     * The version and path keys of the spec files read so far, keyed by the hash of their content, so unchanged
+     * files aren't read again when the merged spec is rebuilt, e.g. in watch mode.
+     */
+    private static final Map<String, SpecFragment> FRAGMENTS = new ConcurrentHashMap<>();
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
+
     private final String inputSpecRootDirectory;
     private final String mergeFileName;
 
@@ -46,31 +66,29 @@ public class MergedSpecBuilder {
         }
         LOGGER.info("In spec root directory {} found specs {}", inputSpecRootDirectory, specRelatedPaths);
 
+        // The spec files are only scanned for their version and path keys here, the merged spec is resolved once
+        // by the generator.
+        List<SpecFragment> fragments = specRelatedPaths.parallelStream()
+            .map(this::readFragment)
+            .collect(Collectors.toList());
+
         String openapiVersion = null;
         boolean isJson = false;
-        ParseOptions options = new ParseOptions();
-        options.setResolve(true);
         List<SpecWithPaths> allPaths = new ArrayList<>();
 
-        for (String specRelatedPath : specRelatedPaths) {
-            String specPath = inputSpecRootDirectory + File.separator + specRelatedPath;
-            try {
-                LOGGER.info("Reading spec: {}", specPath);
-
-                OpenAPI result = new OpenAPIParser()
-                    .readLocation(specPath, new ArrayList<>(), options)
-                    .getOpenAPI();
-
-                if (openapiVersion == null) {
-                    openapiVersion = result.getOpenapi();
-                    if (specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json")) {
-                        isJson = true;
-                    }
+        for (int i = 0; i < specRelatedPaths.size(); i++) {
+            String specRelatedPath = specRelatedPaths.get(i);
+            SpecFragment fragment = fragments.get(i);
+            if (fragment == null) {
+                continue;
+            }
+            if (openapiVersion == null) {
+                openapiVersion = fragment.openapiVersion;
+                if (specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json")) {
+                    isJson = true;
                 }
-                allPaths.add(new SpecWithPaths(specRelatedPath, result.getPaths().keySet()));
-            } catch (Exception e) {
-                LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
             }
+            allPaths.add(new SpecWithPaths(specRelatedPath, fragment.paths));
         }
 
         Map<String, Object> mergedSpec = generatedMergedSpec(openapiVersion, allPaths);
@@ -87,6 +105,84 @@ public class MergedSpecBuilder {
         return mergedFilePath.toString();
     }
 
+    private SpecFragment readFragment(String specRelatedPath) {
+        String specPath = inputSpecRootDirectory + File.separator + specRelatedPath;
+        try {
+            LOGGER.info("Reading spec: {}", specPath);
+            boolean json = specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json");
+            byte[] content = Files.readAllBytes(Paths.get(specPath));
+            String key = (json ? "json:" : "yaml:") + hash(content);
+
+            SpecFragment fragment = FRAGMENTS.get(key);
+            if (fragment == null) {
+                fragment = scan(content, json);
+                if (fragment == null) {
+                    // not an OpenAPI 3 document, e.g. a Swagger 2 spec which the parser converts
+                    fragment = parse(specPath);
+                }
+                if (FRAGMENTS.size() >= MAX_CACHED_FRAGMENTS) {
+                    FRAGMENTS.clear();
+                }
+                FRAGMENTS.put(key, fragment);
+            }
+            return fragment;
+        } catch (Exception e) {
+            LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the version and path keys of an OpenAPI document without building its model.
+     *
+     * @param content the content of the document
+     * @param json    true if the document is JSON, false if it is YAML
+     * @return the version and path keys, or null if the document has no "openapi" version
+     * @throws IOException if the document can't be read
+     */
+    static SpecFragment scan(byte[] content, boolean json) throws IOException {
+        String openapiVersion = null;
+        Set<String> paths = null;
+        try (JsonParser parser = (json ? JSON_FACTORY : YAML_FACTORY).createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("openapi".equals(field) && value.isScalarValue()) {
+                    openapiVersion = parser.getValueAsString();
+                } else if ("paths".equals(field) && value == JsonToken.START_OBJECT) {
+                    paths = new LinkedHashSet<>();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        paths.add(parser.getCurrentName());
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (openapiVersion == null) {
+            return null;
+        }
+        return new SpecFragment(openapiVersion, Objects.requireNonNull(paths, "The spec has no paths"));
+    }
+
+    private static SpecFragment parse(String specPath) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        OpenAPI result = new OpenAPIParser()
+            .readLocation(specPath, new ArrayList<>(), options)
+            .getOpenAPI();
+        return new SpecFragment(result.getOpenapi(), result.getPaths().keySet());
+    }
+
+    private static String hash(byte[] content) throws NoSuchAlgorithmException {
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
     private static Map<String, Object> generatedMergedSpec(String openapiVersion, List<SpecWithPaths> allPaths) {
         Map<String, Object> spec = generateHeader(openapiVersion);
         Map<String, Object> paths = new HashMap<>();
@@ -139,6 +235,16 @@ public class MergedSpecBuilder {
         } catch (IOException e) { }
     }
 
+    static class SpecFragment {
+        final String openapiVersion;
+        final Set<String> paths;
+
+        private SpecFragment(final String openapiVersion, final Set<String> paths) {
+            this.openapiVersion = openapiVersion;
+            this.paths = paths;
+        }
+    }
+
     private static class SpecWithPaths {
         private final String specRelatedPath;
         private final Set<String> paths;
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.examples;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The rendered examples of the models of a specification, shared by the {@link ExampleGenerator}s of a generation
+ * run so that a model referenced by many operations is rendered once per format.
+ * <p>
+ * A cache must only be shared by example generators working on the same schemas, and has to be cleared when these
+ * schemas change.
+ */
+public class ExampleCache {
+    private final Map<String, String> rendered = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the rendered example of a model, rendering and caching it if needed.
+     *
+     * @param format    the format of the example, e.g. "json" or "xml"
+     * @param modelName the name of the model
+     * @param renderer  renders the example, may return null if there is none
+     * @return the rendered example, or null
+     */
+    String get(String format, String modelName, Supplier<String> renderer) {
+        String key = format + ":" + modelName;
+        String example = rendered.get(key);
+        if (example == null) {
+            example = renderer.get();
+            if (example != null) {
+                rendered.put(key, example);
+            }
+        }
+        return example;
+    }
+
+    /**
+     * @return the number of cached examples
+     */
+    public int size() {
+        return rendered.size();
+    }
+
+    public void clear() {
+        rendered.clear();
+    }
+}
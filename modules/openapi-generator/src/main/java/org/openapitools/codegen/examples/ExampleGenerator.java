@@ -44,15 +44,31 @@ public class ExampleGenerator {
     private static final String URI = "uri";
     private static final String STATUS_CODE = "statusCode";
 
+    private static final String FORMAT_JSON = "json";
+    private static final String FORMAT_XML = "xml";
+
     protected Map<String, Schema> examples;
     private OpenAPI openAPI;
     private Random random;
+    private final ExampleCache cache;
 
     public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI) {
+        this(examples, openAPI, new ExampleCache());
+    }
+
+    /**
+     * Creates an example generator sharing the examples of models rendered by other generators of the same run.
+     *
+     * @param examples the schemas of the specification
+     * @param openAPI  the specification
+     * @param cache    the rendered examples, shared by the example generators working on the same schemas
+     */
+    public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI, ExampleCache cache) {
         this.examples = examples;
         this.openAPI = openAPI;
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
+        this.cache = cache;
     }
 
     public List<Map<String, String>> generateFromResponseSchema(String statusCode, Schema responseSchema, Set<String> producesInfo) {
@@ -153,7 +169,10 @@ public class ExampleGenerator {
                 if (modelName != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        // resolveModelToExample stores the resolved example in the schema, so rendering the model
+                        // again would give the same result
+                        String example = cache.get(FORMAT_JSON, modelName,
+                                () -> Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels)));
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -162,7 +181,8 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Schema schema = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.emptySet());
+                    String example = cache.get(FORMAT_XML, modelName,
+                            () -> new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.emptySet()));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -17,12 +17,14 @@
 
 package org.openapitools.codegen.ignore;
 
+import org.openapitools.codegen.ignore.rules.CompiledRules;
 import org.openapitools.codegen.ignore.rules.DirectoryRule;
 import org.openapitools.codegen.ignore.rules.Rule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
@@ -41,6 +43,9 @@ public class CodegenIgnoreProcessor {
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
 
+    private URI baseDirectory = null;
+    private CompiledRules compiledRules = null;
+
     /**
      * Loads the default ignore file (.openapi-generator-ignore) from the specified path.
      *
@@ -81,6 +86,8 @@ public class CodegenIgnoreProcessor {
             try {
                 loadCodegenRules(targetIgnoreFile);
                 this.ignoreFile = targetIgnoreFile;
+                this.baseDirectory = targetIgnoreFile.getAbsoluteFile().getParentFile().toURI();
+                this.compiledRules = CompiledRules.compile(exclusionRules, inclusionRules);
             } catch (IOException e) {
                 LOGGER.error(String.format(Locale.ROOT, "Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
             }
@@ -142,13 +149,27 @@ public class CodegenIgnoreProcessor {
     public boolean allowsFile(final File targetFile) {
         if(this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getAbsoluteFile().getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        boolean directoryExcluded = false;
-        boolean exclude = false;
         if(exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
 
+        File file = new File(this.baseDirectory.relativize(targetFile.toURI()).getPath());
+        if (compiledRules != null) {
+            return compiledRules.allows(file.getPath());
+        }
+        return evaluateInSequence(file);
+    }
+
+    /**
+     * Evaluates the rules one after the other, which is required when a rule terminates the evaluation.
+     *
+     * @param file The file to check, relative to the ignore file.
+     * @return {@code false} if the file is excluded, otherwise {@code true}.
+     */
+    boolean evaluateInSequence(final File file) {
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+
         // NOTE: We *must* process all exclusion rules
         for (int i = 0; i < exclusionRules.size(); i++) {
             Rule current = exclusionRules.get(i);
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore.rules;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The exclusion and inclusion rules of an ignore file, compiled once to evaluate many files.
+ * <p>
+ * The glob patterns of the file and directory rules are merged into a single matcher per kind of rule, and each path
+ * is parsed once per evaluation rather than once per rule. A directory rule matches every path below a matching
+ * directory, so its result only depends on the parent directory of a file and is memoized per directory.
+ * <p>
+ * The decision is the one of evaluating the rules in sequence: a file is excluded if any exclusion rule matches it,
+ * and re-included if an inclusion rule matches it, unless the file is excluded by a directory rule and the inclusion
+ * rule is not a directory rule.
+ */
+public class CompiledRules {
+    private final RuleGroup excludedDirectories;
+    private final RuleGroup excludedFiles;
+    private final RuleGroup includedDirectories;
+    private final RuleGroup includedFiles;
+
+    private CompiledRules(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        excludedDirectories = RuleGroup.of(exclusionRules, true);
+        excludedFiles = RuleGroup.of(exclusionRules, false);
+        includedDirectories = RuleGroup.of(inclusionRules, true);
+        includedFiles = RuleGroup.of(inclusionRules, false);
+    }
+
+    /**
+     * Compiles the rules of an ignore file.
+     *
+     * @param exclusionRules the rules excluding files
+     * @param inclusionRules the negated rules, re-including files
+     * @return the compiled rules, or null if some rule can only be evaluated in sequence
+     */
+    public static CompiledRules compile(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        for (Rule rule : exclusionRules) {
+            // a rule terminating the evaluation makes the decision depend on the order of the rules
+            if (rule instanceof EverythingRule) {
+                return null;
+            }
+        }
+        return new CompiledRules(exclusionRules, inclusionRules);
+    }
+
+    /**
+     * Determines whether a file is allowed by the rules.
+     *
+     * @param relativePath the path of the file, relative to the ignore file
+     * @return {@code false} if the file is excluded, otherwise {@code true}
+     */
+    public boolean allows(String relativePath) {
+        Path path = FileSystems.getDefault().getPath(relativePath);
+        Path parent = path.getParent();
+        String directory = parent == null ? "" : parent.toString();
+
+        boolean directoryExcluded = excludedDirectories.matchesDirectory(path, relativePath, directory);
+        if (!directoryExcluded && !excludedFiles.matches(path, relativePath)) {
+            return true;
+        }
+        if (includedDirectories.matchesDirectory(path, relativePath, directory)) {
+            return true;
+        }
+        // an inclusion rule can't override a rule excluding a file by some parent directory
+        return !directoryExcluded && includedFiles.matches(path, relativePath);
+    }
+
+    /**
+     * Rules of the same kind, matched at once.
+     */
+    private static class RuleGroup {
+        private final List<PathMatcher> matchers = new ArrayList<>();
+        private final List<Rule> rules = new ArrayList<>();
+        private final Map<String, Boolean> directories = new ConcurrentHashMap<>();
+
+        static RuleGroup of(List<Rule> candidates, boolean directoryRules) {
+            RuleGroup group = new RuleGroup();
+            List<String> combinable = new ArrayList<>();
+            for (Rule rule : candidates) {
+                if (rule instanceof InvalidRule || (rule instanceof DirectoryRule) != directoryRules) {
+                    continue;
+                }
+                if (rule instanceof FileRule) {
+                    for (String glob : ((FileRule) rule).getGlobs()) {
+                        if (isCombinable(glob)) {
+                            combinable.add(glob);
+                        } else {
+                            group.matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + glob));
+                        }
+                    }
+                } else {
+                    group.rules.add(rule);
+                }
+            }
+            group.addCombined(combinable);
+            return group;
+        }
+
+        /**
+         * A glob can be merged into a group of alternatives if it has no group, as groups can't be nested, and no
+         * escaped character.
+         */
+        private static boolean isCombinable(String glob) {
+            return glob.indexOf('{') < 0 && glob.indexOf('}') < 0 && glob.indexOf(',') < 0 && glob.indexOf('\\') < 0;
+        }
+
+        private void addCombined(List<String> globs) {
+            if (globs.isEmpty()) {
+                return;
+            }
+            if (globs.size() > 1) {
+                try {
+                    matchers.add(0, FileSystems.getDefault().getPathMatcher("glob:{" + String.join(",", globs) + "}"));
+                    return;
+                } catch (PatternSyntaxException e) {
+                    // matched one by one below
+                }
+            }
+            for (String glob : globs) {
+                matchers.add(FileSystems.getDefault().getPathMatcher("glob:" + glob));
+            }
+        }
+
+        boolean matches(Path path, String relativePath) {
+            for (PathMatcher matcher : matchers) {
+                if (matcher.matches(path)) {
+                    return true;
+                }
+            }
+            for (Rule rule : rules) {
+                if (Boolean.TRUE.equals(rule.matches(relativePath))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean matchesDirectory(Path path, String relativePath, String directory) {
+            if (matchers.isEmpty()) {
+                return false;
+            }
+            Boolean matched = directories.get(directory);
+            if (matched == null) {
+                matched = matches(path, relativePath);
+                directories.put(directory, matched);
+            }
+            return matched;
+        }
+    }
+}
@@ -19,23 +19,28 @@ package org.openapitools.codegen.ignore.rules;
 
 import java.nio.file.FileSystems;
 import java.nio.file.PathMatcher;
+import java.util.Arrays;
 import java.util.List;
 
 public class DirectoryRule extends FileRule {
 
     private PathMatcher directoryMatcher = null;
     private PathMatcher contentsMatcher = null;
+    private final String directoryGlob;
+    private final String contentsGlob;
 
     DirectoryRule(List<Part> syntax, String definition) {
         super(syntax, definition);
         String pattern = this.getPattern();
-        StringBuilder sb = new StringBuilder();
-        sb.append("glob:");
-        sb.append(pattern);
-        if(!pattern.endsWith("/")) sb.append("/");
-        directoryMatcher = FileSystems.getDefault().getPathMatcher(sb.toString());
-        sb.append("**");
-        contentsMatcher = FileSystems.getDefault().getPathMatcher(sb.toString());
+        directoryGlob = pattern.endsWith("/") ? pattern : pattern + "/";
+        contentsGlob = directoryGlob + "**";
+        directoryMatcher = FileSystems.getDefault().getPathMatcher("glob:" + directoryGlob);
+        contentsMatcher = FileSystems.getDefault().getPathMatcher("glob:" + contentsGlob);
+    }
+
+    @Override
+    List<String> getGlobs() {
+        return Arrays.asList(directoryGlob, contentsGlob);
     }
 
     @Override
@@ -19,6 +19,7 @@ package org.openapitools.codegen.ignore.rules;
 
 import java.nio.file.FileSystems;
 import java.nio.file.PathMatcher;
+import java.util.Collections;
 import java.util.List;
 
 public class FileRule extends Rule {
@@ -30,6 +31,13 @@ public class FileRule extends Rule {
         matcher = FileSystems.getDefault().getPathMatcher("glob:"+this.getPattern());
     }
 
+    /**
+     * @return the glob patterns (without the "glob:" syntax) this rule matches paths against
+     */
+    List<String> getGlobs() {
+        return Collections.singletonList(this.getPattern());
+    }
+
     @Override
     public Boolean matches(String relativePath) {
         return matcher.matches(FileSystems.getDefault().getPath(relativePath));
@@ -24,13 +24,13 @@ import com.samskivert.mustache.Template;
 
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
-import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.postprocess.FilePostProcessor;
 import org.openapitools.codegen.templating.mustache.*;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
@@ -1547,33 +1547,12 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegen implements Co
     }
 
     @Override
-    public void postProcessFile(File file, String fileType) {
-        if (file == null) {
-            return;
-        }
-
+    public FilePostProcessor getFilePostProcessor() {
         String csharpPostProcessFile = System.getenv("CSHARP_POST_PROCESS_FILE");
         if (StringUtils.isEmpty(csharpPostProcessFile)) {
-            return; // skip if CSHARP_POST_PROCESS_FILE env variable is not defined
-        }
-
-        // only process files with .cs extension
-        if ("cs".equals(FilenameUtils.getExtension(file.toString()))) {
-            String command = csharpPostProcessFile + " " + file;
-            try {
-                Process p = Runtime.getRuntime().exec(command);
-                int exitValue = p.waitFor();
-                if (exitValue != 0) {
-                    LOGGER.error("Error running the command ({}). Exit code: {}", command, exitValue);
-                } else {
-                    LOGGER.info("Successfully executed: {}", command);
-                }
-            } catch (InterruptedException | IOException e) {
-                LOGGER.error("Error running the command ({}). Exception: {}", command, e.getMessage());
-                // Restore interrupted state
-                Thread.currentThread().interrupt();
-            }
+            return null; // skip if CSHARP_POST_PROCESS_FILE env variable is not defined
         }
+        return FilePostProcessor.forCommand(csharpPostProcessFile, "cs");
     }
 
     @Override
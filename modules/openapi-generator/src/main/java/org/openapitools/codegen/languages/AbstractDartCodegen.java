@@ -7,7 +7,6 @@ import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.servers.Server;
-import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.features.*;
@@ -15,13 +14,13 @@ import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.postprocess.FilePostProcessor;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -788,35 +787,12 @@ public abstract class AbstractDartCodegen extends DefaultCodegen {
     }
 
     @Override
-    public void postProcessFile(File file, String fileType) {
-        super.postProcessFile(file, fileType);
-        if (file == null) {
-            return;
-        }
-
+    public FilePostProcessor getFilePostProcessor() {
         String dartPostProcessFile = System.getenv("DART_POST_PROCESS_FILE");
         if (StringUtils.isEmpty(dartPostProcessFile)) {
-            return; // skip if DART_POST_PROCESS_FILE env variable is not defined
-        }
-
-        // process all files with dart extension
-        if ("dart".equals(FilenameUtils.getExtension(file.toString()))) {
-            // currently supported is "dartfmt -w" and "dart format"
-            String command = dartPostProcessFile + " " + file;
-            try {
-                Process p = Runtime.getRuntime().exec(command);
-                int exitValue = p.waitFor();
-                if (exitValue != 0) {
-                    LOGGER.error("Error running the command ({}). Exit code: {}", command, exitValue);
-                } else {
-                    LOGGER.info("Successfully executed: {}", command);
-                }
-            } catch (InterruptedException | IOException e) {
-                LOGGER.error("Error running the command ({}). Exception: {}", command, e.getMessage());
-                // Restore interrupted state
-                Thread.currentThread().interrupt();
-            }
+            return null; // skip if DART_POST_PROCESS_FILE env variable is not defined
         }
+        return FilePostProcessor.forCommand(dartPostProcessFile, "dart");
     }
 
     @Override
@@ -27,6 +27,7 @@ import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.features.*;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
+import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.ProcessUtils;
 import org.slf4j.Logger;
@@ -54,6 +55,7 @@ public class CSharpNetCoreClientCodegen extends AbstractCSharpCodegen {
     protected static final String MCS_NET_VERSION_KEY = "x-mcs-sdk";
     protected static final String SUPPORTS_UWP = "supportsUWP";
     protected static final String SUPPORTS_RETRY = "supportsRetry";
+    protected static final String USE_SOURCE_GENERATION = "useSourceGeneration";
 
     protected static final String NET_STANDARD = "netStandard";
 
@@ -111,6 +113,9 @@ public class CSharpNetCoreClientCodegen extends AbstractCSharpCodegen {
     protected String licenseId;
     protected String packageTags;
     protected boolean useOneOfDiscriminatorLookup = false; // use oneOf discriminator's mapping for model lookup
+    protected boolean useSourceGeneration = false;
+    // the response and body types of the operations which are not models, registered in the JsonSerializerContext
+    protected Set<String> jsonSerializableTypes = new TreeSet<>();
 
     protected boolean needsCustomHttpMethod = false;
     protected boolean needsUriBuilder = false;
@@ -315,6 +320,10 @@ public class CSharpNetCoreClientCodegen extends AbstractCSharpCodegen {
                 CodegenConstants.CASE_INSENSITIVE_RESPONSE_HEADERS_DESC,
                 this.caseInsensitiveResponseHeaders);
 
+        addSwitch(USE_SOURCE_GENERATION,
+                "Use a System.Text.Json source generated JsonSerializerContext for the models and the response types. Only used in Generic Host library, with net6.0 or later.",
+                this.useSourceGeneration);
+
         regexModifiers = new HashMap<>();
         regexModifiers.put('i', "IgnoreCase");
         regexModifiers.put('m', "Multiline");
@@ -780,6 +789,14 @@ public class CSharpNetCoreClientCodegen extends AbstractCSharpCodegen {
         syncBooleanProperty(additionalProperties, CodegenConstants.OPTIONAL_METHOD_ARGUMENT, this::setOptionalMethodArgumentFlag, optionalMethodArgumentFlag);
         syncBooleanProperty(additionalProperties, CodegenConstants.NON_PUBLIC_API, this::setNonPublicApi, isNonPublicApi());
         syncBooleanProperty(additionalProperties, CodegenConstants.USE_ONEOF_DISCRIMINATOR_LOOKUP, this::setUseOneOfDiscriminatorLookup, this.useOneOfDiscriminatorLookup);
+        syncBooleanProperty(additionalProperties, USE_SOURCE_GENERATION, this::setUseSourceGeneration, this.useSourceGeneration);
+        if (useSourceGeneration && (!GENERICHOST.equals(getLibrary()) ||
+                !strategies.stream().allMatch(s -> s.equals(FrameworkStrategy.NET_6_0) || s.equals(FrameworkStrategy.NET_7_0)))) {
+            LOGGER.warn("{} is only supported by the generichost library targeting net6.0 or later, and will be ignored.", USE_SOURCE_GENERATION);
+            setUseSourceGeneration(false);
+            additionalProperties.put(USE_SOURCE_GENERATION, false);
+        }
+        additionalProperties.put("jsonSerializableTypes", jsonSerializableTypes);
 
         final String testPackageName = testPackageName();
         String packageFolder = sourceFolder + File.separator + packageName;
@@ -833,6 +850,27 @@ public class CSharpNetCoreClientCodegen extends AbstractCSharpCodegen {
         this.clientPackage = clientPackage;
     }
 
+    @Override
+    public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
+        objs = super.postProcessOperationsWithModels(objs, allModels);
+        if (!useSourceGeneration || objs == null || objs.getOperations() == null) {
+            return objs;
+        }
+
+        // models are registered in the JsonSerializerContext on their own, only the other types are collected here
+        Set<String> modelNames = allModels.stream().map(m -> m.getModel().classname).collect(Collectors.toSet());
+        for (CodegenOperation operation : objs.getOperations().getOperation()) {
+            if (operation.returnType != null && !operation.isResponseFile && !modelNames.contains(operation.returnType)) {
+                jsonSerializableTypes.add(operation.returnType);
+            }
+            if (operation.bodyParam != null && !operation.bodyParam.isFile && !operation.bodyParam.isBinary
+                    && !modelNames.contains(operation.bodyParam.dataType)) {
+                jsonSerializableTypes.add(operation.bodyParam.dataType);
+            }
+        }
+        return objs;
+    }
+
     @Override
     public CodegenOperation fromOperation(String path,
                                           String httpMethod,
@@ -953,6 +991,9 @@ public class CSharpNetCoreClientCodegen extends AbstractCSharpCodegen {
         supportingFiles.add(new SupportingFile("ApiResponseEventArgs.mustache", clientPackageDir, "ApiResponseEventArgs.cs"));
         supportingFiles.add(new SupportingFile("JsonSerializerOptionsProvider.mustache", clientPackageDir, "JsonSerializerOptionsProvider.cs"));
         supportingFiles.add(new SupportingFile("CookieContainer.mustache", clientPackageDir, "CookieContainer.cs"));
+        if (useSourceGeneration) {
+            supportingFiles.add(new SupportingFile("JsonSerializerContext.mustache", clientPackageDir, apiName + "JsonSerializerContext.cs"));
+        }
 
         supportingFiles.add(new SupportingFile("IApi.mustache", sourceFolder + File.separator + packageName + File.separator + apiPackage(), getInterfacePrefix() + "Api.cs"));
 
@@ -1127,6 +1168,14 @@ public class CSharpNetCoreClientCodegen extends AbstractCSharpCodegen {
         return this.useOneOfDiscriminatorLookup;
     }
 
+    public void setUseSourceGeneration(boolean useSourceGeneration) {
+        this.useSourceGeneration = useSourceGeneration;
+    }
+
+    public boolean getUseSourceGeneration() {
+        return this.useSourceGeneration;
+    }
+
     @Override
     public String toEnumVarName(String value, String datatype) {
         if (value.length() == 0) {
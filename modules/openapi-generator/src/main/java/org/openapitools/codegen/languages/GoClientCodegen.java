@@ -56,9 +56,11 @@ public class GoClientCodegen extends AbstractGoCodegen {
     public static final String WITH_AWSV4_SIGNATURE = "withAWSV4Signature";
     public static final String GENERATE_INTERFACES = "generateInterfaces";
     public static final String MODEL_FILE_FOLDER = "modelFileFolder";
+    public static final String GENERATE_JSON_CODECS = "generateJsonCodecs";
     protected String goImportAlias = "openapiclient";
     protected boolean isGoSubmodule = false;
     protected boolean useOneOfDiscriminatorLookup = false; // use oneOf discriminator's mapping for model lookup
+    protected boolean generateJsonCodecs = false;
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
     private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
@@ -116,6 +118,7 @@ public class GoClientCodegen extends AbstractGoCodegen {
         cliOptions.add(CliOption.newBoolean(STRUCT_PREFIX, "whether to prefix struct with the class name. e.g. DeletePetOpts => PetApiDeletePetOpts"));
         cliOptions.add(CliOption.newBoolean(WITH_AWSV4_SIGNATURE, "whether to include AWS v4 signature support"));
         cliOptions.add(CliOption.newBoolean(GENERATE_INTERFACES, "Generate interfaces for api classes"));
+        cliOptions.add(CliOption.newBoolean(GENERATE_JSON_CODECS, "Generate explicit JSON encoding for the models, a discriminator lookup for the oneOf models and benchmarks of the model codecs, rather than relying on reflection"));
 
         // option to change the order of form/body parameter
         cliOptions.add(CliOption.newBoolean(
@@ -232,6 +235,10 @@ public class GoClientCodegen extends AbstractGoCodegen {
             additionalProperties.put(GENERATE_INTERFACES, generateInterfaces);
         }
 
+        if (additionalProperties.containsKey(GENERATE_JSON_CODECS)) {
+            setGenerateJsonCodecs(convertPropertyToBooleanAndWriteBack(GENERATE_JSON_CODECS));
+        }
+
         // Generate the 'signing.py' module, but only if the 'HTTP signature' security scheme is specified in the OAS.
         Map<String, SecurityScheme> securitySchemeMap = openAPI != null ?
                 (openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null) : null;
@@ -276,6 +283,13 @@ public class GoClientCodegen extends AbstractGoCodegen {
         supportingFiles.add(new SupportingFile("go.sum.mustache", "", "go.sum"));
         supportingFiles.add(new SupportingFile(".travis.yml", "", ".travis.yml"));
         supportingFiles.add(new SupportingFile("utils.mustache", "", "utils.go"));
+        if (generateJsonCodecs) {
+            supportingFiles.add(new SupportingFile("model_codec_benchmark_test.mustache", "", "model_codec_benchmark_test.go"));
+        }
+    }
+
+    public void setGenerateJsonCodecs(boolean generateJsonCodecs) {
+        this.generateJsonCodecs = generateJsonCodecs;
     }
 
     public void setUseOneOfDiscriminatorLookup(boolean useOneOfDiscriminatorLookup) {
@@ -484,10 +498,67 @@ public class GoClientCodegen extends AbstractGoCodegen {
                 imports.add(createMapping("import", "reflect"));
                 imports.add(createMapping("import", "strings"));
             }
+
+            // only struct models (model_simple) have the ToMap/MarshalJSON methods the codec replaces, enums and
+            // oneOf/anyOf wrappers are rendered by their own templates
+            if (generateJsonCodecs && !model.isEnum && model.oneOf.isEmpty() && model.anyOf.isEmpty()
+                    && (model.parent == null || model.isMap) && !model.isArray) {
+                model.vendorExtensions.put("x-go-json-codec", true);
+                for (CodegenProperty param : Iterables.concat(model.vars, model.allVars, model.requiredVars, model.optionalVars)) {
+                    setJsonWriter(param);
+                }
+            }
+            if (generateJsonCodecs && !model.oneOf.isEmpty() && model.discriminator != null) {
+                model.vendorExtensions.put("x-go-discriminator-lookup", true);
+            }
         }
         return objs;
     }
 
+    /**
+     * Selects the method of the generated jsonWriter encoding a property, from its Go type before nullable types are
+     * substituted: the primitive types have their own method, the other types are encoded with encoding/json.
+     *
+     * @param param the property
+     */
+    private void setJsonWriter(CodegenProperty param) {
+        String writer;
+        switch (String.valueOf(param.vendorExtensions.get("x-go-base-type"))) {
+            case "string":
+                writer = "writeString";
+                break;
+            case "bool":
+                writer = "writeBool";
+                break;
+            case "int":
+                writer = "writeInt";
+                break;
+            case "int32":
+                writer = "writeInt32";
+                break;
+            case "int64":
+                writer = "writeInt64";
+                break;
+            case "float32":
+                writer = "writeFloat32";
+                break;
+            case "float64":
+                writer = "writeFloat64";
+                break;
+            case "time.Time":
+                writer = "writeTime";
+                break;
+            default:
+                writer = null;
+        }
+        if (writer == null || param.isContainer || param.isFreeFormObject) {
+            param.vendorExtensions.put("x-go-json-writer", "writeValue");
+        } else {
+            param.vendorExtensions.put("x-go-json-writer", writer);
+            param.vendorExtensions.put("x-go-json-primitive", true);
+        }
+    }
+
     @Override
     public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
         objs = super.postProcessOperationsWithModels(objs, allModels);
@@ -46,6 +46,7 @@ import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
 import static java.util.Collections.sort;
 import static org.openapitools.codegen.utils.CamelizeOption.LOWERCASE_FIRST_LETTER;
 import static org.openapitools.codegen.utils.StringUtils.camelize;
+import static org.openapitools.codegen.utils.StringUtils.underscore;
 
 public class JavaClientCodegen extends AbstractJavaCodegen
         implements BeanValidationFeatures, PerformBeanValidationFeatures, GzipFeatures {
@@ -69,6 +70,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String USE_ABSTRACTION_FOR_FILES = "useAbstractionForFiles";
     public static final String DYNAMIC_OPERATIONS = "dynamicOperations";
     public static final String SUPPORT_STREAMING = "supportStreaming";
+    public static final String CACHE_OBJECT_READERS = "cacheObjectReaders";
+    public static final String USE_FULL_MATCH_DESERIALIZATION = "useFullMatchDeserialization";
     public static final String SUPPORT_URL_QUERY = "supportUrlQuery";
     public static final String GRADLE_PROPERTIES = "gradleProperties";
     public static final String ERROR_OBJECT_TYPE = "errorObjectType";
@@ -122,12 +125,14 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     protected boolean useAbstractionForFiles = false;
     protected boolean dynamicOperations = false;
     protected boolean supportStreaming = false;
+    protected boolean cacheObjectReaders = false;
     protected boolean withAWSV4Signature = false;
     protected String gradleProperties;
     protected String errorObjectType;
     protected String authFolder;
     protected String serializationLibrary = null;
     protected boolean useOneOfDiscriminatorLookup = false; // use oneOf discriminator's mapping for model lookup
+    protected boolean useFullMatchDeserialization = false; // try all the oneOf/anyOf schemas, ignoring the discriminator
     protected String rootJavaEEPackage;
     protected Map<String, MpRestClientVersion> mpRestClientVersions = new HashMap<>();
     protected boolean useSingleRequestParameter = false;
@@ -205,11 +210,13 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(USE_ABSTRACTION_FOR_FILES, "Use alternative types instead of java.io.File to allow passing bytes without a file on disk. Available on resttemplate, webclient, libraries"));
         cliOptions.add(CliOption.newBoolean(DYNAMIC_OPERATIONS, "Generate operations dynamically at runtime from an OAS", this.dynamicOperations));
         cliOptions.add(CliOption.newBoolean(SUPPORT_STREAMING, "Support streaming endpoint (beta)", this.supportStreaming));
+        cliOptions.add(CliOption.newBoolean(CACHE_OBJECT_READERS, "Reuse one Jackson ObjectReader per return type in each API class, created from the ObjectMapper of the ApiClient when the API class is instantiated. Only the native library supports this option.", this.cacheObjectReaders));
         cliOptions.add(CliOption.newBoolean(CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT, CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT_DESC + " (only available for okhttp-gson library)", this.withAWSV4Signature));
         cliOptions.add(CliOption.newString(GRADLE_PROPERTIES, "Append additional Gradle properties to the gradle.properties file"));
         cliOptions.add(CliOption.newString(ERROR_OBJECT_TYPE, "Error Object type. (This option is for okhttp-gson-next-gen only)"));
         cliOptions.add(CliOption.newString(CONFIG_KEY, "Config key in @RegisterRestClient. Default to none. Only `microprofile` supports this option."));
         cliOptions.add(CliOption.newBoolean(CodegenConstants.USE_ONEOF_DISCRIMINATOR_LOOKUP, CodegenConstants.USE_ONEOF_DISCRIMINATOR_LOOKUP_DESC + " Only jersey2, jersey3, native, okhttp-gson support this option."));
+        cliOptions.add(CliOption.newBoolean(USE_FULL_MATCH_DESERIALIZATION, "Deserialize oneOf/anyOf models by trying every schema, rather than dispatching on the discriminator and skipping the schemas whose required properties are missing from the input. Only jersey2, jersey3, native, okhttp-gson support this option.", this.useFullMatchDeserialization));
         cliOptions.add(CliOption.newString(MICROPROFILE_REST_CLIENT_VERSION, "Version of MicroProfile Rest Client API."));
         cliOptions.add(CliOption.newBoolean(CodegenConstants.USE_SINGLE_REQUEST_PARAMETER, "Setting this property to true will generate functions with a single argument containing all API endpoint parameters instead of one argument per parameter. ONLY jersey2, jersey3, okhttp-gson support this option."));
         cliOptions.add(CliOption.newBoolean(WEBCLIENT_BLOCKING_OPERATIONS, "Making all WebClient operations blocking(sync). Note that if on operation 'x-webclient-blocking: false' then such operation won't be sync", this.webclientBlockingOperations));
@@ -297,6 +304,12 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             additionalProperties.put(CodegenConstants.USE_ONEOF_DISCRIMINATOR_LOOKUP, useOneOfDiscriminatorLookup);
         }
 
+        if (additionalProperties.containsKey(USE_FULL_MATCH_DESERIALIZATION)) {
+            setUseFullMatchDeserialization(convertPropertyToBooleanAndWriteBack(USE_FULL_MATCH_DESERIALIZATION));
+        } else {
+            additionalProperties.put(USE_FULL_MATCH_DESERIALIZATION, useFullMatchDeserialization);
+        }
+
         // RxJava
         if (additionalProperties.containsKey(USE_RX_JAVA2) && additionalProperties.containsKey(USE_RX_JAVA3)) {
             LOGGER.warn("You specified all RxJava versions 2 and 3 but they are mutually exclusive. Defaulting to v3.");
@@ -417,6 +430,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         }
         additionalProperties.put(SUPPORT_STREAMING, supportStreaming);
 
+        if (additionalProperties.containsKey(CACHE_OBJECT_READERS)) {
+            this.setCacheObjectReaders(convertPropertyToBooleanAndWriteBack(CACHE_OBJECT_READERS));
+        }
+
         if (additionalProperties.containsKey(CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT)) {
             this.setWithAWSV4Signature(Boolean.parseBoolean(additionalProperties.get(CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT).toString()));
         }
@@ -855,6 +872,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
                     }
                 }
             }
+            if (NATIVE.equals(getLibrary())) {
+                objs.put("returnTypes", nativeReturnTypes(operationList));
+            }
         }
 
         if (MICROPROFILE.equals(getLibrary())) {
@@ -992,6 +1012,59 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         return codegenModel;
     }
 
+    @Override
+    public Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs) {
+        objs = super.postProcessAllModels(objs);
+
+        if (isLibrary(JERSEY2) || isLibrary(JERSEY3) || isLibrary(NATIVE) || isLibrary(OKHTTP_GSON)) {
+            Map<String, CodegenModel> modelsByClassname = new HashMap<>();
+            for (ModelsMap entry : objs.values()) {
+                for (ModelMap mo : entry.getModels()) {
+                    modelsByClassname.put(mo.getModel().classname, mo.getModel());
+                }
+            }
+            for (CodegenModel cm : modelsByClassname.values()) {
+                if (cm.discriminator != null && (useOneOfDiscriminatorLookup || !useFullMatchDeserialization)) {
+                    // dispatch on the discriminator value before trying the schemas one by one
+                    cm.vendorExtensions.put("x-discriminator-lookup", true);
+                }
+                if (!useFullMatchDeserialization && (!cm.oneOf.isEmpty() || !cm.anyOf.isEmpty())) {
+                    cm.vendorExtensions.put("x-required-properties", requiredProperties(cm, modelsByClassname));
+                }
+            }
+        }
+        return objs;
+    }
+
+    /**
+     * Collects the required properties of the oneOf/anyOf schemas of a composed model, so that its deserializer only
+     * tries the schemas whose required properties are all present in the input.
+     *
+     * @param cm                the composed model
+     * @param modelsByClassname all the models, by class name
+     * @return the names of the schemas with required properties, and the JSON names of these properties
+     */
+    private List<Map<String, Object>> requiredProperties(CodegenModel cm, Map<String, CodegenModel> modelsByClassname) {
+        List<Map<String, Object>> requiredProperties = new ArrayList<>();
+        Set<String> schemas = new LinkedHashSet<>(cm.oneOf);
+        schemas.addAll(cm.anyOf);
+        for (String schema : schemas) {
+            CodegenModel candidate = modelsByClassname.get(schema);
+            if (candidate == null || candidate.requiredVars.isEmpty()) {
+                continue;
+            }
+            List<String> properties = new ArrayList<>();
+            for (CodegenProperty var : candidate.requiredVars) {
+                properties.add(var.baseName);
+            }
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("schema", schema);
+            entry.put("properties", properties);
+            requiredProperties.add(entry);
+        }
+        return requiredProperties;
+    }
+
     @Override
     public ModelsMap postProcessModelsEnum(ModelsMap objs) {
         objs = super.postProcessModelsEnum(objs);
@@ -1096,6 +1169,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         return this.useOneOfDiscriminatorLookup;
     }
 
+    public void setUseFullMatchDeserialization(boolean useFullMatchDeserialization) {
+        this.useFullMatchDeserialization = useFullMatchDeserialization;
+    }
+
     private boolean getUseSingleRequestParameter() {
         return useSingleRequestParameter;
     }
@@ -1104,6 +1181,39 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         this.useSingleRequestParameter = useSingleRequestParameter;
     }
 
+    /**
+     * Collects the distinct return types of the operations of an API class of the native library, which declares a
+     * {@code JavaType} constant (and, with {@link #CACHE_OBJECT_READERS}, an {@code ObjectReader}) per return type
+     * rather than creating a {@code TypeReference} on each call.
+     *
+     * @param operations the operations of the API class
+     * @return the return types, with the names of their constant and reader
+     */
+    private List<Map<String, String>> nativeReturnTypes(List<CodegenOperation> operations) {
+        Map<String, Map<String, String>> returnTypes = new LinkedHashMap<>();
+        Set<String> constants = new HashSet<>();
+        for (CodegenOperation op : operations) {
+            if (op.returnType == null) {
+                continue;
+            }
+            Map<String, String> returnType = returnTypes.computeIfAbsent(op.returnType, type -> {
+                String name = underscore(type.replaceAll("[^A-Za-z0-9]+", "_")).replaceAll("^_+|_+$", "");
+                String constant = name.toUpperCase(Locale.ROOT);
+                for (int i = 2; !constants.add(constant); i++) {
+                    constant = name.toUpperCase(Locale.ROOT) + "_" + i;
+                }
+                Map<String, String> entry = new HashMap<>();
+                entry.put("type", type);
+                entry.put("constant", constant + "_TYPE");
+                entry.put("reader", "memberVar" + camelize(constant.toLowerCase(Locale.ROOT)) + "Reader");
+                return entry;
+            });
+            op.vendorExtensions.put("x-java-return-type-constant", returnType.get("constant"));
+            op.vendorExtensions.put("x-java-return-type-reader", returnType.get("reader"));
+        }
+        return new ArrayList<>(returnTypes.values());
+    }
+
     public void setUseRxJava(boolean useRxJava) {
         this.useRxJava = useRxJava;
         doNotUseRx = false;
@@ -1183,6 +1293,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         this.supportStreaming = supportStreaming;
     }
 
+    public void setCacheObjectReaders(final boolean cacheObjectReaders) {
+        this.cacheObjectReaders = cacheObjectReaders;
+    }
+
     public void setWithAWSV4Signature(boolean withAWSV4Signature) {
         this.withAWSV4Signature = withAWSV4Signature;
     }
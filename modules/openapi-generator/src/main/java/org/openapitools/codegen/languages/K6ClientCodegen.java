@@ -27,6 +27,8 @@ import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -40,6 +42,8 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -71,6 +75,7 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.parser.util.SchemaTypeUtil;
 
 public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
 
@@ -92,6 +97,26 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
     private static final String X_OPERATION_DATAEXTRACT_VALUE_PATH = "valuePath"; // denotes path to value in body of response which should be extracted
     private static final String X_OPERATION_DATAEXTRACT_PARAMETER_NAME = "parameterName"; // denotes name of parameter to which extracted value should be assigned
 
+    // K6 vendor extension - operation weight - relative number of iterations of the
+    // group of the operation in the generated scenarios, 1 by default
+    private static final String X_OPERATION_WEIGHT = "x-k6-weight";
+
+    // K6 vendor extension - operation rate - fixed number of iterations per second of
+    // the group of the operation in the generated `ramping-arrival-rate` scenarios
+    private static final String X_OPERATION_RATE = "x-k6-rate";
+
+    // K6 vendor extension - operation latency - service level objectives of the
+    // operation in milliseconds, e.g. `{p95: 200, p99: 500}`, checked by thresholds
+    private static final String X_OPERATION_LATENCY = "x-k6-latency";
+    private static final Pattern X_OPERATION_LATENCY_PERCENTILE = Pattern.compile("p\\(?(\\d+(\\.\\d+)?)\\)?");
+    private static final Set<String> X_OPERATION_LATENCY_STATISTICS = new HashSet<>(
+            Arrays.asList("avg", "min", "med", "max"));
+
+    // names which cannot be used for the functions executed by the scenarios
+    private static final Set<String> SCENARIO_RESERVED_NAMES = new HashSet<>(
+            Arrays.asList("http", "group", "check", "sleep", "options", "setup", "teardown", "handleSummary",
+                    "SharedArray", "default", "function", "delete", "new", "return", "this", "var", "let", "const"));
+
     public K6ClientCodegen() {
         super();
 
@@ -99,6 +124,20 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
                 .stability(Stability.BETA)
                 .build();
 
+        CliOption executorOption = new CliOption(EXECUTOR,
+                "k6 executor of the generated scenarios, one scenario per group of requests. If not set, "
+                        + "scenarios are generated with the ramping-arrival-rate executor when operations declare the "
+                        + X_OPERATION_WEIGHT + " or " + X_OPERATION_RATE + " vendor extensions.");
+        Map<String, String> executorOptions = new HashMap<>();
+        executorOptions.put(EXECUTOR_RAMPING_ARRIVAL_RATE, "ramp up to a number of iterations per second, shared between the scenarios by weight");
+        executorOptions.put(EXECUTOR_CONSTANT_VUS, "run a number of virtual users, shared between the scenarios by weight");
+        executorOption.setEnum(executorOptions);
+        cliOptions.add(executorOption);
+        cliOptions.add(new CliOption(RATE, "Number of iterations per second of the ramping-arrival-rate scenarios, "
+                + "excluding the scenarios with a " + X_OPERATION_RATE + " vendor extension.", SchemaTypeUtil.INTEGER_TYPE).defaultValue(String.valueOf(rate)));
+        cliOptions.add(new CliOption(VUS, "Number of virtual users of the scenarios.", SchemaTypeUtil.INTEGER_TYPE).defaultValue(String.valueOf(vus)));
+        cliOptions.add(CliOption.newString(DURATION, "Duration of the scenarios, after the ramp up.").defaultValue(duration));
+        cliOptions.add(CliOption.newString(RAMP_UP, "Duration of the ramp up of the ramping-arrival-rate scenarios.").defaultValue(rampUp));
     }
 
     static class Parameter {
@@ -106,6 +145,8 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
         Object value;
         boolean hasExample;
         boolean initialize;
+        @Nullable
+        String sharedArray; // name of the SharedArray holding the values of 'examples'
 
         public Parameter(String key, Object value) {
             this.key = key;
@@ -183,15 +224,19 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
 
                 Object rawValue = ((K6ClientCodegen.Parameter) fragment.context()).value;
 
-                // handle as 'examples'
-                if (rawValue instanceof Map) {
+                String sharedArray = ((K6ClientCodegen.Parameter) fragment.context()).sharedArray;
 
-                    @SuppressWarnings("unchecked")
-                    Set<String> exampleValues = ((Map<String, Example>) rawValue).values().stream()
-                            .map(x -> quoteExample(
-                                    StringEscapeUtils.escapeEcmaScript(
-                                            String.valueOf(x.getValue()))))
-                            .collect(Collectors.toCollection(TreeSet::new));
+                // handle as 'examples' loaded in a SharedArray
+                if (sharedArray != null) {
+
+                    writer.write(String.join("",
+                            sharedArray, "[Math.floor(Math.random() * ", sharedArray, ".length)];",
+                            " // random element from list extracted from 'examples' field defined at the parameter level of OpenAPI spec"));
+
+                    // handle as 'examples'
+                } else if (rawValue instanceof Map) {
+
+                    Set<String> exampleValues = exampleValues((Map<?, ?>) rawValue);
 
                     if (!exampleValues.isEmpty()) {
 
@@ -229,6 +274,14 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
             }
         }
 
+        static Set<String> exampleValues(Map<?, ?> examples) {
+            return examples.values().stream()
+                    .map(x -> quoteExample(
+                            StringEscapeUtils.escapeEcmaScript(
+                                    String.valueOf(((Example) x).getValue()))))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+
         private static String quoteExample(String exampleValue) {
             return StringUtils.wrap(exampleValue, "'");
         }
@@ -261,6 +314,7 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
         String compression;
         @Nullable
         String responseType;
+        boolean hasHeaders;
 
         public HTTPParameters(@Nullable String auth, @Nullable List<Parameter> cookies,
                               @Nullable List<Parameter> headers, @Nullable List<Parameter> jar, @Nullable Integer redirects,
@@ -275,6 +329,7 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
             this.timeout = timeout;
             this.compression = compression;
             this.responseType = responseType;
+            this.hasHeaders = headers != null && !headers.isEmpty();
         }
     }
 
@@ -322,8 +377,13 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
 
     static public class HTTPRequestGroup {
         String groupName;
+        String functionName; // name of the function executing the group, and of its scenario
         Set<Parameter> variables; // query and path parameters
         List<HTTPRequest> requests;
+        @Nullable
+        Integer weight; // see `X_OPERATION_WEIGHT` K6 vendor extension
+        @Nullable
+        Integer rate; // see `X_OPERATION_RATE` K6 vendor extension
         private final Map<Integer, HTTPRequest> requestsMap;
 
         public HTTPRequestGroup(String groupName, Set<Parameter> variables, Map<Integer, HTTPRequest> requestsMap) {
@@ -345,6 +405,63 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
         private List<HTTPRequest> sortRequests(Map<Integer, HTTPRequest> requestsMap) {
             return new ArrayList<>(new TreeMap<>(requestsMap).values());
         }
+
+        // a group of operations from several paths uses the largest weight and rate of its operations
+        private void addWorkload(@Nullable Integer moreWeight, @Nullable Integer moreRate) {
+            if (moreWeight != null) {
+                this.weight = this.weight == null ? moreWeight : Math.max(this.weight, moreWeight);
+            }
+            if (moreRate != null) {
+                this.rate = this.rate == null ? moreRate : Math.max(this.rate, moreRate);
+            }
+        }
+    }
+
+    // Example values of a parameter, loaded once in the init context and shared between virtual users
+    static class SharedArray {
+        String name;
+        String values;
+
+        public SharedArray(String name, String values) {
+            this.name = name;
+            this.values = values;
+        }
+    }
+
+    // k6 scenario executing the function of a request group
+    static class Scenario {
+        String name;
+        String executor;
+        boolean isRampingArrivalRate;
+        @Nullable
+        Integer rate;
+        int vus;
+        int maxVus;
+        String rampUp;
+        String duration;
+
+        public Scenario(String name, String executor, @Nullable Integer rate, int vus, int maxVus, String rampUp,
+                        String duration) {
+            this.name = name;
+            this.executor = executor;
+            this.isRampingArrivalRate = EXECUTOR_RAMPING_ARRIVAL_RATE.equals(executor);
+            this.rate = rate;
+            this.vus = vus;
+            this.maxVus = maxVus;
+            this.rampUp = rampUp;
+            this.duration = duration;
+        }
+    }
+
+    // k6 threshold - conditions on a metric, which fail the test run when not met
+    static class Threshold {
+        String metric;
+        List<String> conditions;
+
+        public Threshold(String metric, List<String> conditions) {
+            this.metric = metric;
+            this.conditions = conditions;
+        }
     }
 
     private final Logger LOGGER = LoggerFactory.getLogger(K6ClientCodegen.class);
@@ -355,6 +472,13 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
     public static final String PROJECT_VERSION = "projectVersion";
     public static final String BASE_URL = "baseURL";
     public static final String PRESERVE_LEADING_PARAM_CHAR = "preserveLeadingParamChar";
+    public static final String EXECUTOR = "executor";
+    public static final String RATE = "rate";
+    public static final String VUS = "vus";
+    public static final String DURATION = "duration";
+    public static final String RAMP_UP = "rampUp";
+    public static final String EXECUTOR_RAMPING_ARRIVAL_RATE = "ramping-arrival-rate";
+    public static final String EXECUTOR_CONSTANT_VUS = "constant-vus";
     static final Collection<String> INVOKER_PKG_SUPPORTING_FILES = Arrays.asList("script.mustache", "README.mustache");
     static final String[][] JAVASCRIPT_SUPPORTING_FILES = {
             new String[]{"script.mustache", "script.js"}, new String[]{"README.mustache", "README.md"}};
@@ -369,6 +493,12 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
     protected String sourceFolder = "";
     private String modelPropertyNaming = "camelCase";
     protected boolean preserveLeadingParamChar = false;
+    @Nullable
+    protected String executor;
+    protected int rate = 10;
+    protected int vus = 10;
+    protected String duration = "1m";
+    protected String rampUp = "30s";
 
     @Override
     public CodegenType getTag() {
@@ -417,6 +547,21 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
         }
         boolean preserveLeadingParamChar = convertPropertyToBooleanAndWriteBack(PRESERVE_LEADING_PARAM_CHAR);
         this.setPreserveLeadingParamChar(preserveLeadingParamChar);
+        if (additionalProperties.containsKey(EXECUTOR)) {
+            setExecutor((String) additionalProperties.get(EXECUTOR));
+        }
+        if (additionalProperties.containsKey(RATE)) {
+            setRate(parsePositiveInteger(RATE));
+        }
+        if (additionalProperties.containsKey(VUS)) {
+            setVus(parsePositiveInteger(VUS));
+        }
+        if (additionalProperties.containsKey(DURATION)) {
+            setDuration((String) additionalProperties.get(DURATION));
+        }
+        if (additionalProperties.containsKey(RAMP_UP)) {
+            setRampUp((String) additionalProperties.get(RAMP_UP));
+        }
     }
 
     @Override
@@ -488,10 +633,13 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
         Map<String, HTTPRequestGroup> requestGroups = new HashMap<>();
         Set<Parameter> extraParameters = new HashSet<>();
         Map<String, Set<Parameter>> pathVariables = new HashMap<>();
+        Map<String, Threshold> thresholds = new TreeMap<>();
 
         for (String path : openAPI.getPaths().keySet()) {
             Map<Integer, HTTPRequest> requests = new HashMap<>();
             Set<Parameter> variables = new HashSet<>();
+            Integer weight = null;
+            Integer rate = null;
 
             String groupName = path;
 
@@ -520,6 +668,27 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
                     operationGroupingOrder = OptionalInt.of(operationGrouping.get().order);
                 }
 
+                // optionally weight the group of operations, or set its rate, in the generated
+                // scenarios - see `X_OPERATION_WEIGHT` and `X_OPERATION_RATE` K6 vendor extensions
+                Integer operationWeight = extractPositiveInteger(cgOperation, X_OPERATION_WEIGHT);
+                if (operationWeight != null) {
+                    weight = weight == null ? operationWeight : Math.max(weight, operationWeight);
+                }
+                Integer operationRate = extractPositiveInteger(cgOperation, X_OPERATION_RATE);
+                if (operationRate != null) {
+                    rate = rate == null ? operationRate : Math.max(rate, operationRate);
+                }
+
+                // optionally check latency SLOs with thresholds on the requests of the operation,
+                // tagged with its name - see `X_OPERATION_LATENCY` K6 vendor extension
+                List<Parameter> tags = null;
+                List<String> latencyConditions = extractLatencyConditions(cgOperation);
+                if (!latencyConditions.isEmpty()) {
+                    tags = Collections.singletonList(new Parameter("name", getDoubleQuotedString(cgOperation.operationId)));
+                    String metric = "http_req_duration{name:" + cgOperation.operationId + "}";
+                    thresholds.put(metric, new Threshold(metric, latencyConditions));
+                }
+
                 for (Map.Entry<String, ApiResponse> resp : operation.getResponses().entrySet()) {
                     String statusData = resp.getKey().equals("default") ? "200" : resp.getKey();
 
@@ -633,11 +802,9 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
 
                 pathVariables.put(groupName, variables);
 
-                final HTTPParameters params = new HTTPParameters(null, null, httpParams, null, null, null, null, null,
+                final HTTPParameters params = new HTTPParameters(null, null, httpParams, null, null, tags, null, null,
                         responseType.length() > 0 ? responseType : null);
 
-                assert params.headers != null;
-
                 // check if data needs to be extracted from response of this operation
                 Optional<DataExtractSubstituteParameter> dataExtract = getDataExtractSubstituteParameter(
                         dataExtractSubstituteParams, operationId);
@@ -648,11 +815,12 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
                 requests.put(requestOrder, new HTTPRequest(method.toString().toLowerCase(Locale.ROOT), path,
                         queryParams.size() > 0 ? queryParams : null,
                         bodyOrFormParams.size() > 0 ? new HTTPBody(bodyOrFormParams) : null, hasRequestBodyExample,
-                        params.headers.size() > 0 ? params : null, k6Checks.size() > 0 ? k6Checks : null,
+                        params.hasHeaders || params.tags != null ? params : null, k6Checks.size() > 0 ? k6Checks : null,
                         dataExtract.orElse(null)));
             }
 
             addOrUpdateRequestGroup(requestGroups, groupName, pathVariables.get(groupName), requests);
+            requestGroups.get(groupName).addWorkload(weight, rate);
         }
 
         for (HTTPRequestGroup requestGroup : requestGroups.values()) {
@@ -667,8 +835,25 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
             initializeDataExtractSubstituteParameters(dataExtractSubstituteParams, requestGroup);
         }
 
+        // names of the global variables and functions of the script
+        Set<String> names = extraParameters.stream().map(p -> p.key).collect(Collectors.toCollection(HashSet::new));
+        names.addAll(SCENARIO_RESERVED_NAMES);
+
+        List<SharedArray> sharedArrays = createSharedArrays(requestGroups.values(), names);
+        for (HTTPRequestGroup requestGroup : requestGroups.values()) {
+            requestGroup.functionName = toUniqueName(toFunctionName(requestGroup.groupName), names);
+        }
+        List<Scenario> scenarios = createScenarios(requestGroups.values());
+
         additionalProperties.put("requestGroups", requestGroups.values());
         additionalProperties.put("extra", extraParameters);
+        additionalProperties.put("sharedArrays", sharedArrays);
+        additionalProperties.put("hasSharedArrays", !sharedArrays.isEmpty());
+        additionalProperties.put("scenarios", scenarios);
+        additionalProperties.put("thresholds", thresholds.values());
+        additionalProperties.put("hasScenarios", !scenarios.isEmpty());
+        additionalProperties.put("hasThresholds", !thresholds.isEmpty());
+        additionalProperties.put("hasOptions", !scenarios.isEmpty() || !thresholds.isEmpty());
 
         for (String[] supportingTemplateFile : JAVASCRIPT_SUPPORTING_FILES) {
             String templateFile = supportingTemplateFile[0];
@@ -837,6 +1022,45 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
         }
     }
 
+    public void setExecutor(String executor) {
+        if (!EXECUTOR_RAMPING_ARRIVAL_RATE.equals(executor) && !EXECUTOR_CONSTANT_VUS.equals(executor)) {
+            throw new IllegalArgumentException("Unsupported executor: " + executor + ", expected "
+                    + EXECUTOR_RAMPING_ARRIVAL_RATE + " or " + EXECUTOR_CONSTANT_VUS);
+        }
+        this.executor = executor;
+    }
+
+    public void setRate(int rate) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Invalid " + RATE + ": " + rate + ", expected a positive integer");
+        }
+        this.rate = rate;
+    }
+
+    public void setVus(int vus) {
+        if (vus <= 0) {
+            throw new IllegalArgumentException("Invalid " + VUS + ": " + vus + ", expected a positive integer");
+        }
+        this.vus = vus;
+    }
+
+    private int parsePositiveInteger(String option) {
+        Object value = additionalProperties.get(option);
+        try {
+            return Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + option + ": " + value + ", expected a positive integer", e);
+        }
+    }
+
+    public void setDuration(String duration) {
+        this.duration = duration;
+    }
+
+    public void setRampUp(String rampUp) {
+        this.rampUp = rampUp;
+    }
+
     public void setPreserveLeadingParamChar(boolean preserveLeadingParamChar) {
         this.preserveLeadingParamChar = preserveLeadingParamChar;
     }
@@ -1149,6 +1373,216 @@ public class K6ClientCodegen extends DefaultCodegen implements CodegenConfig {
         }
     }
 
+    /**
+     * Optionally, retrieve the positive integer specified in the `X_OPERATION_WEIGHT`
+     * or `X_OPERATION_RATE` K6 vendor extension
+     *
+     * @param cgOperation
+     * @param extension
+     * @return the value, or null if the extension is absent or invalid
+     */
+    private Integer extractPositiveInteger(CodegenOperation cgOperation, String extension) {
+        Object value = cgOperation.vendorExtensions.get(extension);
+        if (value == null) {
+            return null;
+        }
+        try {
+            int integer = Integer.parseInt(String.valueOf(value));
+            if (integer > 0) {
+                return integer;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        LOGGER.warn("Ignoring {} of operation {}: {} is not a positive integer", extension, cgOperation.operationId, value);
+        return null;
+    }
+
+    /**
+     * Optionally, retrieve the threshold conditions of the latency SLOs specified in
+     * the `X_OPERATION_LATENCY` K6 vendor extension, e.g. `p(95)<200`
+     *
+     * @param cgOperation
+     * @return conditions on the request duration, empty if there are none
+     */
+    private List<String> extractLatencyConditions(CodegenOperation cgOperation) {
+        List<String> conditions = new ArrayList<>();
+        Object latency = cgOperation.vendorExtensions.get(X_OPERATION_LATENCY);
+        if (latency == null) {
+            return conditions;
+        }
+        if (!(latency instanceof Map)) {
+            LOGGER.warn("Ignoring {} of operation {}: a map of statistics to durations in milliseconds is expected",
+                    X_OPERATION_LATENCY, cgOperation.operationId);
+            return conditions;
+        }
+
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) latency).entrySet()) {
+            String statistic = String.valueOf(entry.getKey()).toLowerCase(Locale.ROOT);
+            Matcher percentile = X_OPERATION_LATENCY_PERCENTILE.matcher(statistic);
+            if (percentile.matches()) {
+                statistic = "p(" + percentile.group(1) + ")";
+            } else if (!X_OPERATION_LATENCY_STATISTICS.contains(statistic)) {
+                LOGGER.warn("Ignoring {} statistic {} of operation {}, expected avg, min, med, max or a percentile like p95",
+                        X_OPERATION_LATENCY, entry.getKey(), cgOperation.operationId);
+                continue;
+            }
+            if (!(entry.getValue() instanceof Number)) {
+                LOGGER.warn("Ignoring {} statistic {} of operation {}: {} is not a duration in milliseconds",
+                        X_OPERATION_LATENCY, entry.getKey(), cgOperation.operationId, entry.getValue());
+                continue;
+            }
+            conditions.add(statistic + "<" + entry.getValue());
+        }
+        return conditions;
+    }
+
+    /**
+     * Load the 'examples' of the path and query parameters in SharedArrays, so that
+     * each iteration picks one of them without copying them in every virtual user.
+     *
+     * @param requestGroups
+     * @param names         names already in use, updated with the names of the arrays
+     * @return the SharedArrays to declare in the init context
+     */
+    private List<SharedArray> createSharedArrays(Collection<HTTPRequestGroup> requestGroups, Set<String> names) {
+        List<SharedArray> sharedArrays = new ArrayList<>();
+        for (HTTPRequestGroup requestGroup : requestGroups) {
+            for (Parameter variable : requestGroup.variables) {
+                if (variable.hasExample && variable.sharedArray == null && variable.value instanceof Map) {
+                    Set<String> exampleValues = ParameterValueLambda.exampleValues((Map<?, ?>) variable.value);
+                    if (!exampleValues.isEmpty()) {
+                        variable.sharedArray = toUniqueName(variable.key + "Examples", names);
+                        sharedArrays.add(new SharedArray(variable.sharedArray, Arrays.toString(exampleValues.toArray())));
+                    }
+                }
+            }
+        }
+        return sharedArrays;
+    }
+
+    /**
+     * Create one scenario per request group, executing the function of the group. The
+     * rate (or the virtual users) of the scenarios are shared between the groups according
+     * to their `X_OPERATION_WEIGHT`, unless a group has a fixed `X_OPERATION_RATE`. The shares
+     * add up to the configured rate (or virtual users), see {@link #share(int, List, String)}.
+     *
+     * @param requestGroups
+     * @return the scenarios, empty if neither the executor nor the workload of an operation is specified
+     */
+    private List<Scenario> createScenarios(Collection<HTTPRequestGroup> requestGroups) {
+        List<Scenario> scenarios = new ArrayList<>();
+        boolean hasWorkload = requestGroups.stream().anyMatch(g -> g.weight != null || g.rate != null);
+        if (executor == null && !hasWorkload) {
+            return scenarios;
+        }
+        String scenarioExecutor = executor != null ? executor : EXECUTOR_RAMPING_ARRIVAL_RATE;
+
+        List<Integer> weights = requestGroups.stream().map(K6ClientCodegen::weightOf).collect(Collectors.toList());
+        List<Integer> sharedWeights = requestGroups.stream().filter(g -> g.rate == null)
+                .map(K6ClientCodegen::weightOf).collect(Collectors.toList());
+        Iterator<Integer> groupVus = share(vus, weights, VUS).iterator();
+        Iterator<Integer> groupRates = share(rate, sharedWeights, RATE).iterator();
+        for (HTTPRequestGroup requestGroup : requestGroups) {
+            int scenarioVus = groupVus.next();
+            int sharedRate = requestGroup.rate == null ? groupRates.next() : 0;
+            if (EXECUTOR_RAMPING_ARRIVAL_RATE.equals(scenarioExecutor)) {
+                int scenarioRate = requestGroup.rate != null ? requestGroup.rate : sharedRate;
+                scenarios.add(new Scenario(requestGroup.functionName, scenarioExecutor, scenarioRate, scenarioVus,
+                        Math.max(scenarioVus, vus), rampUp, duration));
+            } else {
+                if (requestGroup.rate != null) {
+                    LOGGER.warn("Ignoring {} of group {}, not supported by the {} executor", X_OPERATION_RATE,
+                            requestGroup.groupName, scenarioExecutor);
+                }
+                scenarios.add(new Scenario(requestGroup.functionName, scenarioExecutor, null, scenarioVus, scenarioVus,
+                        rampUp, duration));
+            }
+        }
+        return scenarios;
+    }
+
+    private static int weightOf(HTTPRequestGroup requestGroup) {
+        return requestGroup.weight != null ? requestGroup.weight : 1;
+    }
+
+    /**
+     * Share a total between scenarios in proportion to their weights, using the largest
+     * remainders, so that the shares add up to the total. Every scenario gets at least one,
+     * which exceeds the total only if there are more scenarios than the total.
+     *
+     * @param total   the rate or virtual users to share
+     * @param weights the weights of the scenarios
+     * @param option  the name of the shared option, for the warning
+     * @return the share of each scenario
+     */
+    private List<Integer> share(int total, List<Integer> weights, String option) {
+        List<Integer> shares = new ArrayList<>();
+        if (weights.isEmpty()) {
+            return shares;
+        }
+        if (total < weights.size()) {
+            LOGGER.warn("{} {} is less than the {} scenarios sharing it, each scenario gets 1", option, total,
+                    weights.size());
+            weights.forEach(w -> shares.add(1));
+            return shares;
+        }
+        long totalWeight = weights.stream().mapToLong(Integer::longValue).sum();
+        int left = total;
+        for (int weight : weights) {
+            int share = (int) (total * (long) weight / totalWeight);
+            shares.add(share);
+            left -= share;
+        }
+        // hand the rest out by largest remainder, the first scenario winning ties
+        List<Integer> byRemainder = new ArrayList<>();
+        for (int i = 0; i < weights.size(); i++) {
+            byRemainder.add(i);
+        }
+        byRemainder.sort(Comparator.comparingLong((Integer i) -> total * (long) weights.get(i) % totalWeight).reversed());
+        for (int i = 0; i < left; i++) {
+            int index = byRemainder.get(i);
+            shares.set(index, shares.get(index) + 1);
+        }
+        // scenarios need at least one, taken from the largest shares
+        for (int i = 0; i < shares.size(); i++) {
+            if (shares.get(i) == 0) {
+                int largest = shares.indexOf(Collections.max(shares));
+                shares.set(largest, shares.get(largest) - 1);
+                shares.set(i, 1);
+            }
+        }
+        return shares;
+    }
+
+    /**
+     * Convert the name of a request group, e.g. a path, into the name of a JavaScript function
+     *
+     * @param groupName
+     * @return function name in camel case
+     */
+    private String toFunctionName(String groupName) {
+        StringBuilder functionName = new StringBuilder();
+        for (String word : groupName.split("[^A-Za-z0-9]+")) {
+            if (!word.isEmpty()) {
+                functionName.append(functionName.length() == 0 ? word : StringUtils.capitalize(word));
+            }
+        }
+        if (functionName.length() == 0 || Character.isDigit(functionName.charAt(0))) {
+            functionName.insert(0, "group");
+        }
+        return camelize(functionName.toString(), LOWERCASE_FIRST_LETTER);
+    }
+
+    private String toUniqueName(String name, Set<String> names) {
+        String uniqueName = name;
+        for (int i = 2; names.contains(uniqueName); i++) {
+            uniqueName = name + i;
+        }
+        names.add(uniqueName);
+        return uniqueName;
+    }
+
     @Override
     public GeneratorLanguage generatorLanguage() {
         return GeneratorLanguage.K_SIX;
@@ -801,6 +801,8 @@ public class KotlinSpringServerCodegen extends AbstractKotlinCodegen
                         operation.returnContainer = returnContainer;
                     }
                 });
+
+                SpringCodegen.handleStreaming(operation, reactive, LOGGER);
 //                if(implicitHeaders){
 //                    removeHeadersFromAllParams(operation.allParams);
 //                }
@@ -911,4 +913,11 @@ public class KotlinSpringServerCodegen extends AbstractKotlinCodegen
         // provides extra protection against improperly trying to import language primitives and java types
         return !type.startsWith("org.springframework.") && super.needToImport(type);
     }
+
+    @Override
+    public List<VendorExtension> getSupportedVendorExtensions() {
+        List<VendorExtension> extensions = super.getSupportedVendorExtensions();
+        extensions.add(VendorExtension.X_SPRING_STREAMING);
+        return extensions;
+    }
 }
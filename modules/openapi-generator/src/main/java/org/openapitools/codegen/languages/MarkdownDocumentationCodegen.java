@@ -111,6 +111,12 @@ public class MarkdownDocumentationCodegen extends DefaultCodegen implements Code
     @Override
     public GeneratorLanguage generatorLanguage() { return null; }
 
+    @Override
+    public boolean isModelStreamingSupported() {
+        // the model pages and the README only use each model on its own
+        return true;
+    }
+
     @Override
     public String escapeUnsafeCharacters(String input) {
         // do nothing as the output is just doc
@@ -18,7 +18,6 @@
 package org.openapitools.codegen.languages;
 
 import io.swagger.v3.oas.models.OpenAPI;
-import org.apache.commons.io.FileUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.features.*;
 import org.openapitools.codegen.serializer.SerializerUtils;
@@ -26,8 +25,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.nio.charset.StandardCharsets;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.util.EnumSet;
+import java.util.Map;
 
 public class OpenAPIGenerator extends DefaultCodegen implements CodegenConfig {
     public static final String OUTPUT_NAME = "outputFileName";
@@ -36,6 +37,8 @@ public class OpenAPIGenerator extends DefaultCodegen implements CodegenConfig {
 
     protected String outputFileName = "openapi.json";
 
+    private File spooledSpec;
+
     public OpenAPIGenerator() {
         super();
 
@@ -83,13 +86,40 @@ public class OpenAPIGenerator extends DefaultCodegen implements CodegenConfig {
     }
 
     @Override
-    public void processOpenAPI(OpenAPI openAPI) {
-        String jsonOpenAPI = SerializerUtils.toJsonString(openAPI);
+    public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        if (!Boolean.TRUE.equals(objs.get("dryRun"))) {
+            spoolJSONSpecFile((OpenAPI) objs.get("openAPI"));
+        }
+        return super.postProcessSupportingFileData(objs);
+    }
+
+    @Override
+    public void postProcess() {
+        if (spooledSpec != null) {
+            if (!spooledSpec.delete()) {
+                LOGGER.debug("Could not delete {}", spooledSpec);
+            }
+            spooledSpec = null;
+        }
+        super.postProcess();
+    }
 
+    /**
+     * Serializes the spec to a temporary file, which is then copied to the output file like any other supporting
+     * file. The document is written out as it is serialized, so large documents are never held in memory as a whole.
+     */
+    private void spoolJSONSpecFile(OpenAPI openAPI) {
+        if (openAPI == null) {
+            return;
+        }
         try {
-            String outputFile = outputFolder + File.separator + outputFileName;
-            FileUtils.writeStringToFile(new File(outputFile), jsonOpenAPI, StandardCharsets.UTF_8);
-            LOGGER.info("wrote file to {}", outputFile);
+            File spool = File.createTempFile("openapi", ".json");
+            spool.deleteOnExit();
+            try (OutputStream out = new FileOutputStream(spool)) {
+                SerializerUtils.writeJson(openAPI, out);
+            }
+            supportingFiles.add(new SupportingFile(spool.getAbsolutePath(), "", outputFileName));
+            spooledSpec = spool;
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
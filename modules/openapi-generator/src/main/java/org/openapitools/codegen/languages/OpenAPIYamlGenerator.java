@@ -20,14 +20,20 @@ package org.openapitools.codegen.languages;
 import com.google.common.collect.ImmutableMap;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.features.*;
+import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.mustache.OnChangeLambda;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.samskivert.mustache.Mustache.Lambda;
 
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -36,10 +42,15 @@ import java.util.Map;
 public class OpenAPIYamlGenerator extends DefaultCodegen implements CodegenConfig {
     public static final String OUTPUT_NAME = "outputFile";
 
+    private static final String SPEC_TEMPLATE = "openapi.mustache";
+
     private final Logger LOGGER = LoggerFactory.getLogger(OpenAPIYamlGenerator.class);
 
     protected String outputFile = "openapi/openapi.yaml";
 
+    // the spec serialized ahead of the supporting files, copied to the output file
+    private File spooledSpec;
+
     public OpenAPIYamlGenerator() {
         super();
 
@@ -81,7 +92,7 @@ public class OpenAPIYamlGenerator extends DefaultCodegen implements CodegenConfi
             outputFile = additionalProperties.get(OUTPUT_NAME).toString();
         }
         LOGGER.info("Output file [outputFile={}]", outputFile);
-        supportingFiles.add(new SupportingFile("openapi.mustache", outputFile));
+        supportingFiles.add(new SupportingFile(SPEC_TEMPLATE, outputFile));
     }
 
     @Override
@@ -104,10 +115,63 @@ public class OpenAPIYamlGenerator extends DefaultCodegen implements CodegenConfi
 
     @Override
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
-        generateYAMLSpecFile(objs);
+        if (Boolean.TRUE.equals(objs.get("dryRun"))) {
+            // the spec file isn't written, so there is no need to serialize the spec
+            return super.postProcessSupportingFileData(objs);
+        }
+        if (isSpecTemplateCustomized() || !spoolYAMLSpecFile((OpenAPI) objs.get("openAPI"))) {
+            generateYAMLSpecFile(objs);
+        }
         return super.postProcessSupportingFileData(objs);
     }
 
+    @Override
+    public void postProcess() {
+        if (spooledSpec != null) {
+            if (!spooledSpec.delete()) {
+                LOGGER.debug("Could not delete {}", spooledSpec);
+            }
+            spooledSpec = null;
+        }
+        super.postProcess();
+    }
+
+    private boolean isSpecTemplateCustomized() {
+        return templateDir != null && !templateDir.equals(embeddedTemplateDir) && new File(templateDir, SPEC_TEMPLATE).isFile();
+    }
+
+    /**
+     * Serializes the spec to a temporary file as it is written out, rather than into a string passed to the
+     * template, and copies this file to the output file in place of the template. The memory used then doesn't depend
+     * on the size of the spec.
+     *
+     * @return true if the spec was spooled
+     */
+    private boolean spoolYAMLSpecFile(OpenAPI openAPI) {
+        if (openAPI == null) {
+            return false;
+        }
+        try {
+            File spool = File.createTempFile("openapi", ".yaml");
+            spool.deleteOnExit();
+            try (OutputStream out = new FileOutputStream(spool)) {
+                SerializerUtils.writeYaml(openAPI, out);
+            }
+            for (int i = 0; i < supportingFiles.size(); i++) {
+                SupportingFile supportingFile = supportingFiles.get(i);
+                if (SPEC_TEMPLATE.equals(supportingFile.getTemplateFile())) {
+                    supportingFiles.set(i, new SupportingFile(spool.getAbsolutePath(), supportingFile.getFolder(),
+                            supportingFile.getDestinationFilename()));
+                }
+            }
+            spooledSpec = spool;
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Can not spool yaml content, rendering it in memory", e);
+            return false;
+        }
+    }
+
     @Override
     public String escapeQuotationMark(String input) {
         // just return the original string
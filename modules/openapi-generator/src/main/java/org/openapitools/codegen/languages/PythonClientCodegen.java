@@ -79,12 +79,17 @@ public class PythonClientCodegen extends AbstractPythonCodegen {
     public static final String USE_NOSE = "useNose";
     public static final String RECURSION_LIMIT = "recursionLimit";
     public static final String USE_INLINE_MODEL_RESOLVER = "useInlineModelResolver";
+    public static final String JSON_BACKEND = "jsonBackend";
+    public static final String DEFAULT_JSON_BACKEND = "json";
+    public static final String ASYNCIO_TRANSPORT = "asyncioTransport";
 
     protected String packageUrl;
     protected String apiDocPath = "docs/apis/tags/";
     protected String modelDocPath = "docs/models/";
     protected boolean useNose = false;
     protected boolean useInlineModelResolver = false;
+    protected String jsonBackend = DEFAULT_JSON_BACKEND;
+    protected boolean asyncioTransport = false;
 
     protected Map<Character, String> regexModifiers;
 
@@ -226,6 +231,17 @@ public class PythonClientCodegen extends AbstractPythonCodegen {
 
         cliOptions.add(nonCompliantUseDiscrIfCompositionFails);
 
+        CliOption jsonBackendOption = new CliOption(JSON_BACKEND, "json library used to (de)serialize request and response bodies. The stdlib json module is used as a fallback when the library is not installed, or cannot handle a value.");
+        Map<String, String> jsonBackendOpts = new LinkedHashMap<>();
+        jsonBackendOpts.put("json", "the stdlib json module");
+        jsonBackendOpts.put("orjson", "orjson, installed with the fast-json extra");
+        jsonBackendOpts.put("msgspec", "msgspec, installed with the fast-json extra");
+        jsonBackendOption.setEnum(jsonBackendOpts);
+        jsonBackendOption.setDefault(DEFAULT_JSON_BACKEND);
+        cliOptions.add(jsonBackendOption);
+        cliOptions.add(CliOption.newBoolean(ASYNCIO_TRANSPORT, "generate an aiohttp-based asyncio transport (asyncio_rest.py) and ApiClient.call_api_async alongside the urllib3 one").
+                defaultValue(Boolean.FALSE.toString()));
+
         supportedLibraries.put("urllib3", "urllib3-based client");
         CliOption libraryOption = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use: urllib3");
         libraryOption.setDefault(DEFAULT_LIBRARY);
@@ -365,6 +381,19 @@ public class PythonClientCodegen extends AbstractPythonCodegen {
             setUseInlineModelResolver((String) additionalProperties.get(USE_INLINE_MODEL_RESOLVER));
         }
 
+        if (additionalProperties.containsKey(JSON_BACKEND)) {
+            setJsonBackend(additionalProperties.get(JSON_BACKEND).toString());
+        }
+        additionalProperties.put(JSON_BACKEND, jsonBackend);
+        additionalProperties.put("jsonBackendOrjson", "orjson".equals(jsonBackend));
+        additionalProperties.put("jsonBackendMsgspec", "msgspec".equals(jsonBackend));
+        additionalProperties.put("fastJson", !DEFAULT_JSON_BACKEND.equals(jsonBackend));
+
+        if (additionalProperties.containsKey(ASYNCIO_TRANSPORT)) {
+            setAsyncioTransport(Boolean.parseBoolean(additionalProperties.get(ASYNCIO_TRANSPORT).toString()));
+        }
+        additionalProperties.put(ASYNCIO_TRANSPORT, asyncioTransport);
+
         // check to see if setRecursionLimit is set and whether it's an integer
         if (additionalProperties.containsKey(RECURSION_LIMIT)) {
             try {
@@ -432,6 +461,9 @@ public class PythonClientCodegen extends AbstractPythonCodegen {
         } else {
             supportingFiles.add(new SupportingFile("rest." + templateExtension, packagePath(), "rest.py"));
         }
+        if (asyncioTransport) {
+            supportingFiles.add(new SupportingFile("asyncio_rest." + templateExtension, packagePath(), "asyncio_rest.py"));
+        }
 
         supportingFiles.add(new SupportingFile("schemas." + templateExtension, packagePath(), "schemas.py"));
 
@@ -2620,6 +2652,17 @@ public class PythonClientCodegen extends AbstractPythonCodegen {
         this.useInlineModelResolver = Boolean.parseBoolean(val);
     }
 
+    public void setJsonBackend(String jsonBackend) {
+        if (!"json".equals(jsonBackend) && !"orjson".equals(jsonBackend) && !"msgspec".equals(jsonBackend)) {
+            throw new IllegalArgumentException("jsonBackend must be one of json, orjson or msgspec.");
+        }
+        this.jsonBackend = jsonBackend;
+    }
+
+    public void setAsyncioTransport(boolean asyncioTransport) {
+        this.asyncioTransport = asyncioTransport;
+    }
+
     public void setPackageUrl(String packageUrl) {
         this.packageUrl = packageUrl;
     }
@@ -45,6 +45,7 @@ public class RustMayastorCodegen extends DefaultCodegen implements CodegenConfig
     private final Logger LOGGER = LoggerFactory.getLogger(RustMayastorCodegen.class);
     private boolean useSingleRequestParameter = false;
     private boolean supportMultipleResponses = false;
+    private boolean decodeArraysFromChunks = false;
     private String actixWebVersion = "4.1.0";
     private String actixWebFeatures = "\"rustls\"";
     private String actixWebTelemetryVersion = "\"0.12.0\"";
@@ -53,11 +54,13 @@ public class RustMayastorCodegen extends DefaultCodegen implements CodegenConfig
     public static final String PACKAGE_NAME = "packageName";
     public static final String PACKAGE_VERSION = "packageVersion";
     public static final String SUPPORT_MULTIPLE_RESPONSES = "supportMultipleResponses";
+    public static final String DECODE_ARRAYS_FROM_CHUNKS = "decodeArraysFromChunks";
     public static final String ACTIX_WEB_VERSION = "actixWebVersion";
     public static final String ACTIX_WEB4_BETA = "actixWeb4Beta";
     public static final String ACTIX_WEB_FEATURES = "actixWebFeatures";
     public static final String ACTIX_WEB_TELEMETRY_VERSION = "actixWebTelemetryVersion";
     private static final String NO_FORMAT = "%%NO_FORMAT";
+    private static final int QUERY_VALUE_CAPACITY = 16;
 
 
     protected String packageName = "openapi";
@@ -196,6 +199,8 @@ public class RustMayastorCodegen extends DefaultCodegen implements CodegenConfig
 
         cliOptions.add(new CliOption(SUPPORT_MULTIPLE_RESPONSES, "If set, return type wraps an enum of all possible 2xx schemas. This option is for 'reqwest' library only", SchemaTypeUtil.BOOLEAN_TYPE)
             .defaultValue(Boolean.FALSE.toString()));
+        cliOptions.add(new CliOption(DECODE_ARRAYS_FROM_CHUNKS, "If set, the tower-hyper client decodes the array responses from the received body chunks, rather than copying the whole body into a single buffer first", SchemaTypeUtil.BOOLEAN_TYPE)
+            .defaultValue(Boolean.FALSE.toString()));
         cliOptions.add(new CliOption(CodegenConstants.ENUM_NAME_SUFFIX, CodegenConstants.ENUM_NAME_SUFFIX_DESC).defaultValue(this.enumSuffix));
     }
 
@@ -303,6 +308,11 @@ public class RustMayastorCodegen extends DefaultCodegen implements CodegenConfig
         }
         writePropertyBack(SUPPORT_MULTIPLE_RESPONSES, getSupportMultipleReturns());
 
+        if (additionalProperties.containsKey(DECODE_ARRAYS_FROM_CHUNKS)) {
+            this.setDecodeArraysFromChunks(convertPropertyToBoolean(DECODE_ARRAYS_FROM_CHUNKS));
+        }
+        writePropertyBack(DECODE_ARRAYS_FROM_CHUNKS, getDecodeArraysFromChunks());
+
         // the option doesn't seem to be parsed correctly by the cmdline args - empty means default!??
         // so just set this to empty in the generator
         setApiNameSuffix("");
@@ -385,6 +395,14 @@ public class RustMayastorCodegen extends DefaultCodegen implements CodegenConfig
         this.supportMultipleResponses = supportMultipleResponses;
     }
 
+    public boolean getDecodeArraysFromChunks() {
+        return decodeArraysFromChunks;
+    }
+
+    public void setDecodeArraysFromChunks(boolean decodeArraysFromChunks) {
+        this.decodeArraysFromChunks = decodeArraysFromChunks;
+    }
+
     private boolean getUseSingleRequestParameter() {
         return useSingleRequestParameter;
     }
@@ -694,11 +712,73 @@ public class RustMayastorCodegen extends DefaultCodegen implements CodegenConfig
             if (!operation.vendorExtensions.containsKey("x-group-parameters") && useSingleRequestParameter) {
                 operation.vendorExtensions.put("x-group-parameters", Boolean.TRUE);
             }
+
+            // pre-size the query string buffer: the names, separators and a guess of the values' length
+            if (!operation.queryParams.isEmpty()) {
+                int queryCapacity = 0;
+                for (CodegenParameter param : operation.queryParams) {
+                    queryCapacity += param.baseName.length() + 2 + QUERY_VALUE_CAPACITY;
+                }
+                operation.vendorExtensions.put("x-query-capacity", queryCapacity);
+                operation.vendorExtensions.put("x-query-params-count", operation.queryParams.size());
+            }
+
+            processStreaming(operation);
+            if (decodeArraysFromChunks && "array".equals(operation.returnContainer)
+                    && !operation.vendorExtensions.containsKey("x-streaming-ndjson")) {
+                operation.vendorExtensions.put("x-decode-from-chunks", Boolean.TRUE);
+            }
+
+            Object payloadLimit = operation.vendorExtensions.get("x-payload-limit");
+            if (payloadLimit != null) {
+                long bytes = 0;
+                try {
+                    bytes = Long.parseLong(payloadLimit.toString());
+                } catch (NumberFormatException e) {
+                    // reported below
+                }
+                // the limits of actix are a usize, so only positive values compile
+                if (bytes > 0) {
+                    operation.vendorExtensions.put("x-payload-limit-bytes", bytes);
+                } else {
+                    LOGGER.warn("Ignoring x-payload-limit '{}' of operation {}: not a positive number of bytes", payloadLimit, operation.operationId);
+                }
+            }
         }
 
         return objs;
     }
 
+    /**
+     * Handles the x-streaming extension of an operation returning an array: the actix server handler streams the
+     * items as they are produced, as newline delimited JSON (ndjson) or as the elements of a JSON array
+     * (chunked-json).
+     */
+    private void processStreaming(CodegenOperation operation) {
+        Object streaming = operation.vendorExtensions.get("x-streaming");
+        if (streaming == null) {
+            return;
+        }
+        if (!"array".equals(operation.returnContainer) || supportMultipleResponses) {
+            LOGGER.warn("Ignoring x-streaming of operation {}: only a single array response can be streamed", operation.operationId);
+            return;
+        }
+        if ("ndjson".equals(streaming)) {
+            operation.vendorExtensions.put("x-streaming-ndjson", Boolean.TRUE);
+        } else if ("chunked-json".equals(streaming)) {
+            operation.vendorExtensions.put("x-streaming-json-array", Boolean.TRUE);
+        } else {
+            LOGGER.warn("Ignoring x-streaming '{}' of operation {}: expected ndjson or chunked-json", streaming, operation.operationId);
+            return;
+        }
+        operation.vendorExtensions.put("x-streaming-response", Boolean.TRUE);
+        String itemType = operation.returnType;
+        if (itemType.startsWith("Vec<") && itemType.endsWith(">")) {
+            itemType = itemType.substring("Vec<".length(), itemType.length() - 1);
+        }
+        operation.vendorExtensions.put("x-streaming-item-type", itemType);
+    }
+
     @Override
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
         generateYAMLSpecFile(objs);
@@ -111,6 +111,10 @@ public class SpringCodegen extends AbstractJavaCodegen
     public static final String USE_REQUEST_MAPPING_ON_CONTROLLER = "useRequestMappingOnController";
     public static final String USE_REQUEST_MAPPING_ON_INTERFACE = "useRequestMappingOnInterface";
 
+    // media types whose responses are written item by item by Spring WebFlux
+    static final Set<String> STREAMING_MEDIA_TYPES = new HashSet<>(Arrays.asList(
+            "application/x-ndjson", "application/stream+json", "text/event-stream"));
+
     public enum RequestMappingMode {
         api_interface("Generate the @RequestMapping annotation on the generated Api Interface."),
         controller("Generate the @RequestMapping annotation on the generated Api Controller Implementation."),
@@ -802,6 +806,7 @@ public class SpringCodegen extends AbstractJavaCodegen
                 });
 
                 handleImplicitHeaders(operation);
+                handleStreaming(operation, reactive, LOGGER);
             }
             // The tag for the controller is the first tag of the first operation
             final CodegenOperation firstOperation = ops.get(0);
@@ -821,6 +826,44 @@ public class SpringCodegen extends AbstractJavaCodegen
         void setReturnContainer(String returnContainer);
     }
 
+    /**
+     * Sets the x-spring-streaming extension of an operation to true if its response is streamed: the items of the
+     * response are returned one by one as a Flux (or a Flow in Kotlin) and written as they are produced, instead of
+     * being buffered in a ResponseEntity. A response is streamed if the operation has the extension set to true or,
+     * without the extension, if it produces a streaming media type such as application/x-ndjson. Streaming requires
+     * the reactive option, and a response body which is not a map.
+     *
+     * @param operation the operation, after its return type has been assigned
+     * @param reactive  whether the reactive option is set
+     * @param logger    the logger of the generator
+     */
+    static void handleStreaming(CodegenOperation operation, boolean reactive, Logger logger) {
+        final String extension = VendorExtension.X_SPRING_STREAMING.getName();
+        boolean streaming;
+        if (operation.vendorExtensions.containsKey(extension)) {
+            streaming = Boolean.parseBoolean(String.valueOf(operation.vendorExtensions.get(extension)));
+        } else {
+            streaming = operation.produces != null && operation.produces.stream()
+                    .map(produces -> produces.get("mediaType"))
+                    .filter(Objects::nonNull)
+                    .map(mediaType -> mediaType.split(";")[0].trim().toLowerCase(Locale.ROOT))
+                    .anyMatch(STREAMING_MEDIA_TYPES::contains);
+            if (!streaming) {
+                return;
+            }
+        }
+        if (streaming && (operation.returnType == null || operation.isMap)) {
+            logger.warn("{} of operation {} is ignored, only responses with a body which is not a map can be streamed",
+                    extension, operation.operationId);
+            streaming = false;
+        } else if (streaming && !reactive) {
+            logger.warn("{} of operation {} is ignored, streaming responses are only generated with the reactive option",
+                    extension, operation.operationId);
+            streaming = false;
+        }
+        operation.vendorExtensions.put(extension, streaming);
+    }
+
     /**
      * @param returnType       The return type that needs to be converted
      * @param dataTypeAssigner An object that will assign the data to the respective
@@ -1178,6 +1221,7 @@ public class SpringCodegen extends AbstractJavaCodegen
     public List<VendorExtension> getSupportedVendorExtensions() {
         List<VendorExtension> extensions = super.getSupportedVendorExtensions();
         extensions.add(VendorExtension.X_SPRING_PAGINATED);
+        extensions.add(VendorExtension.X_SPRING_STREAMING);
         return extensions;
     }
 
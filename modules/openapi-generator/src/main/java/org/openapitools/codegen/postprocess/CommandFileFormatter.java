@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.postprocess;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+
+/**
+ * Formats files by running an external command once per batch, with the paths of the files appended as arguments.
+ * The command is split on whitespace, the same way {@link Runtime#exec(String)} splits it.
+ */
+public class CommandFileFormatter implements FileFormatter {
+    private final List<String> command = new ArrayList<>();
+
+    public CommandFileFormatter(String command) {
+        StringTokenizer tokens = new StringTokenizer(command);
+        while (tokens.hasMoreTokens()) {
+            this.command.add(tokens.nextToken());
+        }
+        if (this.command.isEmpty()) {
+            throw new IllegalArgumentException("Empty post-processing command");
+        }
+    }
+
+    @Override
+    public void format(List<File> files) throws IOException {
+        List<String> arguments = new ArrayList<>(command);
+        for (File file : files) {
+            arguments.add(file.toString());
+        }
+
+        Process p = new ProcessBuilder(arguments).redirectErrorStream(true).start();
+        String output;
+        // the output has to be drained, as a formatter reporting on many files could otherwise fill the pipe and block
+        try (InputStream in = p.getInputStream()) {
+            output = IOUtils.toString(in, Charset.defaultCharset());
+        }
+        try {
+            int exitValue = p.waitFor();
+            if (exitValue != 0) {
+                throw new IOException("Exit value: " + exitValue + (output.isEmpty() ? "" : ", output: " + output.trim()));
+            }
+        } catch (InterruptedException e) {
+            p.destroy();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + command.get(0));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", command);
+    }
+}
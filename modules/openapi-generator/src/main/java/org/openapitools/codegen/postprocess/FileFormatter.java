@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.postprocess;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Formats generated files in place.
+ * <p>
+ * Besides the external command configured through the {@code *_POST_PROCESS_FILE} environment variables, a formatter
+ * running inside the generator JVM can be selected with {@code class:<fully qualified class name>}. Such a class
+ * needs a public no-argument constructor. Batches are formatted concurrently, so implementations must be thread-safe.
+ */
+public interface FileFormatter {
+
+    /**
+     * Formats a batch of files.
+     *
+     * @param files the files to format
+     * @throws IOException if the files could not be formatted
+     */
+    void format(List<File> files) throws IOException;
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.postprocess;
+
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Post-processes the generated files a generator is responsible for, e.g. formats all the generated Java files with
+ * the command set in {@code JAVA_POST_PROCESS_FILE}.
+ */
+public class FilePostProcessor {
+    /**
+     * Prefix of a post-processing command selecting a {@link FileFormatter} running in the generator JVM.
+     */
+    public static final String CLASS_PREFIX = "class:";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilePostProcessor.class);
+
+    private final FileFormatter formatter;
+    private final Set<String> extensions;
+
+    public FilePostProcessor(FileFormatter formatter, String... extensions) {
+        this.formatter = formatter;
+        this.extensions = new HashSet<>(Arrays.asList(extensions));
+    }
+
+    /**
+     * Creates a post-processor for a command, usually read from a {@code *_POST_PROCESS_FILE} environment variable.
+     * A command of the form {@code class:<class name>} selects an in-process {@link FileFormatter}; any other command
+     * is run as an external process with the files to format appended.
+     *
+     * @param command    the command
+     * @param extensions the extensions of the files to post-process, without the leading dot
+     * @return the post-processor
+     */
+    public static FilePostProcessor forCommand(String command, String... extensions) {
+        String trimmed = command.trim();
+        if (trimmed.startsWith(CLASS_PREFIX)) {
+            return new FilePostProcessor(newFormatter(trimmed.substring(CLASS_PREFIX.length()).trim()), extensions);
+        }
+        return new FilePostProcessor(new CommandFileFormatter(trimmed), extensions);
+    }
+
+    private static FileFormatter newFormatter(String className) {
+        try {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            Class<?> type = Class.forName(className, true,
+                    classLoader == null ? FilePostProcessor.class.getClassLoader() : classLoader);
+            return type.asSubclass(FileFormatter.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "Unable to create the file formatter %s: %s", className, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Determines whether a generated file is to be post-processed.
+     *
+     * @param file     the generated file
+     * @param fileType the type of the generated file, e.g. "model" or "api"
+     * @return true if the file is to be post-processed
+     */
+    public boolean accepts(File file, String fileType) {
+        return file != null && extensions.contains(FilenameUtils.getExtension(file.getName()));
+    }
+
+    /**
+     * Post-processes a batch of files. Failures are logged rather than thrown, so a broken formatter doesn't fail
+     * the generation.
+     *
+     * @param files the files to post-process
+     * @return true if the files were post-processed successfully
+     */
+    public boolean process(List<File> files) {
+        try {
+            formatter.format(files);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Error running the command ({}) on {} file(s). Exception: {}", formatter, files.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return formatter.toString();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.postprocess;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the generated files to post-process, and post-processes them once generation is done: the files of each
+ * type are split into batches, and the batches are post-processed on a bounded pool of threads, so an external
+ * formatter is started once per batch rather than once per file.
+ */
+public class PostProcessingStage {
+    /**
+     * Global property setting the maximum number of files post-processed at once.
+     */
+    public static final String BATCH_SIZE = "postProcessBatchSize";
+    /**
+     * Global property setting the number of batches post-processed concurrently.
+     */
+    public static final String PARALLELISM = "postProcessParallelism";
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * Upper bound of the length of the paths in a batch, which keeps the command line of an external formatter below
+     * the limits of the common platforms.
+     */
+    static final int MAX_BATCH_PATH_LENGTH = 24 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostProcessingStage.class);
+
+    private final FilePostProcessor postProcessor;
+    private final int batchSize;
+    private final int parallelism;
+    private final Map<String, List<File>> filesByType = new LinkedHashMap<>();
+
+    public PostProcessingStage(FilePostProcessor postProcessor, int batchSize, int parallelism) {
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("The batch size and parallelism of post-processing must be positive");
+        }
+        this.postProcessor = postProcessor;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Queues a generated file for post-processing.
+     *
+     * @param file     the generated file
+     * @param fileType the type of the generated file
+     * @return true if the file was queued, false if the post-processor doesn't handle it
+     */
+    public boolean offer(File file, String fileType) {
+        if (!postProcessor.accepts(file, fileType)) {
+            return false;
+        }
+        filesByType.computeIfAbsent(fileType, k -> new ArrayList<>()).add(file);
+        return true;
+    }
+
+    /**
+     * Post-processes the queued files, and waits for all the batches to complete.
+     */
+    public void run() {
+        List<Batch> batches = getBatches();
+        if (batches.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Batch batch : batches) {
+                futures.add(executor.submit(() -> {
+                    long batchStart = System.nanoTime();
+                    boolean succeeded = postProcessor.process(batch.files);
+                    if (!succeeded) {
+                        failed.incrementAndGet();
+                    }
+                    LOGGER.info("Post-processed batch {}/{} ({} {} file(s)) in {} ms{}", batch.number, batches.size(),
+                            batch.files.size(), batch.fileType, elapsedMillis(batchStart), succeeded ? "" : " with errors");
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted while post-processing files");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Error post-processing files", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int fileCount = filesByType.values().stream().mapToInt(List::size).sum();
+        LOGGER.info("Post-processed {} file(s) in {} batch(es) with {} in {} ms ({} failed batch(es))",
+                fileCount, batches.size(), postProcessor, elapsedMillis(start), failed.get());
+        filesByType.clear();
+    }
+
+    List<Batch> getBatches() {
+        List<Batch> batches = new ArrayList<>();
+        for (Map.Entry<String, List<File>> entry : filesByType.entrySet()) {
+            List<File> batch = new ArrayList<>();
+            int pathLength = 0;
+            for (File file : entry.getValue()) {
+                int length = file.getPath().length() + 1;
+                if (!batch.isEmpty() && (batch.size() >= batchSize || pathLength + length > MAX_BATCH_PATH_LENGTH)) {
+                    batches.add(new Batch(batches.size() + 1, entry.getKey(), batch));
+                    batch = new ArrayList<>();
+                    pathLength = 0;
+                }
+                batch.add(file);
+                pathLength += length;
+            }
+            if (!batch.isEmpty()) {
+                batches.add(new Batch(batches.size() + 1, entry.getKey(), batch));
+            }
+        }
+        return batches;
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    static class Batch {
+        final int number;
+        final String fileType;
+        final List<File> files;
+
+        Batch(int number, String fileType, List<File> files) {
+            this.number = number;
+            this.fileType = fileType;
+            this.files = files;
+        }
+    }
+}
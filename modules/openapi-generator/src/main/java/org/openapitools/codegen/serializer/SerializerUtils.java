@@ -1,8 +1,11 @@
 package org.openapitools.codegen.serializer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
@@ -13,30 +16,27 @@ import org.openapitools.codegen.config.GlobalSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public class SerializerUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger(SerializerUtils.class);
     private static final String YAML_MINIMIZE_QUOTES_PROPERTY = "org.openapitools.codegen.utils.yaml.minimize.quotes";
     private static final boolean minimizeYamlQuotes = Boolean.parseBoolean(GlobalSettings.getProperty(YAML_MINIMIZE_QUOTES_PROPERTY, "true"));
 
+    /**
+     * The writers are configured once and shared, as configuring a copy of the mappers for each document is costly.
+     * Both write "\n" line breaks whatever the platform.
+     */
+    private static final ObjectWriter YAML_WRITER = createYamlWriter();
+    private static final ObjectWriter JSON_WRITER = createJsonWriter();
+
     public static String toYamlString(OpenAPI openAPI) {
         if (openAPI == null) {
             return null;
         }
-        SimpleModule module = createModule();
         try {
-            ObjectMapper yamlMapper = Yaml.mapper().copy();
-            // there is an unfortunate YAML condition where user inputs should be treated as strings (e.g. "1234_1234"), but in yaml this is a valid number and
-            // removing quotes forcibly by default means we are potentially doing a data conversion resulting in an unexpected change to the user's YAML outputs.
-            // We may allow for property-based enable/disable, retaining the default of enabled for backward compatibility.
-            if (minimizeYamlQuotes) {
-                ((YAMLFactory) yamlMapper.getFactory()).enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-            } else {
-                ((YAMLFactory) yamlMapper.getFactory()).disable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-            }
-            return yamlMapper.registerModule(module)
-                    .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
-                    .writeValueAsString(openAPI)
-                    .replace("\r\n", "\n");
+            return YAML_WRITER.writeValueAsString(openAPI).replace("\r\n", "\n");
         } catch (JsonProcessingException e) {
             LOGGER.warn("Can not create yaml content", e);
         }
@@ -47,22 +47,61 @@ public class SerializerUtils {
         if (openAPI == null) {
             return null;
         }
-
-        SimpleModule module = createModule();
         try {
-            return Json.mapper()
-                    .copy()
-                    .registerModule(module)
-                    .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
-                    .writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(openAPI)
-                    .replace("\r\n", "\n");
+            return JSON_WRITER.writeValueAsString(openAPI).replace("\r\n", "\n");
         } catch (JsonProcessingException e) {
             LOGGER.warn("Can not create json content", e);
         }
         return null;
     }
 
+    /**
+     * Serializes a document as YAML, writing it out as it is serialized rather than building it in memory first.
+     *
+     * @param openAPI the document
+     * @param out     the stream to write to, closed once the document is written
+     * @throws IOException if the document can't be written
+     */
+    public static void writeYaml(OpenAPI openAPI, OutputStream out) throws IOException {
+        YAML_WRITER.writeValue(out, openAPI);
+    }
+
+    /**
+     * Serializes a document as JSON, writing it out as it is serialized rather than building it in memory first.
+     *
+     * @param openAPI the document
+     * @param out     the stream to write to, closed once the document is written
+     * @throws IOException if the document can't be written
+     */
+    public static void writeJson(OpenAPI openAPI, OutputStream out) throws IOException {
+        JSON_WRITER.writeValue(out, openAPI);
+    }
+
+    private static ObjectWriter createYamlWriter() {
+        ObjectMapper yamlMapper = Yaml.mapper().copy();
+        // there is an unfortunate YAML condition where user inputs should be treated as strings (e.g. "1234_1234"), but in yaml this is a valid number and
+        // removing quotes forcibly by default means we are potentially doing a data conversion resulting in an unexpected change to the user's YAML outputs.
+        // We may allow for property-based enable/disable, retaining the default of enabled for backward compatibility.
+        if (minimizeYamlQuotes) {
+            ((YAMLFactory) yamlMapper.getFactory()).enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        } else {
+            ((YAMLFactory) yamlMapper.getFactory()).disable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
+        }
+        return yamlMapper.registerModule(createModule())
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .writer();
+    }
+
+    private static ObjectWriter createJsonWriter() {
+        DefaultPrettyPrinter printer = new DefaultPrettyPrinter()
+                .withObjectIndenter(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE.withLinefeed("\n"));
+        return Json.mapper()
+                .copy()
+                .registerModule(createModule())
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .writer(printer);
+    }
+
     private static SimpleModule createModule() {
         SimpleModule module = new SimpleModule("OpenAPIModule");
         module.addSerializer(OpenAPI.class, new OpenAPISerializer());
@@ -155,6 +155,25 @@ public class ModelUtils {
      * @return schemas a list of unused schemas
      */
     public static List<String> getUnusedSchemas(OpenAPI openAPI) {
+        Set<String> references = new HashSet<>();
+        if (openAPI != null && openAPI.getPaths() != null) {
+            Set<String> visitedSchemas = new HashSet<>();
+            for (PathItem path : openAPI.getPaths().values()) {
+                collectSchemaReferences(openAPI, path, visitedSchemas, references);
+            }
+        }
+        return getUnusedSchemas(openAPI, references);
+    }
+
+    /**
+     * Return the list of unused schemas in the 'components/schemas' section of an openAPI specification,
+     * given the schemas referenced by its paths
+     *
+     * @param openAPI    specification
+     * @param references the schemas referenced by the paths, see {@link #collectSchemaReferences(OpenAPI, PathItem, Set, Set)}
+     * @return schemas a list of unused schemas
+     */
+    public static List<String> getUnusedSchemas(OpenAPI openAPI, Set<String> references) {
         final Map<String, List<String>> childrenMap;
         Map<String, List<String>> tmpChildrenMap;
         try {
@@ -167,23 +186,37 @@ public class ModelUtils {
         }
 
         childrenMap = tmpChildrenMap;
-        List<String> unusedSchemas = new ArrayList<String>();
+        Set<String> unusedSchemas = new LinkedHashSet<String>();
 
         if (openAPI != null) {
             Map<String, Schema> schemas = getSchemas(openAPI);
             unusedSchemas.addAll(schemas.keySet());
 
-            visitOpenAPI(openAPI, (s, t) -> {
-                if (s.get$ref() != null) {
-                    String ref = getSimpleRef(s.get$ref());
-                    unusedSchemas.remove(ref);
-                    if (childrenMap.containsKey(ref)) {
-                        unusedSchemas.removeAll(childrenMap.get(ref));
-                    }
+            for (String ref : references) {
+                unusedSchemas.remove(ref);
+                if (childrenMap.containsKey(ref)) {
+                    unusedSchemas.removeAll(childrenMap.get(ref));
                 }
-            });
+            }
         }
-        return unusedSchemas;
+        return new ArrayList<>(unusedSchemas);
+    }
+
+    /**
+     * Collect the names of the schemas referenced by a path of an openAPI specification, directly or through other
+     * schemas, so that a caller walking the paths can find the unused schemas without walking them again.
+     *
+     * @param openAPI        specification
+     * @param pathItem       the path to visit
+     * @param visitedSchemas the referenced schemas visited so far, shared between the paths of the specification
+     * @param references     the set the names of the referenced schemas are added to
+     */
+    public static void collectSchemaReferences(OpenAPI openAPI, PathItem pathItem, Set<String> visitedSchemas, Set<String> references) {
+        visitPathItem(pathItem, openAPI, (s, t) -> {
+            if (s.get$ref() != null) {
+                references.add(getSimpleRef(s.get$ref()));
+            }
+        }, visitedSchemas);
     }
 
     /**
@@ -221,7 +254,7 @@ public class ModelUtils {
      */
     private static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
         Map<String, PathItem> paths = openAPI.getPaths();
-        List<String> visitedSchemas = new ArrayList<>();
+        Set<String> visitedSchemas = new HashSet<>();
 
         if (paths != null) {
             for (PathItem path : paths.values()) {
@@ -230,7 +263,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         List<Operation> allOperations = pathItem.readOperations();
         if (allOperations != null) {
             for (Operation operation : allOperations) {
@@ -280,7 +313,7 @@ public class ModelUtils {
     }
 
     private static void visitParameters(OpenAPI openAPI, List<Parameter> parameters, OpenAPISchemaVisitor visitor,
-                                        List<String> visitedSchemas) {
+                                        Set<String> visitedSchemas) {
         if (parameters != null) {
             for (Parameter p : parameters) {
                 Parameter parameter = getReferencedParameter(openAPI, p);
@@ -296,7 +329,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         if (content != null) {
             for (Entry<String, MediaType> e : content.entrySet()) {
                 if (e.getValue().getSchema() != null) {
@@ -315,10 +348,10 @@ public class ModelUtils {
      * @param openAPI        the OpenAPI document that contains schema objects.
      * @param schema         the root schema object to be visited.
      * @param mimeType       the mime type. TODO: does not seem to be used in a meaningful way.
-     * @param visitedSchemas the list of referenced schemas that have been visited.
+     * @param visitedSchemas the set of referenced schemas that have been visited.
      * @param visitor        the visitor function which is invoked for every visited schema.
      */
-    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, List<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
+    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, Set<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
         visitor.visit(schema, mimeType);
         if (schema.get$ref() != null) {
             String ref = getSimpleRef(schema.get$ref());
@@ -944,7 +977,7 @@ public class ModelUtils {
      */
     public static List<Schema> getAllSchemas(OpenAPI openAPI) {
         List<Schema> allSchemas = new ArrayList<Schema>();
-        List<String> refSchemas = new ArrayList<String>();
+        Set<String> refSchemas = new HashSet<String>();
         getSchemas(openAPI).forEach((key, schema) -> {
             // Invoke visitSchema to recursively visit all schema objects, included inlined and composed schemas.
             // Use the OpenAPISchemaVisitor visitor function
@@ -3,20 +3,34 @@ package org.openapitools.codegen.validations.oas;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Paths;
-import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.validation.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * A validator which evaluates an OpenAPI 3.x specification document
+ * <p>
+ * The document is traversed once: the component schemas, including inline and composed schemas, then the paths, for
+ * their operations, their parameters and the schemas they reference, then the other components. The collected work
+ * items, including the unused schema check, are then evaluated in parallel. Results are reported in traversal order.
  */
 public class OpenApiEvaluator implements Validator<OpenAPI> {
+    private final Logger LOGGER = LoggerFactory.getLogger(OpenApiEvaluator.class);
+
     private RuleConfiguration ruleConfiguration;
+    private Map<ValidationRule, Duration> ruleTimings = Collections.emptyMap();
 
     /**
      * Constructs a new instance of {@link OpenApiEvaluator} with applied rules.
@@ -38,23 +52,31 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
         ValidationResult validationResult = new ValidationResult();
         if (specification == null) return validationResult;
 
-        OpenApiParameterValidations parameterValidations = new OpenApiParameterValidations(ruleConfiguration);
-        OpenApiSecuritySchemeValidations securitySchemeValidations = new OpenApiSecuritySchemeValidations(ruleConfiguration);
-        OpenApiSchemaValidations schemaValidations = new OpenApiSchemaValidations(ruleConfiguration);
-        OpenApiOperationValidations operationValidations = new OpenApiOperationValidations(ruleConfiguration);
-
-        if (ruleConfiguration.isEnableUnusedSchemasRecommendation()) {
+        Evaluation evaluation = new Evaluation(ruleConfiguration.isFailFast());
+        List<ValidationRule> parameterRules = evaluation.getRules(new OpenApiParameterValidations(ruleConfiguration));
+        List<ValidationRule> securitySchemeRules = evaluation.getRules(new OpenApiSecuritySchemeValidations(ruleConfiguration));
+        List<ValidationRule> schemaRules = evaluation.getRules(new OpenApiSchemaValidations(ruleConfiguration));
+        List<ValidationRule> operationRules = evaluation.getRules(new OpenApiOperationValidations(ruleConfiguration));
+
+        // the schemas referenced by the paths are collected while walking the paths below, and only then checked
+        Set<String> schemaReferences = new HashSet<>();
+        Set<String> visitedSchemas = new HashSet<>();
+        boolean checkUnusedSchemas = ruleConfiguration.isEnableUnusedSchemasRecommendation() && !ruleConfiguration.isFailFast();
+        if (checkUnusedSchemas) {
             ValidationRule unusedSchema = ValidationRule.create(Severity.WARNING, "Unused schema", "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
-            ModelUtils.getUnusedSchemas(specification).forEach(schemaName -> validationResult.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+            evaluation.add(() -> {
+                ValidationResult result = new ValidationResult();
+                ModelUtils.getUnusedSchemas(specification, schemaReferences).forEach(schemaName -> result.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+                return result;
+            }, unusedSchema);
         }
 
         // Get list of all schemas under /components/schemas, including nested schemas defined inline and composed schema.
         // The validators must be able to validate every schema defined in the OAS document.
-        List<Schema> schemas = ModelUtils.getAllSchemas(specification);
-        schemas.forEach(schema -> {
-            SchemaWrapper wrapper = new SchemaWrapper(specification, schema);
-            validationResult.consume(schemaValidations.validate(wrapper));
-        });
+        if (!schemaRules.isEmpty()) {
+            ModelUtils.getAllSchemas(specification).forEach(schema ->
+                    evaluation.add(schemaRules, () -> new SchemaWrapper(specification, schema)));
+        }
 
         List<Parameter> parameters = new ArrayList<>(50);
 
@@ -65,6 +87,10 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
                 List<Parameter> pathParameters = pathItem.getParameters();
                 if (pathParameters != null) parameters.addAll(pathItem.getParameters());
 
+                if (checkUnusedSchemas) {
+                    ModelUtils.collectSchemaReferences(specification, pathItem, visitedSchemas, schemaReferences);
+                }
+
                 pathItem.readOperationsMap().forEach((httpMethod, op) -> {
                     if (op != null) {
                         // parameters on each operation method
@@ -72,8 +98,7 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
                             parameters.addAll(op.getParameters());
                         }
 
-                        OperationWrapper wrapper = new OperationWrapper(specification, op, httpMethod);
-                        validationResult.consume(operationValidations.validate(wrapper));
+                        evaluation.add(operationRules, () -> new OperationWrapper(specification, op, httpMethod));
                     }
                 });
             });
@@ -83,10 +108,8 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
         if (components != null) {
             Map<String, SecurityScheme> securitySchemes = components.getSecuritySchemes();
             if (securitySchemes != null && !securitySchemes.isEmpty()) {
-                securitySchemes.values().forEach(securityScheme -> {
-                    SecuritySchemeWrapper wrapper = new SecuritySchemeWrapper(specification, securityScheme);
-                    validationResult.consume(securitySchemeValidations.validate(wrapper));
-                });
+                securitySchemes.values().forEach(securityScheme ->
+                        evaluation.add(securitySchemeRules, () -> new SecuritySchemeWrapper(specification, securityScheme)));
             }
 
             if (components.getParameters() != null) {
@@ -94,14 +117,13 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
             }
         }
 
-        parameters.forEach(parameter -> {
-            parameter = ModelUtils.getReferencedParameter(specification, parameter);
-            ParameterWrapper wrapper = new ParameterWrapper(specification, parameter);
-            validationResult.consume(parameterValidations.validate(wrapper));
-        });
+        parameters.forEach(parameter -> evaluation.add(parameterRules,
+                () -> new ParameterWrapper(specification, ModelUtils.getReferencedParameter(specification, parameter))));
+
+        evaluation.run(validationResult);
 
         List<Tag> tags = specification.getTags();
-        if (tags != null && tags.size() > 1) {
+        if (tags != null && tags.size() > 1 && !ruleConfiguration.isFailFast()) {
             Set<String> distinct = new HashSet<>();
             Set<String> duplicated = new HashSet<>();
             tags.forEach(tag -> {
@@ -121,6 +143,94 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
             }
         }
 
+        ruleTimings = evaluation.getTimings();
+        if (LOGGER.isDebugEnabled()) {
+            ruleTimings.forEach((rule, time) -> LOGGER.debug("Evaluated rule '{}' in {} ms", rule.getDescription(), time.toMillis()));
+        }
+
         return validationResult;
     }
+
+    /**
+     * Gets the time spent evaluating each rule during the last validation, summed over all the evaluated objects.
+     *
+     * @return The time spent per rule, slowest first.
+     */
+    public Map<ValidationRule, Duration> getRuleTimings() {
+        return ruleTimings;
+    }
+
+    /**
+     * The work items of one validation, and the state shared while evaluating them.
+     */
+    private static class Evaluation {
+        private final boolean failFast;
+        private final List<Supplier<ValidationResult>> items = new ArrayList<>();
+        private final Map<ValidationRule, LongAdder> nanos = new ConcurrentHashMap<>();
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        Evaluation(boolean failFast) {
+            this.failFast = failFast;
+        }
+
+        List<ValidationRule> getRules(GenericValidator<?> validator) {
+            return validator.getRules().stream()
+                    .filter(rule -> !failFast || rule.getSeverity() == Severity.ERROR)
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Adds a work item evaluating rules against an input, which is created when the item is evaluated.
+         */
+        void add(List<ValidationRule> rules, Supplier<Object> input) {
+            if (rules.isEmpty()) {
+                return;
+            }
+            items.add(() -> {
+                Object wrapper = input.get();
+                ValidationResult result = new ValidationResult();
+                for (ValidationRule rule : rules) {
+                    if (failed.get()) {
+                        break;
+                    }
+                    long start = System.nanoTime();
+                    Validated validated = GenericValidator.evaluate(rule, wrapper);
+                    record(rule, start);
+                    result.addResult(validated);
+                    if (failFast && validated instanceof Invalid && rule.getSeverity() == Severity.ERROR) {
+                        failed.set(true);
+                    }
+                }
+                return result;
+            });
+        }
+
+        void add(Supplier<ValidationResult> item, ValidationRule timedRule) {
+            items.add(() -> {
+                long start = System.nanoTime();
+                ValidationResult result = item.get();
+                record(timedRule, start);
+                return result;
+            });
+        }
+
+        private void record(ValidationRule rule, long start) {
+            nanos.computeIfAbsent(rule, r -> new LongAdder()).add(System.nanoTime() - start);
+        }
+
+        void run(ValidationResult validationResult) {
+            List<ValidationResult> results = items.parallelStream()
+                    .map(item -> failed.get() ? null : item.get())
+                    .collect(Collectors.toList());
+            results.stream().filter(Objects::nonNull).forEach(validationResult::consume);
+        }
+
+        Map<ValidationRule, Duration> getTimings() {
+            Map<ValidationRule, Duration> timings = new LinkedHashMap<>();
+            nanos.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<ValidationRule, LongAdder> e) -> e.getValue().sum()).reversed())
+                    .forEach(e -> timings.put(e.getKey(), Duration.ofNanos(e.getValue().sum())));
+            return timings;
+        }
+    }
 }
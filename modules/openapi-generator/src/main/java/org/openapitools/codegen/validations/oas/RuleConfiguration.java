@@ -16,6 +16,8 @@ public class RuleConfiguration {
 
     private boolean enableApiRequestUriWithBodyRecommendation = defaultedBoolean(propertyPrefix + ".anti-patterns.uri-unexpected-body", true);
 
+    private boolean failFast = defaultedBoolean(propertyPrefix + ".fail-fast", false);
+
     @SuppressWarnings("SameParameterValue")
     private static boolean defaultedBoolean(String key, boolean defaultValue) {
         String property = System.getProperty(key);
@@ -215,4 +217,28 @@ public class RuleConfiguration {
     public void setEnableUnusedSchemasRecommendation(boolean enableUnusedSchemasRecommendation) {
         this.enableUnusedSchemasRecommendation = enableUnusedSchemasRecommendation;
     }
+
+    /**
+     * Gets whether evaluation only looks for errors, and stops once one has been found.
+     * <p>
+     * When enabled, rules of a lower severity than error (including all recommendations) are not evaluated, and the
+     * remaining rules are skipped after the first error. This is useful when a caller only needs to know whether a
+     * document is valid.
+     *
+     * @return <code>true</code> if enabled, <code>false</code> if disabled
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Enable or Disable fail-fast evaluation.
+     * <p>
+     * For more details, see {@link RuleConfiguration#isFailFast()}
+     *
+     * @param failFast <code>true</code> to enable, <code>false</code> to disable
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
 }
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validations.oas;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.openapitools.codegen.validation.Invalid;
+import org.openapitools.codegen.validation.Severity;
+import org.openapitools.codegen.validation.ValidationRule;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A validator which checks the structure and the references of an OpenAPI 3.x document in a single streaming pass,
+ * without building the object model of the document, so documents too large to be loaded can be validated.
+ * <p>
+ * It reports:
+ * <ul>
+ *     <li>a document which is not an OpenAPI 3.x document, or misses its info or paths,</li>
+ *     <li>path keys which don't start with a slash,</li>
+ *     <li>duplicate operationIds,</li>
+ *     <li>local references ({@code #/...}) to a component, path or top-level entry which doesn't exist,</li>
+ *     <li>schemas which are not reachable from the paths or webhooks, when recommendations and unused schemas are to be
+ *     reported.</li>
+ * </ul>
+ * References to other documents are not followed. Issues are reported to a listener as soon as they are known: most
+ * structural issues while the document is read, unresolved references and unused schemas once it has been read.
+ */
+public class StreamingOpenApiValidator {
+    private static final Set<String> OPERATION_METHODS = new HashSet<>(Arrays.asList(
+            "get", "put", "post", "delete", "options", "head", "patch", "trace"));
+    private static final String ROOT = "";
+    private static final String SCHEMAS = "components/schemas/";
+
+    private static final ValidationRule STRUCTURE = ValidationRule.create(Severity.ERROR, "Document structure",
+            "The document doesn't have the structure of an OpenAPI 3.x document.", s -> ValidationRule.Pass.empty());
+    private static final ValidationRule DUPLICATE_OPERATION_ID = ValidationRule.create(Severity.ERROR, "Duplicate operationId",
+            "An operationId is used by more than one operation.", s -> ValidationRule.Pass.empty());
+    private static final ValidationRule UNRESOLVED_REFERENCE = ValidationRule.create(Severity.ERROR, "Unresolved reference",
+            "A reference points to a location which doesn't exist in the document.", s -> ValidationRule.Pass.empty());
+    private static final ValidationRule UNUSED_SCHEMA = ValidationRule.create(Severity.WARNING, "Unused schema",
+            "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
+
+    private final RuleConfiguration ruleConfiguration;
+
+    /**
+     * Constructs a new instance of {@link StreamingOpenApiValidator}.
+     *
+     * @param ruleConfiguration The rules to apply, which determine whether unused schemas are reported.
+     */
+    public StreamingOpenApiValidator(RuleConfiguration ruleConfiguration) {
+        this.ruleConfiguration = ruleConfiguration;
+    }
+
+    /**
+     * Validates a document read from a file or a URL.
+     *
+     * @param location The path or URL of the document.
+     * @param listener Receives the issues as they are found.
+     * @throws IOException If the document can't be read, or is not well-formed JSON or YAML.
+     */
+    public void validate(String location, Consumer<Invalid> listener) throws IOException {
+        File file = new File(location);
+        try (InputStream in = file.isFile() ? new FileInputStream(file) : new URL(location).openStream()) {
+            validate(in, listener);
+        }
+    }
+
+    /**
+     * Validates a JSON or YAML document.
+     *
+     * @param in       The document, which is not closed.
+     * @param listener Receives the issues as they are found.
+     * @throws IOException If the document can't be read, or is not well-formed JSON or YAML.
+     */
+    public void validate(InputStream in, Consumer<Invalid> listener) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        JsonFactory factory = isJson(buffered) ? JSON_FACTORY : YAML_FACTORY;
+        try (JsonParser parser = factory.createParser(buffered)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            new Pass(parser, listener).run();
+        }
+    }
+
+    private static boolean isJson(BufferedInputStream in) throws IOException {
+        in.mark(1024);
+        try {
+            int c;
+            do {
+                c = in.read();
+            } while (c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == 0xEF || c == 0xBB || c == 0xBF);
+            return c == '{';
+        } finally {
+            in.reset();
+        }
+    }
+
+    /**
+     * The state of the validation of one document.
+     */
+    private class Pass {
+        private final JsonParser parser;
+        private final Consumer<Invalid> listener;
+        // the keys from the root of the document to the current value
+        private final List<String> path = new ArrayList<>();
+
+        private final Set<String> topLevelFields = new HashSet<>();
+        // the paths, components and top-level entries references can point to, e.g. "components/schemas/Pet"
+        private final Set<String> defined = new HashSet<>();
+        // the references to entries not defined yet, with the line of their first use
+        private final Map<String, Integer> pending = new LinkedHashMap<>();
+        private final Map<String, Integer> operationIds = new HashMap<>();
+        // the entries referenced by each component, the paths and webhooks being the root
+        private final Map<String, Set<String>> references = new HashMap<>();
+        private final Set<String> schemas = new LinkedHashSet<>();
+
+        Pass(JsonParser parser, Consumer<Invalid> listener) {
+            this.parser = parser;
+            this.listener = listener;
+        }
+
+        void run() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                report(STRUCTURE, "The document is not an object", line());
+                return;
+            }
+            walkObject();
+
+            if (topLevelFields.contains("swagger") && !topLevelFields.contains("openapi")) {
+                report(STRUCTURE, "Streaming validation only supports OpenAPI 3.x documents, not Swagger 2.0", 1);
+                return;
+            }
+            for (String field : Arrays.asList("openapi", "info")) {
+                if (!topLevelFields.contains(field)) {
+                    report(STRUCTURE, String.format(Locale.ROOT, "Attribute '%s' is missing", field), 1);
+                }
+            }
+            if (!topLevelFields.contains("paths") && !topLevelFields.contains("webhooks") && !topLevelFields.contains("components")) {
+                report(STRUCTURE, "Attribute 'paths' is missing", 1);
+            }
+
+            pending.forEach((target, line) -> {
+                if (!defined.contains(target)) {
+                    report(UNRESOLVED_REFERENCE, "Unresolved reference: #/" + target, line);
+                }
+            });
+
+            if (ruleConfiguration.isEnableRecommendations() && ruleConfiguration.isEnableUnusedSchemasRecommendation()
+                    && !ruleConfiguration.isFailFast()) {
+                reportUnusedSchemas();
+            }
+        }
+
+        private void walkValue(JsonToken token) throws IOException {
+            if (token == JsonToken.START_OBJECT) {
+                walkObject();
+            } else if (token == JsonToken.START_ARRAY) {
+                int index = 0;
+                JsonToken item;
+                while ((item = parser.nextToken()) != JsonToken.END_ARRAY && item != null) {
+                    path.add(Integer.toString(index++));
+                    walkValue(item);
+                    path.remove(path.size() - 1);
+                }
+            }
+        }
+
+        private void walkObject() throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                path.add(name);
+                visitField(name, value);
+                walkValue(value);
+                path.remove(path.size() - 1);
+            }
+        }
+
+        private void visitField(String name, JsonToken value) throws IOException {
+            int depth = path.size();
+            String first = path.get(0);
+            if (depth == 1) {
+                topLevelFields.add(name);
+                defined.add(escape(name));
+                if ("paths".equals(name) && value != JsonToken.START_OBJECT) {
+                    report(STRUCTURE, "Attribute 'paths' is not an object", line());
+                }
+            } else if (depth == 2 && "paths".equals(first)) {
+                defined.add("paths/" + escape(name));
+                if (!name.startsWith("/")) {
+                    report(STRUCTURE, String.format(Locale.ROOT, "Path '%s' doesn't start with a slash", name), line());
+                }
+            } else if (depth == 3 && "components".equals(first)) {
+                String entry = componentEntry();
+                defined.add(entry);
+                if (entry.startsWith(SCHEMAS)) {
+                    schemas.add(entry);
+                }
+            }
+
+            if (!value.isScalarValue()) {
+                return;
+            }
+            if ("$ref".equals(name) && value == JsonToken.VALUE_STRING) {
+                visitReference(parser.getText());
+            } else if ("operationId".equals(name) && depth == 4 && ("paths".equals(first) || "webhooks".equals(first))
+                    && OPERATION_METHODS.contains(parentKey())) {
+                Integer firstLine = operationIds.putIfAbsent(parser.getText(), line());
+                if (firstLine != null) {
+                    report(DUPLICATE_OPERATION_ID, String.format(Locale.ROOT,
+                            "Duplicate operationId '%s' (first used at line %d)", parser.getText(), firstLine), line());
+                }
+            } else if (value == JsonToken.VALUE_STRING && depth >= 3 && isDiscriminatorMapping()) {
+                String mapped = parser.getText();
+                visitReference(mapped.contains("#") || mapped.contains("/") ? mapped : "#/" + SCHEMAS + escape(mapped));
+            }
+        }
+
+        private void visitReference(String ref) {
+            if (!ref.startsWith("#/")) {
+                // references to other documents are not followed
+                return;
+            }
+            String target = referencedEntry(ref.substring(2));
+            if (target == null) {
+                return;
+            }
+            String owner = owner();
+            references.computeIfAbsent(owner, k -> new HashSet<>()).add(target);
+            if (owner.startsWith(SCHEMAS) && path.contains("allOf")) {
+                // a schema extending a used schema is used too
+                references.computeIfAbsent(target, k -> new HashSet<>()).add(owner);
+            }
+            if (!defined.contains(target)) {
+                pending.putIfAbsent(target, line());
+            }
+        }
+
+        /**
+         * Reduces a reference to the entry it points into, e.g. "components/schemas/Pet/properties/id" to
+         * "components/schemas/Pet".
+         */
+        private String referencedEntry(String pointer) {
+            List<String> tokens = new ArrayList<>();
+            for (String token : pointer.split("/", -1)) {
+                tokens.add(escape(unescape(token)));
+            }
+            int length = "components".equals(tokens.get(0)) ? 3 : "paths".equals(tokens.get(0)) ? 2 : 1;
+            if (tokens.size() < length) {
+                return String.join("/", tokens);
+            }
+            return String.join("/", tokens.subList(0, length));
+        }
+
+        private String owner() {
+            if (path.size() >= 3 && "components".equals(path.get(0))) {
+                return componentEntry();
+            }
+            return ROOT;
+        }
+
+        private String componentEntry() {
+            return escape(path.get(0)) + "/" + escape(path.get(1)) + "/" + escape(path.get(2));
+        }
+
+        private String parentKey() {
+            return path.get(path.size() - 2);
+        }
+
+        private boolean isDiscriminatorMapping() {
+            int size = path.size();
+            return "mapping".equals(path.get(size - 2)) && "discriminator".equals(path.get(size - 3));
+        }
+
+        private void reportUnusedSchemas() {
+            Set<String> reachable = new HashSet<>();
+            Deque<String> toVisit = new ArrayDeque<>();
+            toVisit.add(ROOT);
+            while (!toVisit.isEmpty()) {
+                String entry = toVisit.poll();
+                if (reachable.add(entry)) {
+                    toVisit.addAll(references.getOrDefault(entry, new HashSet<>()));
+                }
+            }
+            for (String schema : schemas) {
+                if (!reachable.contains(schema)) {
+                    report(UNUSED_SCHEMA, "Unused model: " + unescape(schema.substring(SCHEMAS.length())), 0);
+                }
+            }
+        }
+
+        private int line() {
+            return parser.getCurrentLocation().getLineNr();
+        }
+
+        private void report(ValidationRule rule, String message, int line) {
+            listener.accept(new Invalid(rule, message, line > 0 ? "line " + line : null));
+        }
+    }
+
+    private static String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String token) {
+        String decoded = token;
+        if (decoded.indexOf('%') >= 0) {
+            try {
+                decoded = URLDecoder.decode(decoded.replace("+", "%2B"), "UTF-8");
+            } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+                // kept as is
+            }
+        }
+        return decoded.replace("~1", "/").replace("~0", "~");
+    }
+}
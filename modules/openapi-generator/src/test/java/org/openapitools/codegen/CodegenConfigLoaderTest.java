@@ -0,0 +1,75 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.meta.Stability;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class CodegenConfigLoaderTest {
+
+    @Test
+    public void shouldIndexAllRegisteredGenerators() {
+        Set<String> indexed = CodegenConfigLoader.getIndex().stream()
+                .map(GeneratorIndex.Entry::getName)
+                .collect(Collectors.toSet());
+        Set<String> registered = CodegenConfigLoader.getAll().stream()
+                .map(CodegenConfig::getName)
+                .collect(Collectors.toSet());
+
+        Assert.assertEquals(indexed, registered);
+    }
+
+    @Test
+    public void shouldDescribeIndexedGenerator() {
+        GeneratorIndex.Entry java = CodegenConfigLoader.getIndex().stream()
+                .filter(e -> e.getName().equals("java"))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+
+        Assert.assertEquals(java.getType(), CodegenType.CLIENT);
+        Assert.assertEquals(java.getStability(), Stability.STABLE);
+        Assert.assertEquals(java.getClassName(), JavaClientCodegen.class.getName());
+    }
+
+    @Test
+    public void shouldLoadGeneratorByName() {
+        Assert.assertTrue(CodegenConfigLoader.forName("java") instanceof JavaClientCodegen);
+    }
+
+    @Test
+    public void shouldLoadGeneratorByClassName() {
+        Assert.assertTrue(CodegenConfigLoader.forName(JavaClientCodegen.class.getName()) instanceof JavaClientCodegen);
+    }
+
+    @Test(expectedExceptions = GeneratorNotFoundException.class)
+    public void shouldFailOnUnknownGenerator() {
+        CodegenConfigLoader.forName("no-such-generator");
+    }
+
+    @Test
+    public void shouldReadWrittenIndex() throws IOException {
+        List<GeneratorIndex.Entry> entries = Arrays.asList(
+                new GeneratorIndex.Entry("a", CodegenType.CLIENT, Stability.BETA, "com.example.A"),
+                new GeneratorIndex.Entry("b", CodegenType.OTHER, null, "com.example.B"));
+
+        StringWriter out = new StringWriter();
+        GeneratorIndex.write(entries, out);
+        List<GeneratorIndex.Entry> read = GeneratorIndex.read(new StringReader(out.toString()));
+
+        Assert.assertEquals(read.size(), 2);
+        Assert.assertEquals(read.get(0).getName(), "a");
+        Assert.assertEquals(read.get(0).getType(), CodegenType.CLIENT);
+        Assert.assertEquals(read.get(0).getStability(), Stability.BETA);
+        Assert.assertEquals(read.get(0).getClassName(), "com.example.A");
+        Assert.assertEquals(read.get(1).getType(), CodegenType.OTHER);
+        Assert.assertNull(read.get(1).getStability());
+    }
+}
@@ -11,16 +11,24 @@ import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplateProcessor;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.MarkdownDocumentationCodegen;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -115,6 +123,54 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testCustomTemplateProcessorLeavesOutputFolderUntouched() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        File output = new File(target.toFile(), "out");
+        try {
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(output.getAbsolutePath());
+
+            final Map<String, byte[]> captured = new HashMap<>();
+            DefaultGenerator generator = new DefaultGenerator() {
+                @Override
+                protected TemplateProcessor createTemplateProcessor(TemplateManagerOptions templateManagerOptions,
+                                                                    TemplatingEngineAdapter templatingEngine,
+                                                                    TemplatePathLocator[] templateLocators) {
+                    return new TemplateManager(templateManagerOptions, templatingEngine, templateLocators) {
+                        @Override
+                        public File writeToFile(String filename, byte[] contents) {
+                            captured.put(output.toPath().relativize(java.nio.file.Paths.get(filename)).toString(), contents);
+                            return new File(filename);
+                        }
+
+                        @Override
+                        public File writeToFile(String filename, InputStream contents) throws IOException {
+                            return writeToFile(filename, IOUtils.toByteArray(contents));
+                        }
+                    };
+                }
+
+                @Override
+                protected boolean writesToFileSystem() {
+                    return false;
+                }
+            };
+
+            List<File> files = generator.opts(configurator.toClientOptInput()).generate();
+
+            Assert.assertFalse(output.exists());
+            Assert.assertFalse(files.isEmpty());
+            Assert.assertTrue(captured.containsKey(java.nio.file.Paths.get("src/main/java/org/openapitools/client/api/PetApi.java").toString()));
+            Assert.assertTrue(captured.containsKey("build.gradle"));
+            Assert.assertTrue(captured.containsKey(java.nio.file.Paths.get("gradle/wrapper/gradle-wrapper.jar").toString()));
+        } finally {
+            target.toFile().delete();
+        }
+    }
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @Test
     public void testFilesAreNeverOverwritten() throws IOException {
@@ -771,4 +827,39 @@ public class DefaultGeneratorTest {
         generator.generateModels(files, allModels, filteredSchemas);
         // all fine, we have passed
     }
+
+    @Test
+    public void streamedModelsGenerateTheSameFiles() throws IOException {
+        Path streamed = Files.createTempDirectory("streamed");
+        Path processedFirst = Files.createTempDirectory("processedFirst");
+        try {
+            List<File> streamedFiles = generateMarkdown(MarkdownDocumentationCodegen.class.getName(), streamed);
+            List<File> processedFirstFiles = generateMarkdown(NonStreamingMarkdownCodegen.class.getName(), processedFirst);
+
+            Assert.assertEquals(streamedFiles.size(), processedFirstFiles.size());
+            for (File file : processedFirstFiles) {
+                Path relative = processedFirst.relativize(file.toPath());
+                Assert.assertEquals(new String(Files.readAllBytes(streamed.resolve(relative)), StandardCharsets.UTF_8),
+                        new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), relative.toString());
+            }
+        } finally {
+            FileUtils.deleteDirectory(streamed.toFile());
+            FileUtils.deleteDirectory(processedFirst.toFile());
+        }
+    }
+
+    private static List<File> generateMarkdown(String generatorName, Path output) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName(generatorName)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.toAbsolutePath().toString());
+        return new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+    }
+
+    public static class NonStreamingMarkdownCodegen extends MarkdownDocumentationCodegen {
+        @Override
+        public boolean isModelStreamingSupported() {
+            return false;
+        }
+    }
 }
@@ -1,13 +1,16 @@
 package org.openapitools.codegen;
 
 import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.examples.ExampleCache;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.testng.annotations.Test;
 
 import java.util.*;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 
 public class ExampleGeneratorTest {
     @Test
@@ -151,4 +154,27 @@ public class ExampleGeneratorTest {
         assertEquals(String.format(Locale.ROOT, "{%n  \"example_schema_property\" : \"example schema property value\"%n}"), examples.get(0).get("example"));
         assertEquals("200", examples.get(0).get("statusCode"));
     }
+
+    @Test
+    public void generateFromRecursiveModelWithSharedCache() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/example_generator_test.yaml");
+        OpenAPI uncachedOpenAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/example_generator_test.yaml");
+        List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+        ExampleCache cache = new ExampleCache();
+
+        List<Map<String, String>> first = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI, cache)
+                .generate(null, mediaTypes, "RecursiveSchema");
+        List<Map<String, String>> second = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI, cache)
+                .generate(null, mediaTypes, "RecursiveSchema");
+        List<Map<String, String>> uncached = new ExampleGenerator(uncachedOpenAPI.getComponents().getSchemas(), uncachedOpenAPI)
+                .generate(null, mediaTypes, "RecursiveSchema");
+
+        assertEquals(2, cache.size());
+        assertEquals(uncached, first);
+        assertEquals(first, second);
+        // the recursion is cut off at the first reference back to the model
+        assertTrue(first.get(0).get("example").contains("\"id\""));
+        assertFalse(first.get(0).get("example").contains("\"parent\""));
+        assertFalse(first.get(1).get("example").contains("<parent>"));
+    }
 }
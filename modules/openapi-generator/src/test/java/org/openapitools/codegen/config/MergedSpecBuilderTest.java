@@ -2,8 +2,11 @@ package org.openapitools.codegen.config;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -12,6 +15,7 @@ import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.java.assertions.JavaFileAssert;
 import org.openapitools.codegen.languages.SpringCodegen;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableMap;
@@ -32,6 +36,23 @@ public class MergedSpecBuilderTest {
         mergeSpecs("json");
     }
 
+    @Test
+    public void shouldScanVersionAndPathsOfSpecs() throws IOException {
+        for (String fileExt : Arrays.asList("yaml", "json")) {
+            MergedSpecBuilder.SpecFragment fragment = MergedSpecBuilder.scan(
+                Files.readAllBytes(Paths.get("src/test/resources/bugs/mergerTest/spec1." + fileExt)), "json".equals(fileExt));
+
+            Assert.assertEquals(fragment.openapiVersion, "3.0.3");
+            Assert.assertEquals(fragment.paths, new LinkedHashSet<>(Arrays.asList("/spec1", "/spec1/complex/{param1}/path")));
+        }
+    }
+
+    @Test
+    public void shouldNotScanOtherDocuments() throws IOException {
+        Assert.assertNull(MergedSpecBuilder.scan("swagger: '2.0'\npaths: {}\n".getBytes(StandardCharsets.UTF_8), false));
+        Assert.assertNull(MergedSpecBuilder.scan("# Notes".getBytes(StandardCharsets.UTF_8), false));
+    }
+
     private void mergeSpecs(String fileExt) throws IOException {
         File output = Files.createTempDirectory("spec-directory").toFile().getCanonicalFile();
         output.deleteOnExit();
@@ -16,10 +16,21 @@
 
 package org.openapitools.codegen.csharpnetcore;
 
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.languages.CSharpNetCoreClientCodegen;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.openapitools.codegen.TestUtils.assertFileContains;
+import static org.openapitools.codegen.TestUtils.assertFileNotContains;
+
 public class CSharpNetCoreClientCodegenTest {
 
     @Test
@@ -37,4 +48,40 @@ public class CSharpNetCoreClientCodegenTest {
         // Assert.assertEquals(codegen.toEnumVarName("FOO-BAR", "string"), "FooBar");
         // Assert.assertEquals(codegen.toEnumVarName("FOO_BAR", "string"), "FooBar");
     }
+
+    @Test
+    public void testUseSourceGeneration() throws IOException {
+        File output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("csharp-netcore")
+                .setLibrary("generichost")
+                .addAdditionalProperty("targetFramework", "net7.0")
+                .addAdditionalProperty("useSourceGeneration", "true")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        Path client = output.toPath().resolve("src/Org.OpenAPITools/Client");
+        assertFileContains(client.resolve("ApiJsonSerializerContext.cs"),
+                "[JsonSerializable(typeof(Pet))]",
+                "[JsonSerializable(typeof(List<Pet>))]",
+                "[JsonSerializable(typeof(Dictionary<string, int>))]",
+                "public partial class ApiJsonSerializerContext : JsonSerializerContext");
+        assertFileNotContains(client.resolve("ApiJsonSerializerContext.cs"), "System.IO.Stream))]");
+        assertFileContains(client.resolve("HostConfiguration.cs"),
+                "_jsonOptions.AddContext<ApiJsonSerializerContext>();");
+    }
+
+    @Test
+    public void testSourceGenerationRequiresNet6() {
+        final CSharpNetCoreClientCodegen codegen = new CSharpNetCoreClientCodegen();
+        codegen.setLibrary("generichost");
+        codegen.additionalProperties().put("useSourceGeneration", true);
+        codegen.processOpts();
+
+        Assert.assertFalse(codegen.getUseSourceGeneration());
+    }
 }
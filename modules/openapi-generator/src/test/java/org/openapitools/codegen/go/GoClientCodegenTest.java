@@ -316,4 +316,62 @@ public class GoClientCodegenTest {
                 "// skip: customerCode is readOnly");
     }
 
+    @Test
+    public void verifyGeneratedJsonCodecs() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .addAdditionalProperty(GoClientCodegen.GENERATE_JSON_CODECS, true)
+                .setInputSpec("src/test/resources/3_0/oneOfDiscriminator.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        DefaultGenerator generator = new DefaultGenerator();
+        List<File> files = generator.opts(configurator.toClientOptInput()).generate();
+        files.forEach(File::deleteOnExit);
+
+        TestUtils.assertFileContains(Paths.get(output + "/model_banana_req_disc.go"),
+                "w.writeString(o.FruitType)",
+                "w.writeInt32(o.Length)",
+                "return w.endObject()");
+        TestUtils.assertFileNotContains(Paths.get(output + "/model_banana_req_disc.go"),
+                "return json.Marshal(toSerialize)");
+        TestUtils.assertFileContains(Paths.get(output + "/model_fruit_req_disc.go"),
+                "switch *discriminator.Value {",
+                "case \"BananaReqDisc\":");
+        TestUtils.assertFileContains(Paths.get(output + "/client.go"),
+                "kind := classifyContentType(contentType)");
+        TestUtils.assertFileContains(Paths.get(output + "/utils.go"),
+                "func (w *jsonWriter) writeString(s string) {");
+        TestUtils.assertFileContains(Paths.get(output + "/model_codec_benchmark_test.go"),
+                "func BenchmarkBananaReqDiscMarshalJSON(b *testing.B) {");
+    }
+
+    @Test
+    public void verifyJsonCodecsSkipEnums() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("go")
+                .addAdditionalProperty(GoClientCodegen.GENERATE_JSON_CODECS, true)
+                .setInputSpec("src/test/resources/3_0/enum.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        DefaultGenerator generator = new DefaultGenerator();
+        List<File> files = generator.opts(configurator.toClientOptInput()).generate();
+        files.forEach(File::deleteOnExit);
+
+        TestUtils.assertFileContains(Paths.get(output + "/model_pony.go"),
+                "return w.endObject()");
+        TestUtils.assertFileNotContains(Paths.get(output + "/model_type.go"),
+                "jsonWriter");
+        TestUtils.assertFileContains(Paths.get(output + "/model_codec_benchmark_test.go"),
+                "func BenchmarkPonyMarshalJSON(b *testing.B) {");
+        TestUtils.assertFileNotContains(Paths.get(output + "/model_codec_benchmark_test.go"),
+                "BenchmarkTypeMarshalJSON",
+                "NewTypeWithDefaults");
+    }
+
 }
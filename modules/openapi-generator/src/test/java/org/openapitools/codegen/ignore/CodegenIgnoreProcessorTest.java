@@ -0,0 +1,65 @@
+package org.openapitools.codegen.ignore;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class CodegenIgnoreProcessorTest {
+    private static final List<String> RULES = Arrays.asList(
+            "# generated files we maintain by hand",
+            "/pom.xml",
+            "/*.md",
+            "**/*.log",
+            "!ISSUE_1234.log",
+            "docs/",
+            "!docs/keep/",
+            "src/main/java/org/openapitools/client/api/**Test.java",
+            "**/model/{Pet,Tag}.java",
+            "build/**",
+            "!build/keep.txt",
+            "foo/bar/baz/",
+            "!bar/",
+            ".");
+
+    private static final List<String> FILES = Arrays.asList(
+            "pom.xml", "sub/pom.xml", "README.md", "docs/README.md", "docs/keep/Pet.md", "docs/Pet.md",
+            "app.log", "logs/app.log", "ISSUE_1234.log", "logs/ISSUE_1234.log", "docs/ISSUE_1234.log",
+            "src/main/java/org/openapitools/client/api/PetApiTest.java",
+            "src/main/java/org/openapitools/client/api/PetApi.java",
+            "src/main/java/org/openapitools/client/model/Pet.java",
+            "src/main/java/org/openapitools/client/model/Order.java",
+            "build/out.txt", "build/keep.txt", "foo/bar/baz/file.txt", "foo/bar/file.txt", "build.gradle");
+
+    @Test
+    public void compiledRulesDecideAsRulesEvaluatedInSequence() throws IOException {
+        Path directory = Files.createTempDirectory("ignore");
+        File ignoreFile = directory.resolve(".openapi-generator-ignore").toFile();
+        Files.write(ignoreFile.toPath(), RULES, StandardCharsets.UTF_8);
+
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(ignoreFile);
+
+        for (String path : FILES) {
+            // twice, so memoized decisions are checked too
+            for (int i = 0; i < 2; i++) {
+                Assert.assertEquals(processor.allowsFile(new File(directory.toFile(), path)),
+                        processor.evaluateInSequence(new File(path)), path);
+            }
+        }
+
+        Assert.assertFalse(processor.allowsFile(new File(directory.toFile(), "pom.xml")));
+        Assert.assertTrue(processor.allowsFile(new File(directory.toFile(), "sub/pom.xml")));
+        Assert.assertTrue(processor.allowsFile(new File(directory.toFile(), "ISSUE_1234.log")));
+        Assert.assertFalse(processor.allowsFile(new File(directory.toFile(), "docs/ISSUE_1234.log")));
+        Assert.assertTrue(processor.allowsFile(new File(directory.toFile(), "docs/keep/Pet.md")));
+        Assert.assertFalse(processor.allowsFile(new File(directory.toFile(), "src/main/java/org/openapitools/client/model/Pet.java")));
+        Assert.assertTrue(processor.allowsFile(new File(directory.toFile(), "src/main/java/org/openapitools/client/model/Order.java")));
+        Assert.assertTrue(processor.allowsFile(new File(directory.toFile(), "build.gradle")));
+    }
+}
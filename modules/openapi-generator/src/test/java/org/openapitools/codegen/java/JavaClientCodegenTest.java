@@ -527,6 +527,100 @@ public class JavaClientCodegenTest {
                 "import java.net.http.HttpRequest;");
     }
 
+    @Test
+    public void testJdkHttpAsyncClientDecodesStreamedResponses() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(CodegenConstants.API_PACKAGE, "xyz.abcdef.api");
+        properties.put(JavaClientCodegen.ASYNC_NATIVE, true);
+        properties.put(JavaClientCodegen.CACHE_OBJECT_READERS, true);
+
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        DefaultGenerator generator = new DefaultGenerator();
+        List<File> files = generator.opts(clientOptInput).generate();
+
+        validateJavaSourceFiles(files);
+
+        Path petApi = Paths.get(output + "/src/main/java/xyz/abcdef/api/PetApi.java");
+        TestUtils.assertFileContains(petApi,
+                "private static final JavaType LIST_PET_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<Pet>>() {});",
+                "private static final JavaType PET_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<Pet>() {});",
+                "memberVarListPetReader = memberVarObjectMapper.readerFor(LIST_PET_TYPE);",
+                "HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(",
+                "readResponseBody(localVarResponse.body(), memberVarPetReader)",
+                // the body is only buffered for the async response interceptor, which still receives a String
+                "Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;",
+                "if (memberVarAsyncResponseInterceptor == null) {",
+                "return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(");
+        TestUtils.assertFileNotContains(petApi,
+                "memberVarObjectMapper.readValue(");
+    }
+
+    @Test
+    public void testOneOfDeserializerDispatchesOnDiscriminator() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setInputSpec("src/test/resources/3_0/oneOfDiscriminator.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        DefaultGenerator generator = new DefaultGenerator();
+        List<File> files = generator.opts(clientOptInput).generate();
+
+        validateJavaSourceFiles(files);
+
+        Path fruitReqDisc = Paths.get(output + "/src/main/java/org/openapitools/client/model/FruitReqDisc.java");
+        TestUtils.assertFileContains(fruitReqDisc,
+                "Class<?> cls = getClassForElement(tree);",
+                // looked up through a static method, so that FruitReqDisc has registered its mappings
+                "private static Class<?> getClassForElement(JsonNode tree) {\n        return JSON.getClassForElement(tree, FruitReqDisc.class);",
+                "requiredProperties.put(\"AppleReqDisc\", new String[]{ \"seeds\", \"fruitType\" });",
+                "boolean attemptParsing = hasRequiredProperties(tree, \"AppleReqDisc\");");
+    }
+
+    @Test
+    public void testOneOfDeserializerWithFullMatch() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JavaClientCodegen.USE_FULL_MATCH_DESERIALIZATION, true);
+
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+                .setAdditionalProperties(properties)
+                .setInputSpec("src/test/resources/3_0/oneOfDiscriminator.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        DefaultGenerator generator = new DefaultGenerator();
+        List<File> files = generator.opts(clientOptInput).generate();
+
+        validateJavaSourceFiles(files);
+
+        Path fruitReqDisc = Paths.get(output + "/src/main/java/org/openapitools/client/model/FruitReqDisc.java");
+        TestUtils.assertFileContains(fruitReqDisc,
+                "AppleReqDisc.validateJsonObject(jsonObject);",
+                "if (!hasRequiredProperties(jsonObject, \"AppleReqDisc\")) {");
+        TestUtils.assertFileNotContains(fruitReqDisc,
+                "discriminatorAdapters",
+                "requiredProperties.put(");
+    }
+
     @Test
     public void testReferencedHeader() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/issue855.yaml");
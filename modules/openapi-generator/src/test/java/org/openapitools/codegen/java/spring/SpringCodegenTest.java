@@ -857,6 +857,41 @@ public class SpringCodegenTest {
         assertFileNotContains(Paths.get(outputPath + "/src/main/java/org/openapitools/api/SomeApiDelegate.java"), "Mono<DummyRequest>");
     }
 
+    @Test
+    public void reactiveStreamingResponses() throws IOException {
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.setDelegatePattern(true);
+        codegen.additionalProperties().put(SpringCodegen.REACTIVE, "true");
+
+        final Map<String, File> files = generateFiles(codegen, "src/test/resources/3_0/spring/streaming.yaml");
+
+        final File api = files.get("EventsApi.java");
+        assertFileContains(api.toPath(),
+                "default Flux<Event> listEvents(",
+                "default Flux<Event> watchEvents(",
+                "default Mono<ResponseEntity<Flux<Event>>> getEventPage(",
+                "default Mono<ResponseEntity<Integer>> countEvents(");
+        final File delegate = files.get("EventsApiDelegate.java");
+        assertFileContains(delegate.toPath(),
+                "default Flux<Event> listEvents(",
+                "return Mono.empty().thenMany(Flux.empty());",
+                "default Mono<ResponseEntity<Flux<Event>>> getEventPage(");
+    }
+
+    @Test
+    public void streamingResponsesRequireReactive() throws IOException {
+        final SpringCodegen codegen = new SpringCodegen();
+        codegen.setDelegatePattern(true);
+
+        final Map<String, File> files = generateFiles(codegen, "src/test/resources/3_0/spring/streaming.yaml");
+
+        final File api = files.get("EventsApi.java");
+        assertFileContains(api.toPath(),
+                "default ResponseEntity<List<Event>> listEvents(",
+                "default ResponseEntity<Event> watchEvents(");
+        assertFileNotContains(api.toPath(), "Flux<");
+    }
+
     @Test
     public void shouldEscapeReservedKeyWordsForRequestParameters_7506_Regression() throws Exception {
         final SpringCodegen codegen = new SpringCodegen();
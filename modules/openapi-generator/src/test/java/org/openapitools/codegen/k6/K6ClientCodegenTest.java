@@ -0,0 +1,94 @@
+package org.openapitools.codegen.k6;
+
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.languages.K6ClientCodegen;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.openapitools.codegen.TestUtils.assertFileContains;
+import static org.openapitools.codegen.TestUtils.assertFileNotContains;
+
+public class K6ClientCodegenTest {
+
+    @Test
+    public void testWorkloadScenarios() throws IOException {
+        Path script = generate(new K6ClientCodegen());
+
+        assertFileContains(script,
+                "const categoryExamples = new SharedArray(\"categoryExamples\", function () { return ['books', 'music']; });",
+                "let category = categoryExamples[Math.floor(Math.random() * categoryExamples.length)];",
+                "executor: \"ramping-arrival-rate\",",
+                "exec: \"items\",",
+                "{ target: 8, duration: \"1m\" },",
+                "{ target: 2, duration: \"1m\" },",
+                "\"http_req_duration{name:listItems}\": [\"p(95)<200\", \"p(99)<500\"],",
+                "\"http_req_duration{name:getItem}\": [\"avg<100\", \"med<50\"],",
+                "let params = {headers: {\"Accept\": \"application/json\"}, tags: {\"name\": \"listItems\"}};",
+                "export function itemsId() {",
+                "export default function() {");
+        // the shared rate of 10 is split 8 and 2, the fixed rate of 2 is not part of it
+        assertFileNotContains(script, "{ target: 3, duration: \"1m\" },");
+    }
+
+    @Test
+    public void testConstantVusScenarios() throws IOException {
+        K6ClientCodegen codegen = new K6ClientCodegen();
+        codegen.additionalProperties().put(K6ClientCodegen.EXECUTOR, K6ClientCodegen.EXECUTOR_CONSTANT_VUS);
+        codegen.additionalProperties().put(K6ClientCodegen.VUS, "20");
+
+        Path script = generate(codegen);
+
+        assertFileContains(script, "executor: \"constant-vus\",", "vus: 12,", "vus: 4,");
+        assertFileNotContains(script, "ramping-arrival-rate");
+    }
+
+    @Test
+    public void testScenarioVusDoNotExceedVus() throws IOException {
+        K6ClientCodegen codegen = new K6ClientCodegen();
+        codegen.additionalProperties().put(K6ClientCodegen.EXECUTOR, K6ClientCodegen.EXECUTOR_CONSTANT_VUS);
+        codegen.additionalProperties().put(K6ClientCodegen.VUS, "3");
+
+        Path script = generate(codegen);
+
+        assertFileContains(script, "vus: 1,");
+        assertFileNotContains(script, "vus: 2,");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownExecutorThrowsException() {
+        new K6ClientCodegen().setExecutor("shared-iterations");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNonNumericVusThrowsException() {
+        K6ClientCodegen codegen = new K6ClientCodegen();
+        codegen.additionalProperties().put(K6ClientCodegen.VUS, "many");
+        codegen.processOpts();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNonPositiveRateThrowsException() {
+        K6ClientCodegen codegen = new K6ClientCodegen();
+        codegen.additionalProperties().put(K6ClientCodegen.RATE, "0");
+        codegen.processOpts();
+    }
+
+    private Path generate(K6ClientCodegen codegen) throws IOException {
+        File output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+        codegen.setOutputDir(output.getAbsolutePath());
+
+        new DefaultGenerator().opts(new ClientOptInput()
+                .openAPI(TestUtils.parseFlattenSpec("src/test/resources/3_0/k6/workload.yaml"))
+                .config(codegen)).generate();
+
+        return Paths.get(output.getAbsolutePath(), "script.js");
+    }
+}
@@ -205,6 +205,35 @@ public class KotlinSpringServerCodegenTest {
         );
     }
 
+    @Test(description = "test reactive streaming responses")
+    public void reactiveStreamingResponses() throws Exception {
+        File output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        KotlinSpringServerCodegen codegen = new KotlinSpringServerCodegen();
+        codegen.setOutputDir(output.getAbsolutePath());
+        codegen.additionalProperties().put(KotlinSpringServerCodegen.REACTIVE, true);
+        codegen.additionalProperties().put(KotlinSpringServerCodegen.SERVICE_INTERFACE, true);
+
+        new DefaultGenerator()
+                .opts(
+                        new ClientOptInput()
+                                .openAPI(TestUtils.parseSpec("src/test/resources/3_0/spring/streaming.yaml"))
+                                .config(codegen)
+                )
+                .generate();
+
+        assertFileContains(Paths.get(output + "/src/main/kotlin/org/openapitools/api/EventsApiController.kt"),
+                "fun listEvents(): Flow<Event> {",
+                "return service.listEvents()",
+                "fun watchEvents(): Flow<Event> {",
+                "fun getEventPage(): ResponseEntity<Flow<Event>> {",
+                "suspend fun countEvents(): ResponseEntity<kotlin.Int> {");
+        assertFileNotContains(Paths.get(output + "/src/main/kotlin/org/openapitools/api/EventsApiController.kt"),
+                "suspend fun listEvents", "suspend fun watchEvents");
+        assertFileContains(Paths.get(output + "/src/main/kotlin/org/openapitools/api/EventsApiService.kt"),
+                "fun listEvents(): Flow<Event>",
+                "fun watchEvents(): Flow<Event>");
+    }
+
     @Test(description = "test delegate reactive with tags")
     public void delegateReactiveWithTags() throws Exception {
         File output = Files.createTempDirectory("test").toFile().getCanonicalFile(); //may be move to /build
@@ -0,0 +1,118 @@
+package org.openapitools.codegen.postprocess;
+
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class PostProcessingStageTest {
+
+    @Test
+    public void shouldBatchFilesByTypeAndSize() {
+        PostProcessingStage stage = new PostProcessingStage(new FilePostProcessor(files -> {
+        }, "java"), 2, 1);
+
+        Assert.assertTrue(stage.offer(new File("A.java"), "model"));
+        Assert.assertTrue(stage.offer(new File("B.java"), "model"));
+        Assert.assertTrue(stage.offer(new File("C.java"), "model"));
+        Assert.assertTrue(stage.offer(new File("PetApi.java"), "api"));
+        Assert.assertFalse(stage.offer(new File("README.md"), "supporting-file"));
+
+        List<PostProcessingStage.Batch> batches = stage.getBatches();
+
+        Assert.assertEquals(batches.size(), 3);
+        Assert.assertEquals(batches.get(0).fileType, "model");
+        Assert.assertEquals(batches.get(0).files.size(), 2);
+        Assert.assertEquals(batches.get(1).files, Collections.singletonList(new File("C.java")));
+        Assert.assertEquals(batches.get(2).fileType, "api");
+        Assert.assertEquals(batches.get(2).number, 3);
+    }
+
+    @Test
+    public void shouldBoundTheLengthOfABatch() {
+        PostProcessingStage stage = new PostProcessingStage(new FilePostProcessor(files -> {
+        }, "java"), Integer.MAX_VALUE, 1);
+        String directory = new String(new char[1000]).replace('\0', 'd');
+        for (int i = 0; i < 100; i++) {
+            stage.offer(new File(directory, i + ".java"), "model");
+        }
+
+        for (PostProcessingStage.Batch batch : stage.getBatches()) {
+            int length = batch.files.stream().mapToInt(f -> f.getPath().length() + 1).sum();
+            Assert.assertTrue(length <= PostProcessingStage.MAX_BATCH_PATH_LENGTH);
+        }
+    }
+
+    @Test
+    public void shouldCreateInProcessFormatter() throws IOException {
+        FilePostProcessor postProcessor = FilePostProcessor.forCommand(
+                FilePostProcessor.CLASS_PREFIX + RecordingFormatter.class.getName(), "java");
+
+        Assert.assertTrue(postProcessor.accepts(new File("A.java"), "model"));
+        Assert.assertFalse(postProcessor.accepts(new File("A.kt"), "model"));
+        Assert.assertTrue(postProcessor.process(Collections.singletonList(new File("A.java"))));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectUnknownFormatterClass() {
+        FilePostProcessor.forCommand(FilePostProcessor.CLASS_PREFIX + "com.example.NoSuchFormatter", "java");
+    }
+
+    @Test
+    public void shouldReportFailingCommand() {
+        FilePostProcessor postProcessor = FilePostProcessor.forCommand("no-such-post-processing-command --check", "java");
+
+        Assert.assertFalse(postProcessor.process(Collections.singletonList(new File("A.java"))));
+    }
+
+    @Test
+    public void shouldPostProcessGeneratedFilesInBatches() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        RecordingFormatter.FILES.clear();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName(BatchedJavaClientCodegen.class.getName())
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setEnablePostProcessFile(true)
+                .setOutputDir(target.toAbsolutePath().toString());
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+
+        List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
+
+        Set<File> javaFiles = files.stream()
+                .filter(f -> f.getName().endsWith(".java"))
+                .collect(Collectors.toSet());
+        Assert.assertFalse(javaFiles.isEmpty());
+        Assert.assertEquals(new HashSet<>(RecordingFormatter.FILES), javaFiles);
+        Assert.assertEquals(RecordingFormatter.FILES.size(), javaFiles.size());
+    }
+
+    public static class BatchedJavaClientCodegen extends JavaClientCodegen {
+        @Override
+        public FilePostProcessor getFilePostProcessor() {
+            return new FilePostProcessor(new RecordingFormatter(), "java");
+        }
+    }
+
+    public static class RecordingFormatter implements FileFormatter {
+        static final List<File> FILES = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void format(List<File> files) {
+            FILES.addAll(files);
+        }
+    }
+}
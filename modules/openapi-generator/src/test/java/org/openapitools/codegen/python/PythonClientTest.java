@@ -169,6 +169,41 @@ public class PythonClientTest {
         output.deleteOnExit();
     }
 
+    @Test
+    public void testJsonBackendAndAsyncioTransport() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("python")
+                .addAdditionalProperty(PythonClientCodegen.JSON_BACKEND, "orjson")
+                .addAdditionalProperty(PythonClientCodegen.ASYNCIO_TRANSPORT, "true")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        Path apiClient = output.toPath().resolve("openapi_client/api_client.py");
+        TestUtils.assertFileContains(apiClient,
+                "    import orjson\n",
+                "            return _fast_json_dumps(in_data)\n",
+                "        return json_loads(response.data)\n",
+                "        json_str = json_dumps(in_data)\n",
+                "    async def call_api_async(");
+        TestUtils.assertFileNotContains(apiClient, "msgspec");
+        TestUtils.assertFileContains(output.toPath().resolve("openapi_client/asyncio_rest.py"),
+                "class AsyncRESTClientObject(object):");
+        TestUtils.assertFileContains(output.toPath().resolve("setup.py"),
+                "\"fast-json\": [\"orjson >= 3.6.0\"],", "\"aiohttp >= 3.0.0\",");
+        output.deleteOnExit();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownJsonBackendThrowsException() {
+        new PythonClientCodegen().setJsonBackend("ujson");
+    }
+
     @Test
     public void testRegexWithoutTrailingSlashWorks() {
         OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/11_regex.yaml");
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ * Copyright 2018 SmartBear Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.rust;
+
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class RustMayastorCodegenTest {
+
+    @Test
+    public void testNonPositivePayloadLimitsAreIgnored() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        try {
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("rust-mayastor")
+                    .setInputSpec("src/test/resources/3_0/rust-mayastor/payload-limit.yaml")
+                    .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+            final ClientOptInput clientOptInput = configurator.toClientOptInput();
+            new DefaultGenerator().opts(clientOptInput).generate();
+
+            Path handlers = Paths.get(output.getAbsolutePath(), "src/apis/upload_api/actix/server/handlers.rs");
+            String content = new String(Files.readAllBytes(handlers), StandardCharsets.UTF_8);
+
+            Assert.assertTrue(content.contains(".limit(1048576)"));
+            Assert.assertTrue(content.contains("PayloadConfig::new(1048576)"));
+            // zero and negative limits fall back to the actix defaults
+            Assert.assertFalse(content.contains(".limit(0)"));
+            Assert.assertFalse(content.contains(".limit(-1)"));
+            Assert.assertFalse(content.contains("PayloadConfig::new(0)"));
+            Assert.assertFalse(content.contains("PayloadConfig::new(-1)"));
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+}
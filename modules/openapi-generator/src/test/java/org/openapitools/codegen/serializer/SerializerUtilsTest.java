@@ -11,6 +11,8 @@ import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 
@@ -214,6 +216,26 @@ public class SerializerUtilsTest {
         assertEquals(content, expected);
     }
 
+    @Test
+    public void testWriteYamlStreamsTheYamlString() throws Exception {
+        OpenAPI openAPI = createCompleteExample();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        SerializerUtils.writeYaml(openAPI, out);
+
+        assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), SerializerUtils.toYamlString(openAPI));
+    }
+
+    @Test
+    public void testWriteJsonStreamsTheJsonString() throws Exception {
+        OpenAPI openAPI = createCompleteExample();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        SerializerUtils.writeJson(openAPI, out);
+
+        assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), SerializerUtils.toJsonString(openAPI));
+    }
+
     private OpenAPI createMinimalExample() {
         OpenAPI openAPI = new OpenAPI();
         openAPI.setInfo(new Info().title("Some title"));
@@ -0,0 +1,72 @@
+package org.openapitools.codegen.validations.oas;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.validation.Invalid;
+import org.openapitools.codegen.validation.ValidationResult;
+import org.openapitools.codegen.validation.ValidationRule;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OpenApiEvaluatorTest {
+
+    @Test(description = "results are reported in traversal order, whatever the order of evaluation")
+    public void testResultsAreOrdered() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        OpenApiEvaluator evaluator = new OpenApiEvaluator(new RuleConfiguration());
+
+        List<String> first = messages(evaluator.validate(openAPI));
+        List<String> second = messages(evaluator.validate(openAPI));
+
+        Assert.assertTrue(first.stream().anyMatch(m -> m.startsWith("Unused model: ")));
+        Assert.assertEquals(second, first);
+    }
+
+    @Test(description = "the unused schemas found while walking the paths are those of ModelUtils")
+    public void testUnusedSchemasMatchModelUtils() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+
+        List<String> reported = messages(new OpenApiEvaluator(new RuleConfiguration()).validate(openAPI)).stream()
+                .filter(m -> m.startsWith("Unused model: "))
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(reported, ModelUtils.getUnusedSchemas(openAPI).stream()
+                .map(name -> "Unused model: " + name)
+                .collect(Collectors.toList()));
+    }
+
+    @Test(description = "rule timings are reported for the last validation")
+    public void testRuleTimings() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_1/null-types.yaml");
+        OpenApiEvaluator evaluator = new OpenApiEvaluator(new RuleConfiguration());
+
+        evaluator.validate(openAPI);
+
+        List<String> rules = evaluator.getRuleTimings().keySet().stream()
+                .map(ValidationRule::getDescription)
+                .collect(Collectors.toList());
+        Assert.assertTrue(rules.contains("Schema uses the 'null' type but OAS document is version 3.0."));
+        Assert.assertTrue(rules.contains("Unused schema"));
+    }
+
+    @Test(description = "fail-fast evaluation only looks for errors")
+    public void testFailFastSkipsRecommendations() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_1/null-types.yaml");
+        RuleConfiguration config = new RuleConfiguration();
+        config.setFailFast(true);
+        OpenApiEvaluator evaluator = new OpenApiEvaluator(config);
+
+        ValidationResult result = evaluator.validate(openAPI);
+
+        Assert.assertEquals(result.getWarnings().size(), 0);
+        Assert.assertTrue(evaluator.getRuleTimings().isEmpty());
+    }
+
+    private static List<String> messages(ValidationResult result) {
+        return result.getWarnings().stream().map(Invalid::getMessage).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,126 @@
+package org.openapitools.codegen.validations.oas;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.validation.Invalid;
+import org.openapitools.codegen.validation.Severity;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class StreamingOpenApiValidatorTest {
+    private static final String SPEC = "openapi: 3.0.1\n" +
+            "info:\n" +
+            "  title: Pets\n" +
+            "  version: '1'\n" +
+            "paths:\n" +
+            "  /pets:\n" +
+            "    get:\n" +
+            "      operationId: getPet\n" +
+            "      responses:\n" +
+            "        '200':\n" +
+            "          description: ok\n" +
+            "          content:\n" +
+            "            application/json:\n" +
+            "              schema:\n" +
+            "                $ref: '#/components/schemas/Pet'\n" +
+            "  /pets/{id}:\n" +
+            "    get:\n" +
+            "      operationId: getPet\n" +
+            "      responses:\n" +
+            "        '200':\n" +
+            "          $ref: '#/components/responses/Missing'\n" +
+            "components:\n" +
+            "  schemas:\n" +
+            "    Pet:\n" +
+            "      properties:\n" +
+            "        owner:\n" +
+            "          $ref: '#/components/schemas/Owner'\n" +
+            "        tag:\n" +
+            "          $ref: '#/components/schemas/Tag/properties/name'\n" +
+            "    Tag:\n" +
+            "      properties:\n" +
+            "        name:\n" +
+            "          type: string\n" +
+            "    Legacy:\n" +
+            "      type: object\n";
+
+    @Test
+    public void reportsStructureAndReferenceIssues() throws IOException {
+        List<Invalid> issues = validate(SPEC, new RuleConfiguration());
+
+        Assert.assertEquals(messages(issues, Severity.ERROR), Arrays.asList(
+                "Duplicate operationId 'getPet' (first used at line 8)",
+                "Unresolved reference: #/components/responses/Missing",
+                "Unresolved reference: #/components/schemas/Owner"));
+        Assert.assertEquals(issues.get(0).getDetails(), "line 18");
+        Assert.assertEquals(messages(issues, Severity.WARNING), Arrays.asList("Unused model: Legacy"));
+    }
+
+    @Test
+    public void validatesJsonDocuments() throws IOException {
+        String json = "{\"openapi\": \"3.0.1\", \"paths\": {\"pets\": {}}}";
+
+        List<Invalid> issues = validate(json, new RuleConfiguration());
+
+        Assert.assertEquals(messages(issues, Severity.ERROR), Arrays.asList(
+                "Path 'pets' doesn't start with a slash",
+                "Attribute 'info' is missing"));
+    }
+
+    @Test
+    public void unusedSchemasCanBeDisabled() throws IOException {
+        RuleConfiguration configuration = new RuleConfiguration();
+        configuration.setEnableUnusedSchemasRecommendation(false);
+
+        Assert.assertTrue(messages(validate(SPEC, configuration), Severity.WARNING).isEmpty());
+    }
+
+    @Test
+    public void unusedSchemasAreRecommendations() throws IOException {
+        RuleConfiguration configuration = new RuleConfiguration();
+        configuration.setEnableRecommendations(false);
+
+        Assert.assertTrue(messages(validate(SPEC, configuration), Severity.WARNING).isEmpty());
+    }
+
+    @Test
+    public void reportsTheUnusedSchemasOfTheEvaluator() throws IOException {
+        String location = "src/test/resources/3_0/unusedSchemas.yaml";
+        OpenAPI openAPI = TestUtils.parseSpec(location);
+        List<Invalid> issues = new ArrayList<>();
+
+        new StreamingOpenApiValidator(new RuleConfiguration()).validate(location, issues::add);
+
+        Set<String> expected = ModelUtils.getUnusedSchemas(openAPI).stream()
+                .map(name -> "Unused model: " + name)
+                .collect(Collectors.toSet());
+        Assert.assertEquals(new HashSet<>(messages(issues, Severity.WARNING)), expected);
+        // the spec reuses an operationId, but has no unresolved reference
+        Assert.assertTrue(messages(issues, Severity.ERROR).stream().allMatch(m -> m.startsWith("Duplicate operationId 'op27'")));
+    }
+
+    private static List<Invalid> validate(String document, RuleConfiguration configuration) throws IOException {
+        List<Invalid> issues = new ArrayList<>();
+        new StreamingOpenApiValidator(configuration)
+                .validate(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), issues::add);
+        return issues;
+    }
+
+    private static List<String> messages(List<Invalid> issues, Severity severity) {
+        return issues.stream()
+                .filter(invalid -> invalid.getSeverity() == severity)
+                .map(Invalid::getMessage)
+                .collect(Collectors.toList());
+    }
+}
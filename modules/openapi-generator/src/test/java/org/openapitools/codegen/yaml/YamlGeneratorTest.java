@@ -23,10 +23,12 @@ import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.TestUtils;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.languages.OpenAPIYamlGenerator;
+import org.openapitools.codegen.serializer.SerializerUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.List;
@@ -118,4 +120,21 @@ public class YamlGeneratorTest {
         // use #toString because the equals methods is a little stricter than necessary for this test
         Assert.assertEquals(expected.toString(), generated.toString());
     }
+
+    @Test
+    public void testSpooledSpecMatchesTemplatedSpec() throws Exception {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("openapi-yaml")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath().replace("\\", "/"));
+
+        final ClientOptInput clientOptInput = configurator.toClientOptInput();
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        String generated = new String(Files.readAllBytes(new File(output, "openapi/openapi.yaml").toPath()), StandardCharsets.UTF_8);
+        Assert.assertEquals(generated, SerializerUtils.toYamlString(clientOptInput.getOpenAPI()));
+    }
 }
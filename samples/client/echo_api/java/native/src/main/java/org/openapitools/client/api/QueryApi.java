@@ -24,8 +24,12 @@ import org.openapitools.client.model.Pet;
 import org.openapitools.client.model.TestQueryStyleDeepObjectExplodeTrueObjectAllOfQueryObjectParameter;
 import org.openapitools.client.model.TestQueryStyleFormExplodeTrueArrayStringQueryObjectParameter;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
@@ -57,6 +61,8 @@ import java.util.function.Consumer;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen")
 public class QueryApi {
+  private static final JavaType STRING_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<String>() {});
+
   private final HttpClient memberVarHttpClient;
   private final ObjectMapper memberVarObjectMapper;
   private final String memberVarBaseUri;
@@ -85,6 +91,23 @@ public class QueryApi {
     return new ApiException(response.statusCode(), message, response.headers(), body);
   }
 
+  /**
+   * Decode a response body while reading it, without buffering it first.
+   *
+   * @param body The response body, closed once read
+   * @param reader The reader of the return type
+   * @return The decoded body, or null if the body is empty
+   * @throws IOException if the body cannot be read or decoded
+   */
+  private <T> T readResponseBody(InputStream body, ObjectReader reader) throws IOException {
+    if (body == null) {
+      return null;
+    }
+    try (JsonParser parser = reader.createParser(body)) {
+      return parser.nextToken() == null ? null : reader.readValue(parser);
+    }
+  }
+
   private String formatExceptionMessage(String operationId, int statusCode, String body) {
     if (body == null || body.isEmpty()) {
       body = "[no body]";
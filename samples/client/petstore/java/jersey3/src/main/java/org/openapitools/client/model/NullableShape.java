@@ -95,20 +95,13 @@ public class NullableShape extends AbstractOpenApiSchema {
         public NullableShape deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
             JsonNode tree = jp.readValueAsTree();
             Object deserialized = null;
-            NullableShape newNullableShape = new NullableShape();
-            Map<String,Object> result2 = tree.traverse(jp.getCodec()).readValueAs(new TypeReference<Map<String, Object>>() {});
-            String discriminatorValue = (String)result2.get("shapeType");
-            switch (discriminatorValue) {
-                case "Quadrilateral":
-                    deserialized = tree.traverse(jp.getCodec()).readValueAs(Quadrilateral.class);
-                    newNullableShape.setActualInstance(deserialized);
-                    return newNullableShape;
-                case "Triangle":
-                    deserialized = tree.traverse(jp.getCodec()).readValueAs(Triangle.class);
-                    newNullableShape.setActualInstance(deserialized);
-                    return newNullableShape;
-                default:
-                    log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for NullableShape. Possible values: Quadrilateral Triangle", discriminatorValue));
+            // use the discriminator mappings to find the schema, rather than trying all the oneOf schemas
+            Class<?> cls = getClassForElement(tree);
+            if (cls != null && cls != NullableShape.class) {
+                deserialized = tree.traverse(jp.getCodec()).readValueAs(cls);
+                NullableShape ret = new NullableShape();
+                ret.setActualInstance(deserialized);
+                return ret;
             }
 
             boolean typeCoercion = ctxt.isEnabled(MapperFeature.ALLOW_COERCION_OF_SCALARS);
@@ -116,7 +109,8 @@ public class NullableShape extends AbstractOpenApiSchema {
             JsonToken token = tree.traverse(jp.getCodec()).nextToken();
             // deserialize Quadrilateral
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "Quadrilateral");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (Quadrilateral.class.equals(Integer.class) || Quadrilateral.class.equals(Long.class) || Quadrilateral.class.equals(Float.class) || Quadrilateral.class.equals(Double.class) || Quadrilateral.class.equals(Boolean.class) || Quadrilateral.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -143,7 +137,8 @@ public class NullableShape extends AbstractOpenApiSchema {
 
             // deserialize Triangle
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "Triangle");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (Triangle.class.equals(Integer.class) || Triangle.class.equals(Long.class) || Triangle.class.equals(Float.class) || Triangle.class.equals(Double.class) || Triangle.class.equals(Boolean.class) || Triangle.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -188,6 +183,34 @@ public class NullableShape extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without attempting to deserialize it.
+     */
+    private static boolean hasRequiredProperties(JsonNode tree, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!tree.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the class selected by the discriminator of the input data. Calling this static method initializes
+     * NullableShape, which registers its discriminator mappings, before they are looked up by the deserializer.
+     */
+    private static Class<?> getClassForElement(JsonNode tree) {
+        return JSON.getClassForElement(tree, NullableShape.class);
+    }
+
     public NullableShape() {
         super("oneOf", Boolean.TRUE);
     }
@@ -252,6 +275,8 @@ public class NullableShape extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("Quadrilateral", new String[]{ "shapeType", "quadrilateralType" });
+        requiredProperties.put("Triangle", new String[]{ "shapeType", "triangleType" });
         schemas.put("Quadrilateral", new GenericType<Quadrilateral>() {
         });
         schemas.put("Triangle", new GenericType<Triangle>() {
@@ -95,20 +95,13 @@ public class Quadrilateral extends AbstractOpenApiSchema {
         public Quadrilateral deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
             JsonNode tree = jp.readValueAsTree();
             Object deserialized = null;
-            Quadrilateral newQuadrilateral = new Quadrilateral();
-            Map<String,Object> result2 = tree.traverse(jp.getCodec()).readValueAs(new TypeReference<Map<String, Object>>() {});
-            String discriminatorValue = (String)result2.get("quadrilateralType");
-            switch (discriminatorValue) {
-                case "ComplexQuadrilateral":
-                    deserialized = tree.traverse(jp.getCodec()).readValueAs(ComplexQuadrilateral.class);
-                    newQuadrilateral.setActualInstance(deserialized);
-                    return newQuadrilateral;
-                case "SimpleQuadrilateral":
-                    deserialized = tree.traverse(jp.getCodec()).readValueAs(SimpleQuadrilateral.class);
-                    newQuadrilateral.setActualInstance(deserialized);
-                    return newQuadrilateral;
-                default:
-                    log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for Quadrilateral. Possible values: ComplexQuadrilateral SimpleQuadrilateral", discriminatorValue));
+            // use the discriminator mappings to find the schema, rather than trying all the oneOf schemas
+            Class<?> cls = getClassForElement(tree);
+            if (cls != null && cls != Quadrilateral.class) {
+                deserialized = tree.traverse(jp.getCodec()).readValueAs(cls);
+                Quadrilateral ret = new Quadrilateral();
+                ret.setActualInstance(deserialized);
+                return ret;
             }
 
             boolean typeCoercion = ctxt.isEnabled(MapperFeature.ALLOW_COERCION_OF_SCALARS);
@@ -116,7 +109,8 @@ public class Quadrilateral extends AbstractOpenApiSchema {
             JsonToken token = tree.traverse(jp.getCodec()).nextToken();
             // deserialize ComplexQuadrilateral
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "ComplexQuadrilateral");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (ComplexQuadrilateral.class.equals(Integer.class) || ComplexQuadrilateral.class.equals(Long.class) || ComplexQuadrilateral.class.equals(Float.class) || ComplexQuadrilateral.class.equals(Double.class) || ComplexQuadrilateral.class.equals(Boolean.class) || ComplexQuadrilateral.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -142,7 +136,8 @@ public class Quadrilateral extends AbstractOpenApiSchema {
 
             // deserialize SimpleQuadrilateral
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "SimpleQuadrilateral");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (SimpleQuadrilateral.class.equals(Integer.class) || SimpleQuadrilateral.class.equals(Long.class) || SimpleQuadrilateral.class.equals(Float.class) || SimpleQuadrilateral.class.equals(Double.class) || SimpleQuadrilateral.class.equals(Boolean.class) || SimpleQuadrilateral.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -186,6 +181,34 @@ public class Quadrilateral extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without attempting to deserialize it.
+     */
+    private static boolean hasRequiredProperties(JsonNode tree, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!tree.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the class selected by the discriminator of the input data. Calling this static method initializes
+     * Quadrilateral, which registers its discriminator mappings, before they are looked up by the deserializer.
+     */
+    private static Class<?> getClassForElement(JsonNode tree) {
+        return JSON.getClassForElement(tree, Quadrilateral.class);
+    }
+
     public Quadrilateral() {
         super("oneOf", Boolean.FALSE);
     }
@@ -250,6 +273,8 @@ public class Quadrilateral extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("ComplexQuadrilateral", new String[]{ "shapeType", "quadrilateralType" });
+        requiredProperties.put("SimpleQuadrilateral", new String[]{ "shapeType", "quadrilateralType" });
         schemas.put("ComplexQuadrilateral", new GenericType<ComplexQuadrilateral>() {
         });
         schemas.put("SimpleQuadrilateral", new GenericType<SimpleQuadrilateral>() {
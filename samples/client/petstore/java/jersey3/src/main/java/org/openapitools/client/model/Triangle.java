@@ -96,24 +96,13 @@ public class Triangle extends AbstractOpenApiSchema {
         public Triangle deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
             JsonNode tree = jp.readValueAsTree();
             Object deserialized = null;
-            Triangle newTriangle = new Triangle();
-            Map<String,Object> result2 = tree.traverse(jp.getCodec()).readValueAs(new TypeReference<Map<String, Object>>() {});
-            String discriminatorValue = (String)result2.get("triangleType");
-            switch (discriminatorValue) {
-                case "EquilateralTriangle":
-                    deserialized = tree.traverse(jp.getCodec()).readValueAs(EquilateralTriangle.class);
-                    newTriangle.setActualInstance(deserialized);
-                    return newTriangle;
-                case "IsoscelesTriangle":
-                    deserialized = tree.traverse(jp.getCodec()).readValueAs(IsoscelesTriangle.class);
-                    newTriangle.setActualInstance(deserialized);
-                    return newTriangle;
-                case "ScaleneTriangle":
-                    deserialized = tree.traverse(jp.getCodec()).readValueAs(ScaleneTriangle.class);
-                    newTriangle.setActualInstance(deserialized);
-                    return newTriangle;
-                default:
-                    log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for Triangle. Possible values: EquilateralTriangle IsoscelesTriangle ScaleneTriangle", discriminatorValue));
+            // use the discriminator mappings to find the schema, rather than trying all the oneOf schemas
+            Class<?> cls = getClassForElement(tree);
+            if (cls != null && cls != Triangle.class) {
+                deserialized = tree.traverse(jp.getCodec()).readValueAs(cls);
+                Triangle ret = new Triangle();
+                ret.setActualInstance(deserialized);
+                return ret;
             }
 
             boolean typeCoercion = ctxt.isEnabled(MapperFeature.ALLOW_COERCION_OF_SCALARS);
@@ -121,7 +110,8 @@ public class Triangle extends AbstractOpenApiSchema {
             JsonToken token = tree.traverse(jp.getCodec()).nextToken();
             // deserialize EquilateralTriangle
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "EquilateralTriangle");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (EquilateralTriangle.class.equals(Integer.class) || EquilateralTriangle.class.equals(Long.class) || EquilateralTriangle.class.equals(Float.class) || EquilateralTriangle.class.equals(Double.class) || EquilateralTriangle.class.equals(Boolean.class) || EquilateralTriangle.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -147,7 +137,8 @@ public class Triangle extends AbstractOpenApiSchema {
 
             // deserialize IsoscelesTriangle
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "IsoscelesTriangle");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (IsoscelesTriangle.class.equals(Integer.class) || IsoscelesTriangle.class.equals(Long.class) || IsoscelesTriangle.class.equals(Float.class) || IsoscelesTriangle.class.equals(Double.class) || IsoscelesTriangle.class.equals(Boolean.class) || IsoscelesTriangle.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -173,7 +164,8 @@ public class Triangle extends AbstractOpenApiSchema {
 
             // deserialize ScaleneTriangle
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "ScaleneTriangle");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (ScaleneTriangle.class.equals(Integer.class) || ScaleneTriangle.class.equals(Long.class) || ScaleneTriangle.class.equals(Float.class) || ScaleneTriangle.class.equals(Double.class) || ScaleneTriangle.class.equals(Boolean.class) || ScaleneTriangle.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -217,6 +209,34 @@ public class Triangle extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without attempting to deserialize it.
+     */
+    private static boolean hasRequiredProperties(JsonNode tree, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!tree.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the class selected by the discriminator of the input data. Calling this static method initializes
+     * Triangle, which registers its discriminator mappings, before they are looked up by the deserializer.
+     */
+    private static Class<?> getClassForElement(JsonNode tree) {
+        return JSON.getClassForElement(tree, Triangle.class);
+    }
+
     public Triangle() {
         super("oneOf", Boolean.FALSE);
     }
@@ -286,6 +306,9 @@ public class Triangle extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("EquilateralTriangle", new String[]{ "shapeType", "triangleType" });
+        requiredProperties.put("IsoscelesTriangle", new String[]{ "shapeType", "triangleType" });
+        requiredProperties.put("ScaleneTriangle", new String[]{ "shapeType", "triangleType" });
         schemas.put("EquilateralTriangle", new GenericType<EquilateralTriangle>() {
         });
         schemas.put("IsoscelesTriangle", new GenericType<IsoscelesTriangle>() {
@@ -19,8 +19,12 @@ import org.openapitools.client.Pair;
 
 import org.openapitools.client.model.FooGetDefaultResponse;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import java.io.InputStream;
 import java.io.ByteArrayInputStream;
@@ -44,10 +48,15 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import javax.net.ssl.SSLSession;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen")
 public class DefaultApi {
+  private static final JavaType FOO_GET_DEFAULT_RESPONSE_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<FooGetDefaultResponse>() {});
+
   private final HttpClient memberVarHttpClient;
   private final ObjectMapper memberVarObjectMapper;
   private final String memberVarBaseUri;
@@ -70,9 +79,27 @@ public class DefaultApi {
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
   }
 
-  private ApiException getApiException(String operationId, HttpResponse<String> response) {
-    String message = formatExceptionMessage(operationId, response.statusCode(), response.body());
-    return new ApiException(response.statusCode(), message, response.headers(), response.body());
+  protected ApiException getApiException(String operationId, HttpResponse<InputStream> response) throws IOException {
+    String body = response.body() == null ? null : new String(response.body().readAllBytes());
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  /**
+   * Decode a response body while reading it, without buffering it first.
+   *
+   * @param body The response body, closed once read
+   * @param reader The reader of the return type
+   * @return The decoded body, or null if the body is empty
+   * @throws IOException if the body cannot be read or decoded
+   */
+  private <T> T readResponseBody(InputStream body, ObjectReader reader) throws IOException {
+    if (body == null) {
+      return null;
+    }
+    try (JsonParser parser = reader.createParser(body)) {
+      return parser.nextToken() == null ? null : reader.readValue(parser);
+    }
   }
 
   private String formatExceptionMessage(String operationId, int statusCode, String body) {
@@ -82,6 +109,77 @@ public class DefaultApi {
     return operationId + " call failed with: " + statusCode + " - " + body;
   }
 
+  /**
+   * Send a request asynchronously, passing the response to the async response interceptor if one is set.
+   * The interceptor receives the body as a String, so the body is only buffered when an interceptor is set.
+   *
+   * @param request The request
+   * @return The response, whose body is streamed unless it was buffered for the interceptor
+   */
+  private CompletableFuture<HttpResponse<InputStream>> sendAsync(HttpRequest request) {
+    if (memberVarAsyncResponseInterceptor == null) {
+      return memberVarHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+    return memberVarHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+      memberVarAsyncResponseInterceptor.accept(response);
+      return new BufferedResponse(response);
+    });
+  }
+
+  /**
+   * A response whose body was read into a String for the async response interceptor, decoded like a streamed
+   * response.
+   */
+  private static final class BufferedResponse implements HttpResponse<InputStream> {
+    private final HttpResponse<String> response;
+    private final InputStream body;
+
+    private BufferedResponse(HttpResponse<String> response) {
+      this.response = response;
+      this.body = response.body() == null ? null : new ByteArrayInputStream(response.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int statusCode() {
+      return response.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+      return response.request();
+    }
+
+    @Override
+    public java.util.Optional<HttpResponse<InputStream>> previousResponse() {
+      return java.util.Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+      return response.headers();
+    }
+
+    @Override
+    public InputStream body() {
+      return body;
+    }
+
+    @Override
+    public java.util.Optional<SSLSession> sslSession() {
+      return response.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+      return response.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+      return response.version();
+    }
+  }
+
   /**
    * 
    * 
@@ -93,14 +191,13 @@ public class DefaultApi {
       HttpRequest.Builder localVarRequestBuilder = fooGetRequestBuilder();
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fooGet", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fooGet", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<FooGetDefaultResponse>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(FOO_GET_DEFAULT_RESPONSE_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -121,22 +218,16 @@ public class DefaultApi {
   public CompletableFuture<ApiResponse<FooGetDefaultResponse>> fooGetWithHttpInfo() throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = fooGetRequestBuilder();
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fooGet", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fooGet", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<FooGetDefaultResponse>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<FooGetDefaultResponse>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(FOO_GET_DEFAULT_RESPONSE_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
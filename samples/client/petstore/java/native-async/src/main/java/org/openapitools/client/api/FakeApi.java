@@ -28,8 +28,12 @@ import org.openapitools.client.model.OuterComposite;
 import org.openapitools.client.model.OuterEnum;
 import org.openapitools.client.model.User;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
@@ -59,10 +63,21 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import javax.net.ssl.SSLSession;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen")
 public class FakeApi {
+  private static final JavaType HEALTH_CHECK_RESULT_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<HealthCheckResult>() {});
+  private static final JavaType BOOLEAN_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<Boolean>() {});
+  private static final JavaType OUTER_COMPOSITE_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<OuterComposite>() {});
+  private static final JavaType BIG_DECIMAL_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<BigDecimal>() {});
+  private static final JavaType STRING_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<String>() {});
+  private static final JavaType LIST_OUTER_ENUM_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<OuterEnum>>() {});
+  private static final JavaType CLIENT_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<Client>() {});
+
   private final HttpClient memberVarHttpClient;
   private final ObjectMapper memberVarObjectMapper;
   private final String memberVarBaseUri;
@@ -85,9 +100,27 @@ public class FakeApi {
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
   }
 
-  private ApiException getApiException(String operationId, HttpResponse<String> response) {
-    String message = formatExceptionMessage(operationId, response.statusCode(), response.body());
-    return new ApiException(response.statusCode(), message, response.headers(), response.body());
+  protected ApiException getApiException(String operationId, HttpResponse<InputStream> response) throws IOException {
+    String body = response.body() == null ? null : new String(response.body().readAllBytes());
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  /**
+   * Decode a response body while reading it, without buffering it first.
+   *
+   * @param body The response body, closed once read
+   * @param reader The reader of the return type
+   * @return The decoded body, or null if the body is empty
+   * @throws IOException if the body cannot be read or decoded
+   */
+  private <T> T readResponseBody(InputStream body, ObjectReader reader) throws IOException {
+    if (body == null) {
+      return null;
+    }
+    try (JsonParser parser = reader.createParser(body)) {
+      return parser.nextToken() == null ? null : reader.readValue(parser);
+    }
   }
 
   private String formatExceptionMessage(String operationId, int statusCode, String body) {
@@ -97,6 +130,77 @@ public class FakeApi {
     return operationId + " call failed with: " + statusCode + " - " + body;
   }
 
+  /**
+   * Send a request asynchronously, passing the response to the async response interceptor if one is set.
+   * The interceptor receives the body as a String, so the body is only buffered when an interceptor is set.
+   *
+   * @param request The request
+   * @return The response, whose body is streamed unless it was buffered for the interceptor
+   */
+  private CompletableFuture<HttpResponse<InputStream>> sendAsync(HttpRequest request) {
+    if (memberVarAsyncResponseInterceptor == null) {
+      return memberVarHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+    return memberVarHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+      memberVarAsyncResponseInterceptor.accept(response);
+      return new BufferedResponse(response);
+    });
+  }
+
+  /**
+   * A response whose body was read into a String for the async response interceptor, decoded like a streamed
+   * response.
+   */
+  private static final class BufferedResponse implements HttpResponse<InputStream> {
+    private final HttpResponse<String> response;
+    private final InputStream body;
+
+    private BufferedResponse(HttpResponse<String> response) {
+      this.response = response;
+      this.body = response.body() == null ? null : new ByteArrayInputStream(response.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int statusCode() {
+      return response.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+      return response.request();
+    }
+
+    @Override
+    public java.util.Optional<HttpResponse<InputStream>> previousResponse() {
+      return java.util.Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+      return response.headers();
+    }
+
+    @Override
+    public InputStream body() {
+      return body;
+    }
+
+    @Override
+    public java.util.Optional<SSLSession> sslSession() {
+      return response.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+      return response.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+      return response.version();
+    }
+  }
+
   /**
    * Health check endpoint
    * 
@@ -108,14 +212,13 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = fakeHealthGetRequestBuilder();
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeHealthGet", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeHealthGet", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<HealthCheckResult>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(HEALTH_CHECK_RESULT_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -136,22 +239,16 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<HealthCheckResult>> fakeHealthGetWithHttpInfo() throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = fakeHealthGetRequestBuilder();
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeHealthGet", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeHealthGet", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<HealthCheckResult>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<HealthCheckResult>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(HEALTH_CHECK_RESULT_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -195,14 +292,13 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = fakeOuterBooleanSerializeRequestBuilder(body);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeOuterBooleanSerialize", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeOuterBooleanSerialize", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Boolean>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(BOOLEAN_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -224,22 +320,16 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Boolean>> fakeOuterBooleanSerializeWithHttpInfo(Boolean body) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = fakeOuterBooleanSerializeRequestBuilder(body);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeOuterBooleanSerialize", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeOuterBooleanSerialize", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<Boolean>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Boolean>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(BOOLEAN_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -289,14 +379,13 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = fakeOuterCompositeSerializeRequestBuilder(outerComposite);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeOuterCompositeSerialize", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeOuterCompositeSerialize", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<OuterComposite>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(OUTER_COMPOSITE_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -318,22 +407,16 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<OuterComposite>> fakeOuterCompositeSerializeWithHttpInfo(OuterComposite outerComposite) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = fakeOuterCompositeSerializeRequestBuilder(outerComposite);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeOuterCompositeSerialize", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeOuterCompositeSerialize", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<OuterComposite>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<OuterComposite>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(OUTER_COMPOSITE_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -383,14 +466,13 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = fakeOuterNumberSerializeRequestBuilder(body);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeOuterNumberSerialize", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeOuterNumberSerialize", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<BigDecimal>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(BIG_DECIMAL_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -412,22 +494,16 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<BigDecimal>> fakeOuterNumberSerializeWithHttpInfo(BigDecimal body) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = fakeOuterNumberSerializeRequestBuilder(body);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeOuterNumberSerialize", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeOuterNumberSerialize", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<BigDecimal>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<BigDecimal>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(BIG_DECIMAL_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -477,14 +553,13 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = fakeOuterStringSerializeRequestBuilder(body);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeOuterStringSerialize", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeOuterStringSerialize", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<String>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(STRING_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -506,22 +581,16 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<String>> fakeOuterStringSerializeWithHttpInfo(String body) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = fakeOuterStringSerializeRequestBuilder(body);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("fakeOuterStringSerialize", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("fakeOuterStringSerialize", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<String>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<String>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(STRING_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -565,14 +634,13 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = getArrayOfEnumsRequestBuilder();
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("getArrayOfEnums", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("getArrayOfEnums", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<List<OuterEnum>>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_OUTER_ENUM_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -593,22 +661,16 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<List<OuterEnum>>> getArrayOfEnumsWithHttpInfo() throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = getArrayOfEnumsRequestBuilder();
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("getArrayOfEnums", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("getArrayOfEnums", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<List<OuterEnum>>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<List<OuterEnum>>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_OUTER_ENUM_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -652,11 +714,20 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testBodyWithFileSchemaRequestBuilder(fileSchemaTestClass);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testBodyWithFileSchema", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testBodyWithFileSchema", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -674,18 +745,22 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Void>> testBodyWithFileSchemaWithHttpInfo(FileSchemaTestClass fileSchemaTestClass) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testBodyWithFileSchemaRequestBuilder(fileSchemaTestClass);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testBodyWithFileSchema", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testBodyWithFileSchema", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -736,11 +811,20 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testBodyWithQueryParamsRequestBuilder(query, user);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testBodyWithQueryParams", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testBodyWithQueryParams", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -759,18 +843,22 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Void>> testBodyWithQueryParamsWithHttpInfo(String query, User user) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testBodyWithQueryParamsRequestBuilder(query, user);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testBodyWithQueryParams", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testBodyWithQueryParams", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -839,14 +927,13 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testClientModelRequestBuilder(client);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testClientModel", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testClientModel", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Client>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(CLIENT_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -868,22 +955,16 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Client>> testClientModelWithHttpInfo(Client client) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testClientModelRequestBuilder(client);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testClientModel", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testClientModel", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<Client>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Client>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(CLIENT_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -950,11 +1031,20 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testEndpointParametersRequestBuilder(number, _double, patternWithoutDelimiter, _byte, integer, int32, int64, _float, string, binary, date, dateTime, password, paramCallback);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testEndpointParameters", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testEndpointParameters", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -985,18 +1075,22 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Void>> testEndpointParametersWithHttpInfo(BigDecimal number, Double _double, String patternWithoutDelimiter, byte[] _byte, Integer integer, Integer int32, Long int64, Float _float, String string, File binary, LocalDate date, OffsetDateTime dateTime, String password, String paramCallback) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testEndpointParametersRequestBuilder(number, _double, patternWithoutDelimiter, _byte, integer, int32, int64, _float, string, binary, date, dateTime, password, paramCallback);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testEndpointParameters", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testEndpointParameters", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -1084,11 +1178,20 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testEnumParametersRequestBuilder(enumHeaderStringArray, enumHeaderString, enumQueryStringArray, enumQueryString, enumQueryInteger, enumQueryDouble, enumFormStringArray, enumFormString);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testEnumParameters", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testEnumParameters", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -1113,18 +1216,22 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Void>> testEnumParametersWithHttpInfo(List<String> enumHeaderStringArray, String enumHeaderString, List<String> enumQueryStringArray, String enumQueryString, Integer enumQueryInteger, Double enumQueryDouble, List<String> enumFormStringArray, String enumFormString) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testEnumParametersRequestBuilder(enumHeaderStringArray, enumHeaderString, enumQueryStringArray, enumQueryString, enumQueryInteger, enumQueryDouble, enumFormStringArray, enumFormString);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testEnumParameters", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testEnumParameters", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -1245,11 +1352,20 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testGroupParametersRequestBuilder(requiredStringGroup, requiredBooleanGroup, requiredInt64Group, stringGroup, booleanGroup, int64Group);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testGroupParameters", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testGroupParameters", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -1272,18 +1388,22 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Void>> testGroupParametersWithHttpInfo(Integer requiredStringGroup, Boolean requiredBooleanGroup, Long requiredInt64Group, Integer stringGroup, Boolean booleanGroup, Long int64Group) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testGroupParametersRequestBuilder(requiredStringGroup, requiredBooleanGroup, requiredInt64Group, stringGroup, booleanGroup, int64Group);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testGroupParameters", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testGroupParameters", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -1439,11 +1559,20 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testInlineAdditionalPropertiesRequestBuilder(requestBody);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testInlineAdditionalProperties", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testInlineAdditionalProperties", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -1461,18 +1590,22 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Void>> testInlineAdditionalPropertiesWithHttpInfo(Map<String, String> requestBody) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testInlineAdditionalPropertiesRequestBuilder(requestBody);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testInlineAdditionalProperties", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testInlineAdditionalProperties", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -1523,11 +1656,20 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testJsonFormDataRequestBuilder(param, param2);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testJsonFormData", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testJsonFormData", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -1546,18 +1688,22 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Void>> testJsonFormDataWithHttpInfo(String param, String param2) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testJsonFormDataRequestBuilder(param, param2);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testJsonFormData", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testJsonFormData", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -1622,11 +1768,20 @@ public class FakeApi {
       HttpRequest.Builder localVarRequestBuilder = testQueryParameterCollectionFormatRequestBuilder(pipe, ioutil, http, url, context);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testQueryParameterCollectionFormat", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testQueryParameterCollectionFormat", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -1648,18 +1803,22 @@ public class FakeApi {
   public CompletableFuture<ApiResponse<Void>> testQueryParameterCollectionFormatWithHttpInfo(List<String> pipe, List<String> ioutil, List<String> http, List<String> url, List<String> context) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = testQueryParameterCollectionFormatRequestBuilder(pipe, ioutil, http, url, context);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("testQueryParameterCollectionFormat", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("testQueryParameterCollectionFormat", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
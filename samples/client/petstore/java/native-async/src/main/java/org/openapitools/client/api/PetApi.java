@@ -21,8 +21,12 @@ import java.io.File;
 import org.openapitools.client.model.ModelApiResponse;
 import org.openapitools.client.model.Pet;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
@@ -52,10 +56,17 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import javax.net.ssl.SSLSession;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen")
 public class PetApi {
+  private static final JavaType LIST_PET_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<Pet>>() {});
+  private static final JavaType PET_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<Pet>() {});
+  private static final JavaType MODEL_API_RESPONSE_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<ModelApiResponse>() {});
+
   private final HttpClient memberVarHttpClient;
   private final ObjectMapper memberVarObjectMapper;
   private final String memberVarBaseUri;
@@ -78,9 +89,27 @@ public class PetApi {
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
   }
 
-  private ApiException getApiException(String operationId, HttpResponse<String> response) {
-    String message = formatExceptionMessage(operationId, response.statusCode(), response.body());
-    return new ApiException(response.statusCode(), message, response.headers(), response.body());
+  protected ApiException getApiException(String operationId, HttpResponse<InputStream> response) throws IOException {
+    String body = response.body() == null ? null : new String(response.body().readAllBytes());
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  /**
+   * Decode a response body while reading it, without buffering it first.
+   *
+   * @param body The response body, closed once read
+   * @param reader The reader of the return type
+   * @return The decoded body, or null if the body is empty
+   * @throws IOException if the body cannot be read or decoded
+   */
+  private <T> T readResponseBody(InputStream body, ObjectReader reader) throws IOException {
+    if (body == null) {
+      return null;
+    }
+    try (JsonParser parser = reader.createParser(body)) {
+      return parser.nextToken() == null ? null : reader.readValue(parser);
+    }
   }
 
   private String formatExceptionMessage(String operationId, int statusCode, String body) {
@@ -90,6 +119,77 @@ public class PetApi {
     return operationId + " call failed with: " + statusCode + " - " + body;
   }
 
+  /**
+   * Send a request asynchronously, passing the response to the async response interceptor if one is set.
+   * The interceptor receives the body as a String, so the body is only buffered when an interceptor is set.
+   *
+   * @param request The request
+   * @return The response, whose body is streamed unless it was buffered for the interceptor
+   */
+  private CompletableFuture<HttpResponse<InputStream>> sendAsync(HttpRequest request) {
+    if (memberVarAsyncResponseInterceptor == null) {
+      return memberVarHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+    return memberVarHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+      memberVarAsyncResponseInterceptor.accept(response);
+      return new BufferedResponse(response);
+    });
+  }
+
+  /**
+   * A response whose body was read into a String for the async response interceptor, decoded like a streamed
+   * response.
+   */
+  private static final class BufferedResponse implements HttpResponse<InputStream> {
+    private final HttpResponse<String> response;
+    private final InputStream body;
+
+    private BufferedResponse(HttpResponse<String> response) {
+      this.response = response;
+      this.body = response.body() == null ? null : new ByteArrayInputStream(response.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int statusCode() {
+      return response.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+      return response.request();
+    }
+
+    @Override
+    public java.util.Optional<HttpResponse<InputStream>> previousResponse() {
+      return java.util.Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+      return response.headers();
+    }
+
+    @Override
+    public InputStream body() {
+      return body;
+    }
+
+    @Override
+    public java.util.Optional<SSLSession> sslSession() {
+      return response.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+      return response.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+      return response.version();
+    }
+  }
+
   /**
    * Add a new pet to the store
    * 
@@ -102,11 +202,20 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = addPetRequestBuilder(pet);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("addPet", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("addPet", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -124,18 +233,22 @@ public class PetApi {
   public CompletableFuture<ApiResponse<Void>> addPetWithHttpInfo(Pet pet) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = addPetRequestBuilder(pet);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("addPet", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("addPet", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -186,11 +299,20 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = deletePetRequestBuilder(petId, apiKey);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("deletePet", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("deletePet", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -209,18 +331,22 @@ public class PetApi {
   public CompletableFuture<ApiResponse<Void>> deletePetWithHttpInfo(Long petId, String apiKey) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = deletePetRequestBuilder(petId, apiKey);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("deletePet", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("deletePet", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -268,14 +394,13 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = findPetsByStatusRequestBuilder(status);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("findPetsByStatus", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("findPetsByStatus", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<List<Pet>>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_PET_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -297,22 +422,16 @@ public class PetApi {
   public CompletableFuture<ApiResponse<List<Pet>>> findPetsByStatusWithHttpInfo(List<String> status) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = findPetsByStatusRequestBuilder(status);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("findPetsByStatus", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("findPetsByStatus", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<List<Pet>>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<List<Pet>>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_PET_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -377,14 +496,13 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = findPetsByTagsRequestBuilder(tags);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("findPetsByTags", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("findPetsByTags", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<List<Pet>>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_PET_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -408,22 +526,16 @@ public class PetApi {
   public CompletableFuture<ApiResponse<List<Pet>>> findPetsByTagsWithHttpInfo(List<String> tags) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = findPetsByTagsRequestBuilder(tags);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("findPetsByTags", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("findPetsByTags", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<List<Pet>>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<List<Pet>>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_PET_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -486,14 +598,13 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = getPetByIdRequestBuilder(petId);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("getPetById", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("getPetById", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Pet>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(PET_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -515,22 +626,16 @@ public class PetApi {
   public CompletableFuture<ApiResponse<Pet>> getPetByIdWithHttpInfo(Long petId) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = getPetByIdRequestBuilder(petId);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("getPetById", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("getPetById", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<Pet>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<Pet>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(PET_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -579,11 +684,20 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = updatePetRequestBuilder(pet);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("updatePet", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("updatePet", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -601,18 +715,22 @@ public class PetApi {
   public CompletableFuture<ApiResponse<Void>> updatePetWithHttpInfo(Pet pet) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = updatePetRequestBuilder(pet);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("updatePet", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("updatePet", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -664,11 +782,20 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = updatePetWithFormRequestBuilder(petId, name, status);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("updatePetWithForm", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("updatePetWithForm", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -688,18 +815,22 @@ public class PetApi {
   public CompletableFuture<ApiResponse<Void>> updatePetWithFormWithHttpInfo(Long petId, String name, String status) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = updatePetWithFormRequestBuilder(petId, name, status);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("updatePetWithForm", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("updatePetWithForm", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -759,14 +890,13 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = uploadFileRequestBuilder(petId, additionalMetadata, _file);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("uploadFile", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("uploadFile", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ModelApiResponse>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(MODEL_API_RESPONSE_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -790,22 +920,16 @@ public class PetApi {
   public CompletableFuture<ApiResponse<ModelApiResponse>> uploadFileWithHttpInfo(Long petId, String additionalMetadata, File _file) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = uploadFileRequestBuilder(petId, additionalMetadata, _file);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("uploadFile", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("uploadFile", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<ModelApiResponse>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ModelApiResponse>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(MODEL_API_RESPONSE_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -890,14 +1014,13 @@ public class PetApi {
       HttpRequest.Builder localVarRequestBuilder = uploadFileWithRequiredFileRequestBuilder(petId, requiredFile, additionalMetadata);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("uploadFileWithRequiredFile", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("uploadFileWithRequiredFile", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ModelApiResponse>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(MODEL_API_RESPONSE_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -921,22 +1044,16 @@ public class PetApi {
   public CompletableFuture<ApiResponse<ModelApiResponse>> uploadFileWithRequiredFileWithHttpInfo(Long petId, File requiredFile, String additionalMetadata) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = uploadFileWithRequiredFileRequestBuilder(petId, requiredFile, additionalMetadata);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("uploadFileWithRequiredFile", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("uploadFileWithRequiredFile", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<ModelApiResponse>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<ModelApiResponse>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(MODEL_API_RESPONSE_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
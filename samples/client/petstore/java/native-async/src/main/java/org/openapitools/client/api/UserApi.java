@@ -20,8 +20,12 @@ import org.openapitools.client.Pair;
 import java.time.OffsetDateTime;
 import org.openapitools.client.model.User;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
@@ -51,10 +55,16 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import javax.net.ssl.SSLSession;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen")
 public class UserApi {
+  private static final JavaType USER_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<User>() {});
+  private static final JavaType STRING_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<String>() {});
+
   private final HttpClient memberVarHttpClient;
   private final ObjectMapper memberVarObjectMapper;
   private final String memberVarBaseUri;
@@ -77,9 +87,27 @@ public class UserApi {
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
   }
 
-  private ApiException getApiException(String operationId, HttpResponse<String> response) {
-    String message = formatExceptionMessage(operationId, response.statusCode(), response.body());
-    return new ApiException(response.statusCode(), message, response.headers(), response.body());
+  protected ApiException getApiException(String operationId, HttpResponse<InputStream> response) throws IOException {
+    String body = response.body() == null ? null : new String(response.body().readAllBytes());
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  /**
+   * Decode a response body while reading it, without buffering it first.
+   *
+   * @param body The response body, closed once read
+   * @param reader The reader of the return type
+   * @return The decoded body, or null if the body is empty
+   * @throws IOException if the body cannot be read or decoded
+   */
+  private <T> T readResponseBody(InputStream body, ObjectReader reader) throws IOException {
+    if (body == null) {
+      return null;
+    }
+    try (JsonParser parser = reader.createParser(body)) {
+      return parser.nextToken() == null ? null : reader.readValue(parser);
+    }
   }
 
   private String formatExceptionMessage(String operationId, int statusCode, String body) {
@@ -89,6 +117,77 @@ public class UserApi {
     return operationId + " call failed with: " + statusCode + " - " + body;
   }
 
+  /**
+   * Send a request asynchronously, passing the response to the async response interceptor if one is set.
+   * The interceptor receives the body as a String, so the body is only buffered when an interceptor is set.
+   *
+   * @param request The request
+   * @return The response, whose body is streamed unless it was buffered for the interceptor
+   */
+  private CompletableFuture<HttpResponse<InputStream>> sendAsync(HttpRequest request) {
+    if (memberVarAsyncResponseInterceptor == null) {
+      return memberVarHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+    return memberVarHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+      memberVarAsyncResponseInterceptor.accept(response);
+      return new BufferedResponse(response);
+    });
+  }
+
+  /**
+   * A response whose body was read into a String for the async response interceptor, decoded like a streamed
+   * response.
+   */
+  private static final class BufferedResponse implements HttpResponse<InputStream> {
+    private final HttpResponse<String> response;
+    private final InputStream body;
+
+    private BufferedResponse(HttpResponse<String> response) {
+      this.response = response;
+      this.body = response.body() == null ? null : new ByteArrayInputStream(response.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int statusCode() {
+      return response.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+      return response.request();
+    }
+
+    @Override
+    public java.util.Optional<HttpResponse<InputStream>> previousResponse() {
+      return java.util.Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+      return response.headers();
+    }
+
+    @Override
+    public InputStream body() {
+      return body;
+    }
+
+    @Override
+    public java.util.Optional<SSLSession> sslSession() {
+      return response.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+      return response.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+      return response.version();
+    }
+  }
+
   /**
    * Create user
    * This can only be done by the logged in user.
@@ -101,11 +200,20 @@ public class UserApi {
       HttpRequest.Builder localVarRequestBuilder = createUserRequestBuilder(user);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("createUser", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("createUser", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -123,18 +231,22 @@ public class UserApi {
   public CompletableFuture<ApiResponse<Void>> createUserWithHttpInfo(User user) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = createUserRequestBuilder(user);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("createUser", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("createUser", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -184,11 +296,20 @@ public class UserApi {
       HttpRequest.Builder localVarRequestBuilder = createUsersWithArrayInputRequestBuilder(user);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("createUsersWithArrayInput", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("createUsersWithArrayInput", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -206,18 +327,22 @@ public class UserApi {
   public CompletableFuture<ApiResponse<Void>> createUsersWithArrayInputWithHttpInfo(List<User> user) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = createUsersWithArrayInputRequestBuilder(user);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("createUsersWithArrayInput", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("createUsersWithArrayInput", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -267,11 +392,20 @@ public class UserApi {
       HttpRequest.Builder localVarRequestBuilder = createUsersWithListInputRequestBuilder(user);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("createUsersWithListInput", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("createUsersWithListInput", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -289,18 +423,22 @@ public class UserApi {
   public CompletableFuture<ApiResponse<Void>> createUsersWithListInputWithHttpInfo(List<User> user) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = createUsersWithListInputRequestBuilder(user);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("createUsersWithListInput", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("createUsersWithListInput", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -350,11 +488,20 @@ public class UserApi {
       HttpRequest.Builder localVarRequestBuilder = deleteUserRequestBuilder(username);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("deleteUser", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("deleteUser", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -372,18 +519,22 @@ public class UserApi {
   public CompletableFuture<ApiResponse<Void>> deleteUserWithHttpInfo(String username) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = deleteUserRequestBuilder(username);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("deleteUser", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("deleteUser", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -428,14 +579,13 @@ public class UserApi {
       HttpRequest.Builder localVarRequestBuilder = getUserByNameRequestBuilder(username);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("getUserByName", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("getUserByName", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<User>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(USER_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -457,22 +607,16 @@ public class UserApi {
   public CompletableFuture<ApiResponse<User>> getUserByNameWithHttpInfo(String username) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = getUserByNameRequestBuilder(username);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("getUserByName", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("getUserByName", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<User>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<User>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(USER_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -522,14 +666,13 @@ public class UserApi {
       HttpRequest.Builder localVarRequestBuilder = loginUserRequestBuilder(username, password);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("loginUser", localVarResponse));
-            }
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("loginUser", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
-                  responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<String>() {})
+                  readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(STRING_TYPE))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -552,22 +695,16 @@ public class UserApi {
   public CompletableFuture<ApiResponse<String>> loginUserWithHttpInfo(String username, String password) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = loginUserRequestBuilder(username, password);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("loginUser", localVarResponse));
-            }
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
             try {
-              String responseBody = localVarResponse.body();
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("loginUser", localVarResponse));
+              }
               return CompletableFuture.completedFuture(
                   new ApiResponse<String>(
                       localVarResponse.statusCode(),
                       localVarResponse.headers().map(),
-                      responseBody == null || responseBody.isBlank() ? null : memberVarObjectMapper.readValue(responseBody, new TypeReference<String>() {}))
+                      readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(STRING_TYPE)))
               );
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
@@ -635,11 +772,20 @@ public class UserApi {
       HttpRequest.Builder localVarRequestBuilder = logoutUserRequestBuilder();
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("logoutUser", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("logoutUser", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -656,18 +802,22 @@ public class UserApi {
   public CompletableFuture<ApiResponse<Void>> logoutUserWithHttpInfo() throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = logoutUserRequestBuilder();
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("logoutUser", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("logoutUser", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
@@ -708,11 +858,20 @@ public class UserApi {
       HttpRequest.Builder localVarRequestBuilder = updateUserRequestBuilder(username, user);
       return memberVarHttpClient.sendAsync(
           localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("updateUser", localVarResponse));
+          HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("updateUser", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(null);
       });
     }
     catch (ApiException e) {
@@ -731,18 +890,22 @@ public class UserApi {
   public CompletableFuture<ApiResponse<Void>> updateUserWithHttpInfo(String username, User user) throws ApiException {
     try {
       HttpRequest.Builder localVarRequestBuilder = updateUserRequestBuilder(username, user);
-      return memberVarHttpClient.sendAsync(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofString()).thenComposeAsync(localVarResponse -> {
-            if (memberVarAsyncResponseInterceptor != null) {
-              memberVarAsyncResponseInterceptor.accept(localVarResponse);
-            }
-            if (localVarResponse.statusCode()/ 100 != 2) {
-              return CompletableFuture.failedFuture(getApiException("updateUser", localVarResponse));
+      return sendAsync(localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            try {
+              if (localVarResponse.statusCode()/ 100 != 2) {
+                return CompletableFuture.failedFuture(getApiException("updateUser", localVarResponse));
+              }
+              // Drain the InputStream
+              while (localVarResponse.body().read() != -1) {
+                  // Ignore
+              }
+              localVarResponse.body().close();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
             }
-            return CompletableFuture.completedFuture(
-                new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
-            );
         }
       );
     }
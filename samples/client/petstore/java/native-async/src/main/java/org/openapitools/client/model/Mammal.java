@@ -91,12 +91,22 @@ public class Mammal extends AbstractOpenApiSchema {
         public Mammal deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
             JsonNode tree = jp.readValueAsTree();
             Object deserialized = null;
+            // use the discriminator mappings to find the schema, rather than trying all the oneOf schemas
+            Class<?> cls = getClassForElement(tree);
+            if (cls != null && cls != Mammal.class) {
+                deserialized = tree.traverse(jp.getCodec()).readValueAs(cls);
+                Mammal ret = new Mammal();
+                ret.setActualInstance(deserialized);
+                return ret;
+            }
+
             boolean typeCoercion = ctxt.isEnabled(MapperFeature.ALLOW_COERCION_OF_SCALARS);
             int match = 0;
             JsonToken token = tree.traverse(jp.getCodec()).nextToken();
             // deserialize Pig
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "Pig");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (Pig.class.equals(Integer.class) || Pig.class.equals(Long.class) || Pig.class.equals(Float.class) || Pig.class.equals(Double.class) || Pig.class.equals(Boolean.class) || Pig.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -122,7 +132,8 @@ public class Mammal extends AbstractOpenApiSchema {
 
             // deserialize Whale
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "Whale");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (Whale.class.equals(Integer.class) || Whale.class.equals(Long.class) || Whale.class.equals(Float.class) || Whale.class.equals(Double.class) || Whale.class.equals(Boolean.class) || Whale.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -148,7 +159,8 @@ public class Mammal extends AbstractOpenApiSchema {
 
             // deserialize Zebra
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "Zebra");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (Zebra.class.equals(Integer.class) || Zebra.class.equals(Long.class) || Zebra.class.equals(Float.class) || Zebra.class.equals(Double.class) || Zebra.class.equals(Boolean.class) || Zebra.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -192,6 +204,34 @@ public class Mammal extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without attempting to deserialize it.
+     */
+    private static boolean hasRequiredProperties(JsonNode tree, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!tree.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the class selected by the discriminator of the input data. Calling this static method initializes
+     * Mammal, which registers its discriminator mappings, before they are looked up by the deserializer.
+     */
+    private static Class<?> getClassForElement(JsonNode tree) {
+        return JSON.getClassForElement(tree, Mammal.class);
+    }
+
     public Mammal() {
         super("oneOf", Boolean.FALSE);
     }
@@ -212,6 +252,9 @@ public class Mammal extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("Pig", new String[]{ "className" });
+        requiredProperties.put("Whale", new String[]{ "className" });
+        requiredProperties.put("Zebra", new String[]{ "className" });
         schemas.put("Pig", Pig.class);
         schemas.put("Whale", Whale.class);
         schemas.put("Zebra", Zebra.class);
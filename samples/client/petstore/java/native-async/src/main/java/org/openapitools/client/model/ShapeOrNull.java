@@ -90,12 +90,22 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
         public ShapeOrNull deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
             JsonNode tree = jp.readValueAsTree();
             Object deserialized = null;
+            // use the discriminator mappings to find the schema, rather than trying all the oneOf schemas
+            Class<?> cls = getClassForElement(tree);
+            if (cls != null && cls != ShapeOrNull.class) {
+                deserialized = tree.traverse(jp.getCodec()).readValueAs(cls);
+                ShapeOrNull ret = new ShapeOrNull();
+                ret.setActualInstance(deserialized);
+                return ret;
+            }
+
             boolean typeCoercion = ctxt.isEnabled(MapperFeature.ALLOW_COERCION_OF_SCALARS);
             int match = 0;
             JsonToken token = tree.traverse(jp.getCodec()).nextToken();
             // deserialize Quadrilateral
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "Quadrilateral");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (Quadrilateral.class.equals(Integer.class) || Quadrilateral.class.equals(Long.class) || Quadrilateral.class.equals(Float.class) || Quadrilateral.class.equals(Double.class) || Quadrilateral.class.equals(Boolean.class) || Quadrilateral.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -121,7 +131,8 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
 
             // deserialize Triangle
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "Triangle");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (Triangle.class.equals(Integer.class) || Triangle.class.equals(Long.class) || Triangle.class.equals(Float.class) || Triangle.class.equals(Double.class) || Triangle.class.equals(Boolean.class) || Triangle.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -165,6 +176,34 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without attempting to deserialize it.
+     */
+    private static boolean hasRequiredProperties(JsonNode tree, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!tree.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the class selected by the discriminator of the input data. Calling this static method initializes
+     * ShapeOrNull, which registers its discriminator mappings, before they are looked up by the deserializer.
+     */
+    private static Class<?> getClassForElement(JsonNode tree) {
+        return JSON.getClassForElement(tree, ShapeOrNull.class);
+    }
+
     public ShapeOrNull() {
         super("oneOf", Boolean.FALSE);
     }
@@ -180,6 +219,8 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("Quadrilateral", new String[]{ "shapeType", "quadrilateralType" });
+        requiredProperties.put("Triangle", new String[]{ "shapeType", "triangleType" });
         schemas.put("Quadrilateral", Quadrilateral.class);
         schemas.put("Triangle", Triangle.class);
         JSON.registerDescendants(ShapeOrNull.class, Collections.unmodifiableMap(schemas));
@@ -21,8 +21,12 @@ import java.io.File;
 import org.openapitools.client.model.ModelApiResponse;
 import org.openapitools.client.model.Pet;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
@@ -54,6 +58,10 @@ import java.util.function.Consumer;
 
 @jakarta.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen")
 public class PetApi {
+  private static final JavaType PET_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<Pet>() {});
+  private static final JavaType LIST_PET_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<Pet>>() {});
+  private static final JavaType MODEL_API_RESPONSE_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<ModelApiResponse>() {});
+
   private final HttpClient memberVarHttpClient;
   private final ObjectMapper memberVarObjectMapper;
   private final String memberVarBaseUri;
@@ -82,6 +90,23 @@ public class PetApi {
     return new ApiException(response.statusCode(), message, response.headers(), body);
   }
 
+  /**
+   * Decode a response body while reading it, without buffering it first.
+   *
+   * @param body The response body, closed once read
+   * @param reader The reader of the return type
+   * @return The decoded body, or null if the body is empty
+   * @throws IOException if the body cannot be read or decoded
+   */
+  private <T> T readResponseBody(InputStream body, ObjectReader reader) throws IOException {
+    if (body == null) {
+      return null;
+    }
+    try (JsonParser parser = reader.createParser(body)) {
+      return parser.nextToken() == null ? null : reader.readValue(parser);
+    }
+  }
+
   private String formatExceptionMessage(String operationId, int statusCode, String body) {
     if (body == null || body.isEmpty()) {
       body = "[no body]";
@@ -124,7 +149,7 @@ public class PetApi {
         return new ApiResponse<Pet>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Pet>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(PET_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -281,7 +306,7 @@ public class PetApi {
         return new ApiResponse<List<Pet>>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<List<Pet>>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_PET_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -371,7 +396,7 @@ public class PetApi {
         return new ApiResponse<List<Pet>>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<List<Pet>>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_PET_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -457,7 +482,7 @@ public class PetApi {
         return new ApiResponse<Pet>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Pet>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(PET_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -533,7 +558,7 @@ public class PetApi {
         return new ApiResponse<Pet>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Pet>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(PET_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -706,7 +731,7 @@ public class PetApi {
         return new ApiResponse<ModelApiResponse>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<ModelApiResponse>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(MODEL_API_RESPONSE_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -28,8 +28,12 @@ import org.openapitools.client.model.OuterComposite;
 import org.openapitools.client.model.OuterEnum;
 import org.openapitools.client.model.User;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
@@ -61,6 +65,14 @@ import java.util.function.Consumer;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen")
 public class FakeApi {
+  private static final JavaType HEALTH_CHECK_RESULT_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<HealthCheckResult>() {});
+  private static final JavaType BOOLEAN_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<Boolean>() {});
+  private static final JavaType OUTER_COMPOSITE_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<OuterComposite>() {});
+  private static final JavaType BIG_DECIMAL_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<BigDecimal>() {});
+  private static final JavaType STRING_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<String>() {});
+  private static final JavaType LIST_OUTER_ENUM_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<OuterEnum>>() {});
+  private static final JavaType CLIENT_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<Client>() {});
+
   private final HttpClient memberVarHttpClient;
   private final ObjectMapper memberVarObjectMapper;
   private final String memberVarBaseUri;
@@ -89,6 +101,23 @@ public class FakeApi {
     return new ApiException(response.statusCode(), message, response.headers(), body);
   }
 
+  /**
+   * Decode a response body while reading it, without buffering it first.
+   *
+   * @param body The response body, closed once read
+   * @param reader The reader of the return type
+   * @return The decoded body, or null if the body is empty
+   * @throws IOException if the body cannot be read or decoded
+   */
+  private <T> T readResponseBody(InputStream body, ObjectReader reader) throws IOException {
+    if (body == null) {
+      return null;
+    }
+    try (JsonParser parser = reader.createParser(body)) {
+      return parser.nextToken() == null ? null : reader.readValue(parser);
+    }
+  }
+
   private String formatExceptionMessage(String operationId, int statusCode, String body) {
     if (body == null || body.isEmpty()) {
       body = "[no body]";
@@ -129,7 +158,7 @@ public class FakeApi {
         return new ApiResponse<HealthCheckResult>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<HealthCheckResult>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(HEALTH_CHECK_RESULT_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -196,7 +225,7 @@ public class FakeApi {
         return new ApiResponse<Boolean>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Boolean>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(BOOLEAN_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -269,7 +298,7 @@ public class FakeApi {
         return new ApiResponse<OuterComposite>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<OuterComposite>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(OUTER_COMPOSITE_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -342,7 +371,7 @@ public class FakeApi {
         return new ApiResponse<BigDecimal>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<BigDecimal>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(BIG_DECIMAL_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -415,7 +444,7 @@ public class FakeApi {
         return new ApiResponse<String>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<String>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(STRING_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -481,7 +510,7 @@ public class FakeApi {
         return new ApiResponse<List<OuterEnum>>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<List<OuterEnum>>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(LIST_OUTER_ENUM_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -729,7 +758,7 @@ public class FakeApi {
         return new ApiResponse<Client>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Client>() {}) // closes the InputStream
+          readResponseBody(localVarResponse.body(), memberVarObjectMapper.readerFor(CLIENT_TYPE)) // closes the InputStream
         );
       } finally {
       }
@@ -93,7 +93,8 @@ public class FruitReq extends AbstractOpenApiSchema {
             JsonToken token = tree.traverse(jp.getCodec()).nextToken();
             // deserialize AppleReq
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "AppleReq");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (AppleReq.class.equals(Integer.class) || AppleReq.class.equals(Long.class) || AppleReq.class.equals(Float.class) || AppleReq.class.equals(Double.class) || AppleReq.class.equals(Boolean.class) || AppleReq.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -119,7 +120,8 @@ public class FruitReq extends AbstractOpenApiSchema {
 
             // deserialize BananaReq
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "BananaReq");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (BananaReq.class.equals(Integer.class) || BananaReq.class.equals(Long.class) || BananaReq.class.equals(Float.class) || BananaReq.class.equals(Double.class) || BananaReq.class.equals(Boolean.class) || BananaReq.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -163,6 +165,26 @@ public class FruitReq extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without attempting to deserialize it.
+     */
+    private static boolean hasRequiredProperties(JsonNode tree, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!tree.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public FruitReq() {
         super("oneOf", Boolean.FALSE);
     }
@@ -178,6 +200,8 @@ public class FruitReq extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("AppleReq", new String[]{ "cultivar" });
+        requiredProperties.put("BananaReq", new String[]{ "lengthCm" });
         schemas.put("AppleReq", AppleReq.class);
         schemas.put("BananaReq", BananaReq.class);
         JSON.registerDescendants(FruitReq.class, Collections.unmodifiableMap(schemas));
@@ -86,26 +86,30 @@ public class GmFruit extends AbstractOpenApiSchema {
             JsonNode tree = jp.readValueAsTree();
 
             Object deserialized = null;
-            // deserialize Apple
-            try {
-                deserialized = tree.traverse(jp.getCodec()).readValueAs(Apple.class);
-                GmFruit ret = new GmFruit();
-                ret.setActualInstance(deserialized);
-                return ret;
-            } catch (Exception e) {
-                // deserialization failed, continue, log to help debugging
-                log.log(Level.FINER, "Input data does not match 'GmFruit'", e);
+            // deserialize Apple, unless the input data lacks one of its required properties
+            if (hasRequiredProperties(tree, "Apple")) {
+                try {
+                    deserialized = tree.traverse(jp.getCodec()).readValueAs(Apple.class);
+                    GmFruit ret = new GmFruit();
+                    ret.setActualInstance(deserialized);
+                    return ret;
+                } catch (Exception e) {
+                    // deserialization failed, continue, log to help debugging
+                    log.log(Level.FINER, "Input data does not match 'GmFruit'", e);
+                }
             }
 
-            // deserialize Banana
-            try {
-                deserialized = tree.traverse(jp.getCodec()).readValueAs(Banana.class);
-                GmFruit ret = new GmFruit();
-                ret.setActualInstance(deserialized);
-                return ret;
-            } catch (Exception e) {
-                // deserialization failed, continue, log to help debugging
-                log.log(Level.FINER, "Input data does not match 'GmFruit'", e);
+            // deserialize Banana, unless the input data lacks one of its required properties
+            if (hasRequiredProperties(tree, "Banana")) {
+                try {
+                    deserialized = tree.traverse(jp.getCodec()).readValueAs(Banana.class);
+                    GmFruit ret = new GmFruit();
+                    ret.setActualInstance(deserialized);
+                    return ret;
+                } catch (Exception e) {
+                    // deserialization failed, continue, log to help debugging
+                    log.log(Level.FINER, "Input data does not match 'GmFruit'", e);
+                }
             }
 
             throw new IOException(String.format("Failed deserialization for GmFruit: no match found"));
@@ -123,6 +127,26 @@ public class GmFruit extends AbstractOpenApiSchema {
     // store a list of schema names defined in anyOf
     public static final Map<String, Class<?>> schemas = new HashMap<String, Class<?>>();
 
+    // the JSON names of the required properties of the anyOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the anyOf schemas,
+     * so that the schemas it cannot match are skipped without attempting to deserialize it.
+     */
+    private static boolean hasRequiredProperties(JsonNode tree, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!tree.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public GmFruit() {
         super("anyOf", Boolean.FALSE);
     }
@@ -90,12 +90,22 @@ public class Pig extends AbstractOpenApiSchema {
         public Pig deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
             JsonNode tree = jp.readValueAsTree();
             Object deserialized = null;
+            // use the discriminator mappings to find the schema, rather than trying all the oneOf schemas
+            Class<?> cls = getClassForElement(tree);
+            if (cls != null && cls != Pig.class) {
+                deserialized = tree.traverse(jp.getCodec()).readValueAs(cls);
+                Pig ret = new Pig();
+                ret.setActualInstance(deserialized);
+                return ret;
+            }
+
             boolean typeCoercion = ctxt.isEnabled(MapperFeature.ALLOW_COERCION_OF_SCALARS);
             int match = 0;
             JsonToken token = tree.traverse(jp.getCodec()).nextToken();
             // deserialize BasquePig
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "BasquePig");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (BasquePig.class.equals(Integer.class) || BasquePig.class.equals(Long.class) || BasquePig.class.equals(Float.class) || BasquePig.class.equals(Double.class) || BasquePig.class.equals(Boolean.class) || BasquePig.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -121,7 +131,8 @@ public class Pig extends AbstractOpenApiSchema {
 
             // deserialize DanishPig
             try {
-                boolean attemptParsing = true;
+                // skip the schema if the input data lacks one of its required properties
+                boolean attemptParsing = hasRequiredProperties(tree, "DanishPig");
                 // ensure that we respect type coercion as set on the client ObjectMapper
                 if (DanishPig.class.equals(Integer.class) || DanishPig.class.equals(Long.class) || DanishPig.class.equals(Float.class) || DanishPig.class.equals(Double.class) || DanishPig.class.equals(Boolean.class) || DanishPig.class.equals(String.class)) {
                     attemptParsing = typeCoercion;
@@ -165,6 +176,34 @@ public class Pig extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without attempting to deserialize it.
+     */
+    private static boolean hasRequiredProperties(JsonNode tree, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!tree.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the class selected by the discriminator of the input data. Calling this static method initializes
+     * Pig, which registers its discriminator mappings, before they are looked up by the deserializer.
+     */
+    private static Class<?> getClassForElement(JsonNode tree) {
+        return JSON.getClassForElement(tree, Pig.class);
+    }
+
     public Pig() {
         super("oneOf", Boolean.FALSE);
     }
@@ -180,6 +219,8 @@ public class Pig extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("BasquePig", new String[]{ "className" });
+        requiredProperties.put("DanishPig", new String[]{ "className" });
         schemas.put("BasquePig", BasquePig.class);
         schemas.put("DanishPig", DanishPig.class);
         JSON.registerDescendants(Pig.class, Collections.unmodifiableMap(schemas));
@@ -107,30 +107,38 @@ public class Fruit extends AbstractOpenApiSchema {
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
 
-                    // deserialize Apple
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Apple.validateJsonObject(jsonObject);
-                        actualAdapter = adapterApple;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'Apple'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for Apple failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'Apple'", e);
+                    // deserialize Apple, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "Apple")) {
+                        errorMessages.add("Deserialization for Apple skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Apple.validateJsonObject(jsonObject);
+                            actualAdapter = adapterApple;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'Apple'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for Apple failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'Apple'", e);
+                        }
                     }
 
-                    // deserialize Banana
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Banana.validateJsonObject(jsonObject);
-                        actualAdapter = adapterBanana;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'Banana'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for Banana failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'Banana'", e);
+                    // deserialize Banana, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "Banana")) {
+                        errorMessages.add("Deserialization for Banana skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Banana.validateJsonObject(jsonObject);
+                            actualAdapter = adapterBanana;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'Banana'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for Banana failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'Banana'", e);
+                        }
                     }
 
                     if (match == 1) {
@@ -148,6 +156,26 @@ public class Fruit extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without validating it.
+     */
+    private static boolean hasRequiredProperties(JsonObject jsonObject, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!jsonObject.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Fruit() {
         super("oneOf", Boolean.FALSE);
     }
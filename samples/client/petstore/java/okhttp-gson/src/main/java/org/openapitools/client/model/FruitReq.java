@@ -107,30 +107,38 @@ public class FruitReq extends AbstractOpenApiSchema {
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
 
-                    // deserialize AppleReq
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        AppleReq.validateJsonObject(jsonObject);
-                        actualAdapter = adapterAppleReq;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'AppleReq'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for AppleReq failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'AppleReq'", e);
+                    // deserialize AppleReq, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "AppleReq")) {
+                        errorMessages.add("Deserialization for AppleReq skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            AppleReq.validateJsonObject(jsonObject);
+                            actualAdapter = adapterAppleReq;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'AppleReq'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for AppleReq failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'AppleReq'", e);
+                        }
                     }
 
-                    // deserialize BananaReq
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        BananaReq.validateJsonObject(jsonObject);
-                        actualAdapter = adapterBananaReq;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'BananaReq'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for BananaReq failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'BananaReq'", e);
+                    // deserialize BananaReq, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "BananaReq")) {
+                        errorMessages.add("Deserialization for BananaReq skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            BananaReq.validateJsonObject(jsonObject);
+                            actualAdapter = adapterBananaReq;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'BananaReq'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for BananaReq failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'BananaReq'", e);
+                        }
                     }
 
                     if (match == 1) {
@@ -148,6 +156,26 @@ public class FruitReq extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without validating it.
+     */
+    private static boolean hasRequiredProperties(JsonObject jsonObject, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!jsonObject.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public FruitReq() {
         super("oneOf", Boolean.TRUE);
     }
@@ -163,6 +191,8 @@ public class FruitReq extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("AppleReq", new String[]{ "cultivar" });
+        requiredProperties.put("BananaReq", new String[]{ "lengthCm" });
         schemas.put("AppleReq", new GenericType<AppleReq>() {
         });
         schemas.put("BananaReq", new GenericType<BananaReq>() {
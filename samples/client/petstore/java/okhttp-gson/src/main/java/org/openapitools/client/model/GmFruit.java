@@ -103,30 +103,34 @@ public class GmFruit extends AbstractOpenApiSchema {
                     Object deserialized = null;
                     JsonObject jsonObject = elementAdapter.read(in).getAsJsonObject();
 
-                    // deserialize Apple
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Apple.validateJsonObject(jsonObject);
-                        log.log(Level.FINER, "Input data matches schema 'Apple'");
-                        GmFruit ret = new GmFruit();
-                        ret.setActualInstance(adapterApple.fromJsonTree(jsonObject));
-                        return ret;
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        log.log(Level.FINER, "Input data does not match schema 'Apple'", e);
+                    // deserialize Apple, unless the input data lacks one of its required properties
+                    if (hasRequiredProperties(jsonObject, "Apple")) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Apple.validateJsonObject(jsonObject);
+                            log.log(Level.FINER, "Input data matches schema 'Apple'");
+                            GmFruit ret = new GmFruit();
+                            ret.setActualInstance(adapterApple.fromJsonTree(jsonObject));
+                            return ret;
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            log.log(Level.FINER, "Input data does not match schema 'Apple'", e);
+                        }
                     }
 
-                    // deserialize Banana
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Banana.validateJsonObject(jsonObject);
-                        log.log(Level.FINER, "Input data matches schema 'Banana'");
-                        GmFruit ret = new GmFruit();
-                        ret.setActualInstance(adapterBanana.fromJsonTree(jsonObject));
-                        return ret;
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        log.log(Level.FINER, "Input data does not match schema 'Banana'", e);
+                    // deserialize Banana, unless the input data lacks one of its required properties
+                    if (hasRequiredProperties(jsonObject, "Banana")) {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Banana.validateJsonObject(jsonObject);
+                            log.log(Level.FINER, "Input data matches schema 'Banana'");
+                            GmFruit ret = new GmFruit();
+                            ret.setActualInstance(adapterBanana.fromJsonTree(jsonObject));
+                            return ret;
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            log.log(Level.FINER, "Input data does not match schema 'Banana'", e);
+                        }
                     }
 
 
@@ -139,6 +143,26 @@ public class GmFruit extends AbstractOpenApiSchema {
     // store a list of schema names defined in anyOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the anyOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the anyOf schemas,
+     * so that the schemas it cannot match are skipped without validating it.
+     */
+    private static boolean hasRequiredProperties(JsonObject jsonObject, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!jsonObject.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public GmFruit() {
         super("anyOf", Boolean.FALSE);
     }
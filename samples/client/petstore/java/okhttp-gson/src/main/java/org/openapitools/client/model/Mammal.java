@@ -73,6 +73,10 @@ public class Mammal extends AbstractOpenApiSchema {
             final TypeAdapter<Pig> adapterPig = gson.getDelegateAdapter(this, TypeToken.get(Pig.class));
             final TypeAdapter<Whale> adapterWhale = gson.getDelegateAdapter(this, TypeToken.get(Whale.class));
             final TypeAdapter<Zebra> adapterZebra = gson.getDelegateAdapter(this, TypeToken.get(Zebra.class));
+            final Map<String, TypeAdapter<?>> discriminatorAdapters = new HashMap<>();
+            discriminatorAdapters.put("Pig", gson.getDelegateAdapter(this, TypeToken.get(Pig.class)));
+            discriminatorAdapters.put("whale", gson.getDelegateAdapter(this, TypeToken.get(Whale.class)));
+            discriminatorAdapters.put("zebra", gson.getDelegateAdapter(this, TypeToken.get(Zebra.class)));
 
             return (TypeAdapter<T>) new TypeAdapter<Mammal>() {
                 @Override
@@ -111,71 +115,69 @@ public class Mammal extends AbstractOpenApiSchema {
                     Object deserialized = null;
                     JsonObject jsonObject = elementAdapter.read(in).getAsJsonObject();
 
-                    // use discriminator value for faster oneOf lookup
-                    Mammal newMammal = new Mammal();
-                    if (jsonObject.get("className") == null) {
-                        log.log(Level.WARNING, "Failed to lookup discriminator value for Mammal as `className` was not found in the payload or the payload is empty.");
-                    } else  {
-                        // look up the discriminator value in the field `className`
-                        switch (jsonObject.get("className").getAsString()) {
-                            case "Pig":
-                                deserialized = adapterPig.fromJsonTree(jsonObject);
-                                newMammal.setActualInstance(deserialized);
-                                return newMammal;
-                            case "whale":
-                                deserialized = adapterWhale.fromJsonTree(jsonObject);
-                                newMammal.setActualInstance(deserialized);
-                                return newMammal;
-                            case "zebra":
-                                deserialized = adapterZebra.fromJsonTree(jsonObject);
-                                newMammal.setActualInstance(deserialized);
-                                return newMammal;
-                            default:
-                                log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for Mammal. Possible values: Pig whale zebra", jsonObject.get("className").getAsString()));
-                        }
+                    // use the discriminator value to find the schema, rather than trying all the oneOf schemas
+                    JsonElement discriminatorValue = jsonObject.get("className");
+                    TypeAdapter<?> discriminatorAdapter = discriminatorValue == null || !discriminatorValue.isJsonPrimitive()
+                            ? null : discriminatorAdapters.get(discriminatorValue.getAsString());
+                    if (discriminatorAdapter != null) {
+                        Mammal ret = new Mammal();
+                        ret.setActualInstance(discriminatorAdapter.fromJsonTree(jsonObject));
+                        return ret;
                     }
 
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
 
-                    // deserialize Pig
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Pig.validateJsonObject(jsonObject);
-                        actualAdapter = adapterPig;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'Pig'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for Pig failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'Pig'", e);
+                    // deserialize Pig, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "Pig")) {
+                        errorMessages.add("Deserialization for Pig skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Pig.validateJsonObject(jsonObject);
+                            actualAdapter = adapterPig;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'Pig'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for Pig failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'Pig'", e);
+                        }
                     }
 
-                    // deserialize Whale
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Whale.validateJsonObject(jsonObject);
-                        actualAdapter = adapterWhale;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'Whale'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for Whale failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'Whale'", e);
+                    // deserialize Whale, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "Whale")) {
+                        errorMessages.add("Deserialization for Whale skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Whale.validateJsonObject(jsonObject);
+                            actualAdapter = adapterWhale;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'Whale'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for Whale failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'Whale'", e);
+                        }
                     }
 
-                    // deserialize Zebra
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Zebra.validateJsonObject(jsonObject);
-                        actualAdapter = adapterZebra;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'Zebra'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for Zebra failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'Zebra'", e);
+                    // deserialize Zebra, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "Zebra")) {
+                        errorMessages.add("Deserialization for Zebra skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Zebra.validateJsonObject(jsonObject);
+                            actualAdapter = adapterZebra;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'Zebra'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for Zebra failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'Zebra'", e);
+                        }
                     }
 
                     if (match == 1) {
@@ -193,6 +195,26 @@ public class Mammal extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without validating it.
+     */
+    private static boolean hasRequiredProperties(JsonObject jsonObject, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!jsonObject.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Mammal() {
         super("oneOf", Boolean.FALSE);
     }
@@ -213,6 +235,9 @@ public class Mammal extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("Pig", new String[]{ "className" });
+        requiredProperties.put("Whale", new String[]{ "className" });
+        requiredProperties.put("Zebra", new String[]{ "className" });
         schemas.put("Pig", new GenericType<Pig>() {
         });
         schemas.put("Whale", new GenericType<Whale>() {
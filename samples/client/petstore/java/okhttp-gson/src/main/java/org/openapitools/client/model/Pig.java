@@ -71,6 +71,9 @@ public class Pig extends AbstractOpenApiSchema {
             final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
             final TypeAdapter<BasquePig> adapterBasquePig = gson.getDelegateAdapter(this, TypeToken.get(BasquePig.class));
             final TypeAdapter<DanishPig> adapterDanishPig = gson.getDelegateAdapter(this, TypeToken.get(DanishPig.class));
+            final Map<String, TypeAdapter<?>> discriminatorAdapters = new HashMap<>();
+            discriminatorAdapters.put("BasquePig", gson.getDelegateAdapter(this, TypeToken.get(BasquePig.class)));
+            discriminatorAdapters.put("DanishPig", gson.getDelegateAdapter(this, TypeToken.get(DanishPig.class)));
 
             return (TypeAdapter<T>) new TypeAdapter<Pig>() {
                 @Override
@@ -102,54 +105,52 @@ public class Pig extends AbstractOpenApiSchema {
                     Object deserialized = null;
                     JsonObject jsonObject = elementAdapter.read(in).getAsJsonObject();
 
-                    // use discriminator value for faster oneOf lookup
-                    Pig newPig = new Pig();
-                    if (jsonObject.get("className") == null) {
-                        log.log(Level.WARNING, "Failed to lookup discriminator value for Pig as `className` was not found in the payload or the payload is empty.");
-                    } else  {
-                        // look up the discriminator value in the field `className`
-                        switch (jsonObject.get("className").getAsString()) {
-                            case "BasquePig":
-                                deserialized = adapterBasquePig.fromJsonTree(jsonObject);
-                                newPig.setActualInstance(deserialized);
-                                return newPig;
-                            case "DanishPig":
-                                deserialized = adapterDanishPig.fromJsonTree(jsonObject);
-                                newPig.setActualInstance(deserialized);
-                                return newPig;
-                            default:
-                                log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for Pig. Possible values: BasquePig DanishPig", jsonObject.get("className").getAsString()));
-                        }
+                    // use the discriminator value to find the schema, rather than trying all the oneOf schemas
+                    JsonElement discriminatorValue = jsonObject.get("className");
+                    TypeAdapter<?> discriminatorAdapter = discriminatorValue == null || !discriminatorValue.isJsonPrimitive()
+                            ? null : discriminatorAdapters.get(discriminatorValue.getAsString());
+                    if (discriminatorAdapter != null) {
+                        Pig ret = new Pig();
+                        ret.setActualInstance(discriminatorAdapter.fromJsonTree(jsonObject));
+                        return ret;
                     }
 
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
 
-                    // deserialize BasquePig
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        BasquePig.validateJsonObject(jsonObject);
-                        actualAdapter = adapterBasquePig;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'BasquePig'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for BasquePig failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'BasquePig'", e);
+                    // deserialize BasquePig, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "BasquePig")) {
+                        errorMessages.add("Deserialization for BasquePig skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            BasquePig.validateJsonObject(jsonObject);
+                            actualAdapter = adapterBasquePig;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'BasquePig'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for BasquePig failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'BasquePig'", e);
+                        }
                     }
 
-                    // deserialize DanishPig
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        DanishPig.validateJsonObject(jsonObject);
-                        actualAdapter = adapterDanishPig;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'DanishPig'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for DanishPig failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'DanishPig'", e);
+                    // deserialize DanishPig, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "DanishPig")) {
+                        errorMessages.add("Deserialization for DanishPig skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            DanishPig.validateJsonObject(jsonObject);
+                            actualAdapter = adapterDanishPig;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'DanishPig'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for DanishPig failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'DanishPig'", e);
+                        }
                     }
 
                     if (match == 1) {
@@ -167,6 +168,26 @@ public class Pig extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without validating it.
+     */
+    private static boolean hasRequiredProperties(JsonObject jsonObject, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!jsonObject.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Pig() {
         super("oneOf", Boolean.FALSE);
     }
@@ -182,6 +203,8 @@ public class Pig extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("BasquePig", new String[]{ "className" });
+        requiredProperties.put("DanishPig", new String[]{ "className" });
         schemas.put("BasquePig", new GenericType<BasquePig>() {
         });
         schemas.put("DanishPig", new GenericType<DanishPig>() {
@@ -71,6 +71,9 @@ public class Quadrilateral extends AbstractOpenApiSchema {
             final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
             final TypeAdapter<ComplexQuadrilateral> adapterComplexQuadrilateral = gson.getDelegateAdapter(this, TypeToken.get(ComplexQuadrilateral.class));
             final TypeAdapter<SimpleQuadrilateral> adapterSimpleQuadrilateral = gson.getDelegateAdapter(this, TypeToken.get(SimpleQuadrilateral.class));
+            final Map<String, TypeAdapter<?>> discriminatorAdapters = new HashMap<>();
+            discriminatorAdapters.put("ComplexQuadrilateral", gson.getDelegateAdapter(this, TypeToken.get(ComplexQuadrilateral.class)));
+            discriminatorAdapters.put("SimpleQuadrilateral", gson.getDelegateAdapter(this, TypeToken.get(SimpleQuadrilateral.class)));
 
             return (TypeAdapter<T>) new TypeAdapter<Quadrilateral>() {
                 @Override
@@ -102,54 +105,52 @@ public class Quadrilateral extends AbstractOpenApiSchema {
                     Object deserialized = null;
                     JsonObject jsonObject = elementAdapter.read(in).getAsJsonObject();
 
-                    // use discriminator value for faster oneOf lookup
-                    Quadrilateral newQuadrilateral = new Quadrilateral();
-                    if (jsonObject.get("quadrilateralType") == null) {
-                        log.log(Level.WARNING, "Failed to lookup discriminator value for Quadrilateral as `quadrilateralType` was not found in the payload or the payload is empty.");
-                    } else  {
-                        // look up the discriminator value in the field `quadrilateralType`
-                        switch (jsonObject.get("quadrilateralType").getAsString()) {
-                            case "ComplexQuadrilateral":
-                                deserialized = adapterComplexQuadrilateral.fromJsonTree(jsonObject);
-                                newQuadrilateral.setActualInstance(deserialized);
-                                return newQuadrilateral;
-                            case "SimpleQuadrilateral":
-                                deserialized = adapterSimpleQuadrilateral.fromJsonTree(jsonObject);
-                                newQuadrilateral.setActualInstance(deserialized);
-                                return newQuadrilateral;
-                            default:
-                                log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for Quadrilateral. Possible values: ComplexQuadrilateral SimpleQuadrilateral", jsonObject.get("quadrilateralType").getAsString()));
-                        }
+                    // use the discriminator value to find the schema, rather than trying all the oneOf schemas
+                    JsonElement discriminatorValue = jsonObject.get("quadrilateralType");
+                    TypeAdapter<?> discriminatorAdapter = discriminatorValue == null || !discriminatorValue.isJsonPrimitive()
+                            ? null : discriminatorAdapters.get(discriminatorValue.getAsString());
+                    if (discriminatorAdapter != null) {
+                        Quadrilateral ret = new Quadrilateral();
+                        ret.setActualInstance(discriminatorAdapter.fromJsonTree(jsonObject));
+                        return ret;
                     }
 
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
 
-                    // deserialize ComplexQuadrilateral
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        ComplexQuadrilateral.validateJsonObject(jsonObject);
-                        actualAdapter = adapterComplexQuadrilateral;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'ComplexQuadrilateral'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for ComplexQuadrilateral failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'ComplexQuadrilateral'", e);
+                    // deserialize ComplexQuadrilateral, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "ComplexQuadrilateral")) {
+                        errorMessages.add("Deserialization for ComplexQuadrilateral skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            ComplexQuadrilateral.validateJsonObject(jsonObject);
+                            actualAdapter = adapterComplexQuadrilateral;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'ComplexQuadrilateral'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for ComplexQuadrilateral failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'ComplexQuadrilateral'", e);
+                        }
                     }
 
-                    // deserialize SimpleQuadrilateral
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        SimpleQuadrilateral.validateJsonObject(jsonObject);
-                        actualAdapter = adapterSimpleQuadrilateral;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'SimpleQuadrilateral'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for SimpleQuadrilateral failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'SimpleQuadrilateral'", e);
+                    // deserialize SimpleQuadrilateral, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "SimpleQuadrilateral")) {
+                        errorMessages.add("Deserialization for SimpleQuadrilateral skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            SimpleQuadrilateral.validateJsonObject(jsonObject);
+                            actualAdapter = adapterSimpleQuadrilateral;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'SimpleQuadrilateral'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for SimpleQuadrilateral failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'SimpleQuadrilateral'", e);
+                        }
                     }
 
                     if (match == 1) {
@@ -167,6 +168,26 @@ public class Quadrilateral extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without validating it.
+     */
+    private static boolean hasRequiredProperties(JsonObject jsonObject, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!jsonObject.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Quadrilateral() {
         super("oneOf", Boolean.FALSE);
     }
@@ -182,6 +203,8 @@ public class Quadrilateral extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("ComplexQuadrilateral", new String[]{ "shapeType", "quadrilateralType" });
+        requiredProperties.put("SimpleQuadrilateral", new String[]{ "shapeType", "quadrilateralType" });
         schemas.put("ComplexQuadrilateral", new GenericType<ComplexQuadrilateral>() {
         });
         schemas.put("SimpleQuadrilateral", new GenericType<SimpleQuadrilateral>() {
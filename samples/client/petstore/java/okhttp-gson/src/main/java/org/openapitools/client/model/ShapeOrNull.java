@@ -71,6 +71,9 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
             final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
             final TypeAdapter<Quadrilateral> adapterQuadrilateral = gson.getDelegateAdapter(this, TypeToken.get(Quadrilateral.class));
             final TypeAdapter<Triangle> adapterTriangle = gson.getDelegateAdapter(this, TypeToken.get(Triangle.class));
+            final Map<String, TypeAdapter<?>> discriminatorAdapters = new HashMap<>();
+            discriminatorAdapters.put("Quadrilateral", gson.getDelegateAdapter(this, TypeToken.get(Quadrilateral.class)));
+            discriminatorAdapters.put("Triangle", gson.getDelegateAdapter(this, TypeToken.get(Triangle.class)));
 
             return (TypeAdapter<T>) new TypeAdapter<ShapeOrNull>() {
                 @Override
@@ -102,54 +105,52 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
                     Object deserialized = null;
                     JsonObject jsonObject = elementAdapter.read(in).getAsJsonObject();
 
-                    // use discriminator value for faster oneOf lookup
-                    ShapeOrNull newShapeOrNull = new ShapeOrNull();
-                    if (jsonObject.get("shapeType") == null) {
-                        log.log(Level.WARNING, "Failed to lookup discriminator value for ShapeOrNull as `shapeType` was not found in the payload or the payload is empty.");
-                    } else  {
-                        // look up the discriminator value in the field `shapeType`
-                        switch (jsonObject.get("shapeType").getAsString()) {
-                            case "Quadrilateral":
-                                deserialized = adapterQuadrilateral.fromJsonTree(jsonObject);
-                                newShapeOrNull.setActualInstance(deserialized);
-                                return newShapeOrNull;
-                            case "Triangle":
-                                deserialized = adapterTriangle.fromJsonTree(jsonObject);
-                                newShapeOrNull.setActualInstance(deserialized);
-                                return newShapeOrNull;
-                            default:
-                                log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for ShapeOrNull. Possible values: Quadrilateral Triangle", jsonObject.get("shapeType").getAsString()));
-                        }
+                    // use the discriminator value to find the schema, rather than trying all the oneOf schemas
+                    JsonElement discriminatorValue = jsonObject.get("shapeType");
+                    TypeAdapter<?> discriminatorAdapter = discriminatorValue == null || !discriminatorValue.isJsonPrimitive()
+                            ? null : discriminatorAdapters.get(discriminatorValue.getAsString());
+                    if (discriminatorAdapter != null) {
+                        ShapeOrNull ret = new ShapeOrNull();
+                        ret.setActualInstance(discriminatorAdapter.fromJsonTree(jsonObject));
+                        return ret;
                     }
 
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
 
-                    // deserialize Quadrilateral
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Quadrilateral.validateJsonObject(jsonObject);
-                        actualAdapter = adapterQuadrilateral;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'Quadrilateral'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for Quadrilateral failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'Quadrilateral'", e);
+                    // deserialize Quadrilateral, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "Quadrilateral")) {
+                        errorMessages.add("Deserialization for Quadrilateral skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Quadrilateral.validateJsonObject(jsonObject);
+                            actualAdapter = adapterQuadrilateral;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'Quadrilateral'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for Quadrilateral failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'Quadrilateral'", e);
+                        }
                     }
 
-                    // deserialize Triangle
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        Triangle.validateJsonObject(jsonObject);
-                        actualAdapter = adapterTriangle;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'Triangle'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for Triangle failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'Triangle'", e);
+                    // deserialize Triangle, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "Triangle")) {
+                        errorMessages.add("Deserialization for Triangle skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            Triangle.validateJsonObject(jsonObject);
+                            actualAdapter = adapterTriangle;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'Triangle'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for Triangle failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'Triangle'", e);
+                        }
                     }
 
                     if (match == 1) {
@@ -167,6 +168,26 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without validating it.
+     */
+    private static boolean hasRequiredProperties(JsonObject jsonObject, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!jsonObject.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public ShapeOrNull() {
         super("oneOf", Boolean.TRUE);
     }
@@ -182,6 +203,8 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("Quadrilateral", new String[]{ "shapeType", "quadrilateralType" });
+        requiredProperties.put("Triangle", new String[]{ "shapeType", "triangleType" });
         schemas.put("Quadrilateral", new GenericType<Quadrilateral>() {
         });
         schemas.put("Triangle", new GenericType<Triangle>() {
@@ -73,6 +73,10 @@ public class Triangle extends AbstractOpenApiSchema {
             final TypeAdapter<EquilateralTriangle> adapterEquilateralTriangle = gson.getDelegateAdapter(this, TypeToken.get(EquilateralTriangle.class));
             final TypeAdapter<IsoscelesTriangle> adapterIsoscelesTriangle = gson.getDelegateAdapter(this, TypeToken.get(IsoscelesTriangle.class));
             final TypeAdapter<ScaleneTriangle> adapterScaleneTriangle = gson.getDelegateAdapter(this, TypeToken.get(ScaleneTriangle.class));
+            final Map<String, TypeAdapter<?>> discriminatorAdapters = new HashMap<>();
+            discriminatorAdapters.put("EquilateralTriangle", gson.getDelegateAdapter(this, TypeToken.get(EquilateralTriangle.class)));
+            discriminatorAdapters.put("IsoscelesTriangle", gson.getDelegateAdapter(this, TypeToken.get(IsoscelesTriangle.class)));
+            discriminatorAdapters.put("ScaleneTriangle", gson.getDelegateAdapter(this, TypeToken.get(ScaleneTriangle.class)));
 
             return (TypeAdapter<T>) new TypeAdapter<Triangle>() {
                 @Override
@@ -111,71 +115,69 @@ public class Triangle extends AbstractOpenApiSchema {
                     Object deserialized = null;
                     JsonObject jsonObject = elementAdapter.read(in).getAsJsonObject();
 
-                    // use discriminator value for faster oneOf lookup
-                    Triangle newTriangle = new Triangle();
-                    if (jsonObject.get("triangleType") == null) {
-                        log.log(Level.WARNING, "Failed to lookup discriminator value for Triangle as `triangleType` was not found in the payload or the payload is empty.");
-                    } else  {
-                        // look up the discriminator value in the field `triangleType`
-                        switch (jsonObject.get("triangleType").getAsString()) {
-                            case "EquilateralTriangle":
-                                deserialized = adapterEquilateralTriangle.fromJsonTree(jsonObject);
-                                newTriangle.setActualInstance(deserialized);
-                                return newTriangle;
-                            case "IsoscelesTriangle":
-                                deserialized = adapterIsoscelesTriangle.fromJsonTree(jsonObject);
-                                newTriangle.setActualInstance(deserialized);
-                                return newTriangle;
-                            case "ScaleneTriangle":
-                                deserialized = adapterScaleneTriangle.fromJsonTree(jsonObject);
-                                newTriangle.setActualInstance(deserialized);
-                                return newTriangle;
-                            default:
-                                log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for Triangle. Possible values: EquilateralTriangle IsoscelesTriangle ScaleneTriangle", jsonObject.get("triangleType").getAsString()));
-                        }
+                    // use the discriminator value to find the schema, rather than trying all the oneOf schemas
+                    JsonElement discriminatorValue = jsonObject.get("triangleType");
+                    TypeAdapter<?> discriminatorAdapter = discriminatorValue == null || !discriminatorValue.isJsonPrimitive()
+                            ? null : discriminatorAdapters.get(discriminatorValue.getAsString());
+                    if (discriminatorAdapter != null) {
+                        Triangle ret = new Triangle();
+                        ret.setActualInstance(discriminatorAdapter.fromJsonTree(jsonObject));
+                        return ret;
                     }
 
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
 
-                    // deserialize EquilateralTriangle
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        EquilateralTriangle.validateJsonObject(jsonObject);
-                        actualAdapter = adapterEquilateralTriangle;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'EquilateralTriangle'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for EquilateralTriangle failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'EquilateralTriangle'", e);
+                    // deserialize EquilateralTriangle, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "EquilateralTriangle")) {
+                        errorMessages.add("Deserialization for EquilateralTriangle skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            EquilateralTriangle.validateJsonObject(jsonObject);
+                            actualAdapter = adapterEquilateralTriangle;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'EquilateralTriangle'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for EquilateralTriangle failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'EquilateralTriangle'", e);
+                        }
                     }
 
-                    // deserialize IsoscelesTriangle
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        IsoscelesTriangle.validateJsonObject(jsonObject);
-                        actualAdapter = adapterIsoscelesTriangle;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'IsoscelesTriangle'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for IsoscelesTriangle failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'IsoscelesTriangle'", e);
+                    // deserialize IsoscelesTriangle, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "IsoscelesTriangle")) {
+                        errorMessages.add("Deserialization for IsoscelesTriangle skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            IsoscelesTriangle.validateJsonObject(jsonObject);
+                            actualAdapter = adapterIsoscelesTriangle;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'IsoscelesTriangle'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for IsoscelesTriangle failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'IsoscelesTriangle'", e);
+                        }
                     }
 
-                    // deserialize ScaleneTriangle
-                    try {
-                        // validate the JSON object to see if any exception is thrown
-                        ScaleneTriangle.validateJsonObject(jsonObject);
-                        actualAdapter = adapterScaleneTriangle;
-                        match++;
-                        log.log(Level.FINER, "Input data matches schema 'ScaleneTriangle'");
-                    } catch (Exception e) {
-                        // deserialization failed, continue
-                        errorMessages.add(String.format("Deserialization for ScaleneTriangle failed with `%s`.", e.getMessage()));
-                        log.log(Level.FINER, "Input data does not match schema 'ScaleneTriangle'", e);
+                    // deserialize ScaleneTriangle, unless the input data lacks one of its required properties
+                    if (!hasRequiredProperties(jsonObject, "ScaleneTriangle")) {
+                        errorMessages.add("Deserialization for ScaleneTriangle skipped as required properties are missing.");
+                    } else {
+                        try {
+                            // validate the JSON object to see if any exception is thrown
+                            ScaleneTriangle.validateJsonObject(jsonObject);
+                            actualAdapter = adapterScaleneTriangle;
+                            match++;
+                            log.log(Level.FINER, "Input data matches schema 'ScaleneTriangle'");
+                        } catch (Exception e) {
+                            // deserialization failed, continue
+                            errorMessages.add(String.format("Deserialization for ScaleneTriangle failed with `%s`.", e.getMessage()));
+                            log.log(Level.FINER, "Input data does not match schema 'ScaleneTriangle'", e);
+                        }
                     }
 
                     if (match == 1) {
@@ -193,6 +195,26 @@ public class Triangle extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, GenericType> schemas = new HashMap<String, GenericType>();
 
+    // the JSON names of the required properties of the oneOf schemas, by schema name
+    private static final Map<String, String[]> requiredProperties = new HashMap<>();
+
+    /**
+     * Check that the input data has all the required properties of one of the oneOf schemas,
+     * so that the schemas it cannot match are skipped without validating it.
+     */
+    private static boolean hasRequiredProperties(JsonObject jsonObject, String schemaName) {
+        String[] properties = requiredProperties.get(schemaName);
+        if (properties == null) {
+            return true;
+        }
+        for (String property : properties) {
+            if (!jsonObject.has(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Triangle() {
         super("oneOf", Boolean.FALSE);
     }
@@ -213,6 +235,9 @@ public class Triangle extends AbstractOpenApiSchema {
     }
 
     static {
+        requiredProperties.put("EquilateralTriangle", new String[]{ "shapeType", "triangleType" });
+        requiredProperties.put("IsoscelesTriangle", new String[]{ "shapeType", "triangleType" });
+        requiredProperties.put("ScaleneTriangle", new String[]{ "shapeType", "triangleType" });
         schemas.put("EquilateralTriangle", new GenericType<EquilateralTriangle>() {
         });
         schemas.put("IsoscelesTriangle", new GenericType<IsoscelesTriangle>() {
@@ -26,7 +26,7 @@ let requiredBooleanGroup = "TODO_EDIT_THE_REQUIRED_BOOLEAN_GROUP";
 let enumHeaderStringArray = "TODO_EDIT_THE_ENUM_HEADER_STRING_ARRAY";
 let enumHeaderString = "TODO_EDIT_THE_ENUM_HEADER_STRING";
 
-export default function() {
+export function fake() {
     group("/fake", () => {
         let enumQueryInteger = 'TODO_EDIT_THE_ENUM_QUERY_INTEGER'; // specify value as there is no example value for this parameter in OpenAPI spec
         let enumQueryString = 'TODO_EDIT_THE_ENUM_QUERY_STRING'; // specify value as there is no example value for this parameter in OpenAPI spec
@@ -59,7 +59,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeOuterBoolean() {
     group("/fake/outer/boolean", () => {
 
         // Request No. 1
@@ -73,7 +75,9 @@ export default function() {
             });
         }
     });
+}
 
+export function anotherFakeDummy() {
     group("/another-fake/dummy", () => {
 
         // Request No. 1
@@ -89,7 +93,9 @@ export default function() {
             });
         }
     });
+}
 
+export function pet() {
     group("/pet", () => {
 
         // Request No. 1
@@ -120,7 +126,9 @@ export default function() {
             });
         }
     });
+}
 
+export function userUsername() {
     group("/user/{username}", () => {
         let username = 'TODO_EDIT_THE_USERNAME'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -143,7 +151,9 @@ export default function() {
 
         }
     });
+}
 
+export function fakeBodyWithBinary() {
     group("/fake/body-with-binary", () => {
 
         // Request No. 1
@@ -157,7 +167,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeClassnameTest() {
     group("/fake_classname_test", () => {
 
         // Request No. 1
@@ -173,7 +185,9 @@ export default function() {
             });
         }
     });
+}
 
+export function userCreateWithList() {
     group("/user/createWithList", () => {
 
         // Request No. 1
@@ -187,7 +201,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeInlineAdditionalProperties() {
     group("/fake/inline-additionalProperties", () => {
 
         // Request No. 1
@@ -201,7 +217,9 @@ export default function() {
             });
         }
     });
+}
 
+export function storeInventory() {
     group("/store/inventory", () => {
 
         // Request No. 1
@@ -214,7 +232,9 @@ export default function() {
             });
         }
     });
+}
 
+export function userLogin() {
     group("/user/login", () => {
         let password = 'TODO_EDIT_THE_PASSWORD'; // specify value as there is no example value for this parameter in OpenAPI spec
         let username = 'TODO_EDIT_THE_USERNAME'; // specify value as there is no example value for this parameter in OpenAPI spec
@@ -229,7 +249,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeOuterComposite() {
     group("/fake/outer/composite", () => {
 
         // Request No. 1
@@ -245,7 +267,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeJsonFormData() {
     group("/fake/jsonFormData", () => {
 
         // Request No. 1
@@ -261,7 +285,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakePetIdUploadImageWithRequiredFile() {
     group("/fake/{petId}/uploadImageWithRequiredFile", () => {
         let petId = 'TODO_EDIT_THE_PETID'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -278,7 +304,9 @@ export default function() {
             });
         }
     });
+}
 
+export function petPetId() {
     group("/pet/{petId}", () => {
         let petId = 'TODO_EDIT_THE_PETID'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -306,7 +334,9 @@ export default function() {
             });
         }
     });
+}
 
+export function foo() {
     group("/foo", () => {
 
         // Request No. 1
@@ -319,7 +349,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeOuterString() {
     group("/fake/outer/string", () => {
 
         // Request No. 1
@@ -333,7 +365,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeTestQueryParameters() {
     group("/fake/test-query-parameters", () => {
         let allowEmpty = 'TODO_EDIT_THE_ALLOWEMPTY'; // specify value as there is no example value for this parameter in OpenAPI spec
         let ioutil = 'TODO_EDIT_THE_IOUTIL'; // specify value as there is no example value for this parameter in OpenAPI spec
@@ -353,7 +387,9 @@ export default function() {
             });
         }
     });
+}
 
+export function storeOrderOrderId() {
     group("/store/order/{order_id}", () => {
         let orderId = 'TODO_EDIT_THE_ORDER_ID'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -376,7 +412,9 @@ export default function() {
 
         }
     });
+}
 
+export function petFindByStatus() {
     group("/pet/findByStatus", () => {
         let status = 'TODO_EDIT_THE_STATUS'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -390,7 +428,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeBodyWithQueryParams() {
     group("/fake/body-with-query-params", () => {
         let query = 'TODO_EDIT_THE_QUERY'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -407,7 +447,9 @@ export default function() {
             });
         }
     });
+}
 
+export function petPetIdUploadImage() {
     group("/pet/{petId}/uploadImage", () => {
         let petId = 'TODO_EDIT_THE_PETID'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -424,7 +466,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeHttpSignatureTest() {
     group("/fake/http-signature-test", () => {
         let query1 = 'TODO_EDIT_THE_QUERY_1'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -441,7 +485,9 @@ export default function() {
             });
         }
     });
+}
 
+export function user() {
     group("/user", () => {
 
         // Request No. 1
@@ -457,7 +503,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakePropertyEnumInt() {
     group("/fake/property/enum-int", () => {
 
         // Request No. 1
@@ -473,7 +521,9 @@ export default function() {
             });
         }
     });
+}
 
+export function userCreateWithArray() {
     group("/user/createWithArray", () => {
 
         // Request No. 1
@@ -487,7 +537,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeBodyWithFileSchema() {
     group("/fake/body-with-file-schema", () => {
 
         // Request No. 1
@@ -503,7 +555,9 @@ export default function() {
             });
         }
     });
+}
 
+export function petFindByTags() {
     group("/pet/findByTags", () => {
         let tags = 'TODO_EDIT_THE_TAGS'; // specify value as there is no example value for this parameter in OpenAPI spec
 
@@ -517,7 +571,9 @@ export default function() {
             });
         }
     });
+}
 
+export function storeOrder() {
     group("/store/order", () => {
 
         // Request No. 1
@@ -533,7 +589,9 @@ export default function() {
             });
         }
     });
+}
 
+export function userLogout() {
     group("/user/logout", () => {
 
         // Request No. 1
@@ -546,7 +604,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeHealth() {
     group("/fake/health", () => {
 
         // Request No. 1
@@ -559,7 +619,9 @@ export default function() {
             });
         }
     });
+}
 
+export function fakeOuterNumber() {
     group("/fake/outer/number", () => {
 
         // Request No. 1
@@ -573,5 +635,39 @@ export default function() {
             });
         }
     });
+}
 
+export default function() {
+    fake();
+    fakeOuterBoolean();
+    anotherFakeDummy();
+    pet();
+    userUsername();
+    fakeBodyWithBinary();
+    fakeClassnameTest();
+    userCreateWithList();
+    fakeInlineAdditionalProperties();
+    storeInventory();
+    userLogin();
+    fakeOuterComposite();
+    fakeJsonFormData();
+    fakePetIdUploadImageWithRequiredFile();
+    petPetId();
+    foo();
+    fakeOuterString();
+    fakeTestQueryParameters();
+    storeOrderOrderId();
+    petFindByStatus();
+    fakeBodyWithQueryParams();
+    petPetIdUploadImage();
+    fakeHttpSignatureTest();
+    user();
+    fakePropertyEnumInt();
+    userCreateWithArray();
+    fakeBodyWithFileSchema();
+    petFindByTags();
+    storeOrder();
+    userLogout();
+    fakeHealth();
+    fakeOuterNumber();
 }
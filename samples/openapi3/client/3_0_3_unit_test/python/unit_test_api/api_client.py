@@ -1053,7 +1053,31 @@ class ApiClient:
         timeout: typing.Optional[typing.Union[int, typing.Tuple]] = None,
         host: typing.Optional[str] = None,
     ) -> urllib3.HTTPResponse:
+        url, used_headers = self.__prepare_request(
+            resource_path, method, headers, body, auth_settings, host)
 
+        # perform request and return response
+        response = self.request(
+            method,
+            url,
+            headers=used_headers,
+            fields=fields,
+            body=body,
+            stream=stream,
+            timeout=timeout,
+        )
+        return response
+
+    def __prepare_request(
+        self,
+        resource_path: str,
+        method: str,
+        headers: typing.Optional[HTTPHeaderDict],
+        body: typing.Optional[typing.Union[str, bytes]],
+        auth_settings: typing.Optional[typing.List[str]],
+        host: typing.Optional[str],
+    ) -> typing.Tuple[str, HTTPHeaderDict]:
+        """Returns the url and headers of a request"""
         # header parameters
         used_headers = HTTPHeaderDict(self.default_headers)
         if self.cookie:
@@ -1073,18 +1097,7 @@ class ApiClient:
         else:
             # use server/host defined in path or operation instead
             url = host + resource_path
-
-        # perform request and return response
-        response = self.request(
-            method,
-            url,
-            headers=used_headers,
-            fields=fields,
-            body=body,
-            stream=stream,
-            timeout=timeout,
-        )
-        return response
+        return url, used_headers
 
     def call_api(
         self,
@@ -265,6 +265,16 @@ conf = petstore_api.Configuration(
            requests to the same host, which is often the case here.
            cpu_count * 5 is used as default value to increase performance.
         """
+        self.connection_pool_num_pools = 4
+        """Number of urllib3 connection pools, one per host, kept open at once.
+           Raise it when the client talks to more hosts, e.g. with servers
+           defined per operation.
+        """
+        self.connection_pool_maxsize_per_host = {}
+        """Maximum number of connections per host, overriding
+           connection_pool_maxsize for the hosts of this dict,
+           e.g. {'petstore.swagger.io': 50}
+        """
 
         self.proxy = None
         """Proxy URL
@@ -24,9 +24,35 @@ from petstore_api.exceptions import ApiException, ApiValueError
 logger = logging.getLogger(__name__)
 
 
+class _PerHostPoolSize:
+    """Overrides the size of the connection pools of some hosts
+
+    urllib3 keys its pools on their parameters, so the size has to be set
+    whenever the pool of a host is looked up.
+    """
+
+    def __init__(self, maxsize_per_host: typing.Dict[str, int], **kwargs):
+        self.maxsize_per_host = {host.lower(): maxsize for host, maxsize in maxsize_per_host.items()}
+        super().__init__(**kwargs)
+
+    def connection_from_host(self, host, port=None, scheme="http", pool_kwargs=None):
+        maxsize = self.maxsize_per_host.get(host.lower()) if host else None
+        if maxsize is not None:
+            pool_kwargs = dict(pool_kwargs or {}, maxsize=maxsize)
+        return super().connection_from_host(host, port=port, scheme=scheme, pool_kwargs=pool_kwargs)
+
+
+class PoolManager(_PerHostPoolSize, urllib3.PoolManager):
+    pass
+
+
+class ProxyManager(_PerHostPoolSize, urllib3.ProxyManager):
+    pass
+
+
 class RESTClientObject(object):
 
-    def __init__(self, configuration, pools_size=4, maxsize=None):
+    def __init__(self, configuration, pools_size=None, maxsize=None):
         # urllib3.PoolManager will pass all kw parameters to connectionpool
         # https://github.com/shazow/urllib3/blob/f9409436f83aeb79fbaf090181cd81b784f1b8ce/urllib3/poolmanager.py#L75  # noqa: E501
         # https://github.com/shazow/urllib3/blob/f9409436f83aeb79fbaf090181cd81b784f1b8ce/urllib3/connectionpool.py#L680  # noqa: E501
@@ -62,9 +88,19 @@ class RESTClientObject(object):
             else:
                 maxsize = 4
 
+        # num_pools is the number of hosts whose pool is kept open
+        maxsize_per_host = configuration.connection_pool_maxsize_per_host or {}
+        if pools_size is None:
+            if configuration.connection_pool_num_pools is not None:
+                pools_size = configuration.connection_pool_num_pools
+            else:
+                pools_size = 4
+        pools_size = max(pools_size, len(maxsize_per_host))
+
         # https pool manager
         if configuration.proxy:
-            self.pool_manager = urllib3.ProxyManager(
+            self.pool_manager = ProxyManager(
+                maxsize_per_host,
                 num_pools=pools_size,
                 maxsize=maxsize,
                 cert_reqs=cert_reqs,
@@ -76,7 +112,8 @@ class RESTClientObject(object):
                 **addition_pool_args
             )
         else:
-            self.pool_manager = urllib3.PoolManager(
+            self.pool_manager = PoolManager(
+                maxsize_per_host,
                 num_pools=pools_size,
                 maxsize=maxsize,
                 cert_reqs=cert_reqs,